@@ -0,0 +1,99 @@
+package com.example.super_ludo.viewmodels;
+
+import android.app.Application;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.super_ludo.ai.MoveHighlights;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.journal.JournalReplayer;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(AndroidJUnit4.class)
+public class GameViewModelTest {
+
+    private static final int ROLLS = 200;
+
+    private Application application;
+    private GameViewModel gameViewModel;
+
+    @Before
+    public void createViewModel() {
+        application = (Application) InstrumentationRegistry.getInstrumentation()
+                .getTargetContext().getApplicationContext();
+        runOnMainSync(() -> gameViewModel = new GameViewModel(application));
+    }
+
+    @Test
+    public void eachRollIsJournaledOnce() throws Exception {
+        int[] records = new int[1];
+        runOnMainSync(() -> {
+            gameViewModel.initializeGame(2);
+            records[0]++;
+            for (int i = 0; i < ROLLS && !gameViewModel.getCurrentGameState().isGameOver(); i++) {
+                // The event dialog hands the roll back on every dismissal
+                GameEvent event = gameViewModel.rollCrystalBall();
+                gameViewModel.processRoll(event);
+                gameViewModel.processRoll(event);
+                records[0]++;
+
+                MoveHighlights highlights = gameViewModel.getMoveHighlights().getValue();
+                if (highlights != null) {
+                    gameViewModel.selectSpaceship(highlights.getShip(0));
+                    records[0]++;
+                }
+            }
+        });
+        gameViewModel.awaitStorage();
+
+        assertEquals(records[0], replayJournal());
+    }
+
+    @Test
+    public void rollDrawnBeforeUndoIsDropped() throws Exception {
+        int[] records = new int[1];
+        runOnMainSync(() -> {
+            gameViewModel.initializeGame(2);
+            gameViewModel.processRoll(gameViewModel.rollCrystalBall());
+            records[0] = 2;
+
+            GameEvent event = gameViewModel.rollCrystalBall();
+            gameViewModel.undo();
+            records[0]++;
+            gameViewModel.processRoll(event);
+        });
+        gameViewModel.awaitStorage();
+
+        assertEquals(records[0], replayJournal());
+    }
+
+    /**
+     * Replay the journal the view model wrote.
+     *
+     * @return The number of records in it
+     */
+    private int replayJournal() throws IOException {
+        File file = new File(application.getFilesDir(), "game.journal");
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return new JournalReplayer(new RulesEngine()).replay(in, new GameState());
+        }
+    }
+
+    private static void runOnMainSync(Runnable runnable) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(runnable);
+    }
+}
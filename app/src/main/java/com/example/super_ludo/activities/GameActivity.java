@@ -1,11 +1,25 @@
 package com.example.super_ludo.activities;
 
 import android.content.DialogInterface;
+import android.content.pm.ApplicationInfo;
+import android.graphics.Color;
+import android.graphics.Typeface;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.os.Vibrator;
+import android.view.Gravity;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.Button;
+import android.widget.FrameLayout;
 import android.widget.TextView;
+import android.widget.Toast;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.List;
 import com.example.super_ludo.dialogs.GameEventDialog;
 
@@ -15,17 +29,21 @@ import androidx.lifecycle.Observer;
 import androidx.lifecycle.ViewModelProvider;
 
 import com.example.super_ludo.R;
+import com.example.super_ludo.ai.MoveHighlights;
 import com.example.super_ludo.models.BoardCell;
 import com.example.super_ludo.models.GameEvent;
 import com.example.super_ludo.models.GameState;
 import com.example.super_ludo.models.Player;
+import com.example.super_ludo.models.SelectionPhase;
 import com.example.super_ludo.models.Spaceship;
+import com.example.super_ludo.models.StateUpdate;
 import com.example.super_ludo.utils.GameAnimationUtils;
 import com.example.super_ludo.utils.SoundManager;
 import com.example.super_ludo.viewmodels.GameViewModel;
 import com.example.super_ludo.viewmodels.SettingsViewModel;
 import com.example.super_ludo.views.BoardView;
 import com.example.super_ludo.views.CrystalBallView;
+import com.example.super_ludo.views.DrawProfiler;
 import com.example.super_ludo.views.PlayerStatusView;
 
 /**
@@ -36,6 +54,16 @@ public class GameActivity extends AppCompatActivity implements
         CrystalBallView.CrystalBallRollListener {
 
     public static final String EXTRA_PLAYER_COUNT = "player_count";
+    public static final String EXTRA_RESUME = "resume";
+    public static final String EXTRA_COMPUTER_SEATS = "computer_seats";
+
+    // Pauses that let the computer's turns be followed
+    private static final long COMPUTER_ROLL_DELAY_MS = 800;
+    private static final long COMPUTER_EVENT_DELAY_MS = 1500;
+
+    // Draw statistics overlay, debuggable builds only
+    private static final long PERF_OVERLAY_INTERVAL_MS = 500;
+    private static final String DRAW_STATS_FILE = "draw_stats.csv";
 
     private GameViewModel gameViewModel;
     private SettingsViewModel settingsViewModel;
@@ -47,6 +75,8 @@ public class GameActivity extends AppCompatActivity implements
     private PlayerStatusView topPlayerPanel;
     private PlayerStatusView bottomPlayerPanel;
     private Button resetButton;
+    private Button undoButton;
+    private Button redoButton;
     private Button quitGameButton;
 
     // Utilities
@@ -54,6 +84,24 @@ public class GameActivity extends AppCompatActivity implements
     private GameAnimationUtils gameAnimationUtils;
     private Vibrator vibrator;
 
+    private TextView perfOverlay;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable perfOverlayUpdater = new Runnable() {
+        @Override
+        public void run() {
+            perfOverlay.setText(DrawProfiler.getSummary());
+            handler.postDelayed(this, PERF_OVERLAY_INTERVAL_MS);
+        }
+    };
+    private final Runnable computerRoll = new Runnable() {
+        @Override
+        public void run() {
+            if (gameViewModel.isComputerToRoll()) {
+                rollCrystalBall();
+            }
+        }
+    };
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -77,9 +125,17 @@ public class GameActivity extends AppCompatActivity implements
         // Observe ViewModel changes
         observeViewModelChanges();
 
-        // Start a new game
-        int playerCount = getIntent().getIntExtra(EXTRA_PLAYER_COUNT, 2);
-        gameViewModel.initializeGame(playerCount);
+        // Keep the game across configuration changes, resume it after the process
+        // was killed or when asked to, and otherwise start a new one
+        if (!gameViewModel.hasGame()) {
+            int playerCount = getIntent().getIntExtra(EXTRA_PLAYER_COUNT, 2);
+            int computerSeats = getIntent().getIntExtra(EXTRA_COMPUTER_SEATS, 0);
+            if (savedInstanceState != null || getIntent().getBooleanExtra(EXTRA_RESUME, false)) {
+                gameViewModel.resumeSavedGame(playerCount, computerSeats);
+            } else {
+                gameViewModel.initializeGame(playerCount, computerSeats);
+            }
+        }
     }
 
     private void initializeUI() {
@@ -89,11 +145,52 @@ public class GameActivity extends AppCompatActivity implements
         topPlayerPanel = findViewById(R.id.topPlayerPanel);
         bottomPlayerPanel = findViewById(R.id.bottomPlayerPanel);
         resetButton = findViewById(R.id.resetButton);
+        undoButton = findViewById(R.id.undoButton);
+        redoButton = findViewById(R.id.redoButton);
         quitGameButton = findViewById(R.id.quitGameButton);
 
         // Set listeners
         boardView.setBoardCellClickListener(this);
         crystalBallView.setRollListener(this);
+
+        if ((getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0) {
+            createPerfOverlay();
+        }
+    }
+
+    /**
+     * Add an overlay showing draw times per view; long-press it to dump the full statistics.
+     */
+    private void createPerfOverlay() {
+        perfOverlay = new TextView(this);
+        perfOverlay.setTypeface(Typeface.MONOSPACE);
+        perfOverlay.setTextSize(9);
+        perfOverlay.setTextColor(Color.WHITE);
+        perfOverlay.setBackgroundColor(0x99000000);
+        perfOverlay.setPadding(8, 4, 8, 4);
+        perfOverlay.setOnLongClickListener(new View.OnLongClickListener() {
+            @Override
+            public boolean onLongClick(View v) {
+                dumpDrawStats();
+                return true;
+            }
+        });
+
+        FrameLayout.LayoutParams params = new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.WRAP_CONTENT,
+                ViewGroup.LayoutParams.WRAP_CONTENT,
+                Gravity.TOP | Gravity.END);
+        ((ViewGroup) findViewById(android.R.id.content)).addView(perfOverlay, params);
+    }
+
+    private void dumpDrawStats() {
+        File file = new File(getFilesDir(), DRAW_STATS_FILE);
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            DrawProfiler.dump(out);
+            Toast.makeText(this, "Draw statistics written to " + file.getPath(), Toast.LENGTH_SHORT).show();
+        } catch (IOException e) {
+            Toast.makeText(this, "Could not write draw statistics", Toast.LENGTH_SHORT).show();
+        }
     }
 
     private void setupClickListeners() {
@@ -104,6 +201,20 @@ public class GameActivity extends AppCompatActivity implements
             }
         });
 
+        undoButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                gameViewModel.undo();
+            }
+        });
+
+        redoButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                gameViewModel.redo();
+            }
+        });
+
         quitGameButton.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
@@ -114,20 +225,10 @@ public class GameActivity extends AppCompatActivity implements
 
     private void observeViewModelChanges() {
         // Observe game state changes
-        gameViewModel.getGameState().observe(this, new Observer<GameState>() {
+        gameViewModel.getStateUpdates().observe(this, new Observer<StateUpdate>() {
             @Override
-            public void onChanged(GameState gameState) {
-                updateGameUI(gameState);
-            }
-        });
-
-        // Observe current event changes
-        gameViewModel.getCurrentEvent().observe(this, new Observer<GameEvent>() {
-            @Override
-            public void onChanged(GameEvent event) {
-                if (event != null) {
-                    showGameEvent(event);
-                }
+            public void onChanged(StateUpdate update) {
+                updateGameUI(update);
             }
         });
 
@@ -139,6 +240,21 @@ public class GameActivity extends AppCompatActivity implements
             }
         });
 
+        // Observe undo/redo availability
+        gameViewModel.canUndo().observe(this, new Observer<Boolean>() {
+            @Override
+            public void onChanged(Boolean canUndo) {
+                undoButton.setEnabled(canUndo == Boolean.TRUE);
+            }
+        });
+
+        gameViewModel.canRedo().observe(this, new Observer<Boolean>() {
+            @Override
+            public void onChanged(Boolean canRedo) {
+                redoButton.setEnabled(canRedo == Boolean.TRUE);
+            }
+        });
+
         // Observe highlighted cell changes
         gameViewModel.getHighlightedCell().observe(this, new Observer<BoardCell>() {
             @Override
@@ -147,6 +263,14 @@ public class GameActivity extends AppCompatActivity implements
             }
         });
 
+        // Observe the legal moves of a pending selection
+        gameViewModel.getMoveHighlights().observe(this, new Observer<MoveHighlights>() {
+            @Override
+            public void onChanged(MoveHighlights highlights) {
+                boardView.setMoveHighlights(highlights);
+            }
+        });
+
         // Observe settings changes
         settingsViewModel.isSoundEnabled().observe(this, new Observer<Boolean>() {
             @Override
@@ -166,19 +290,34 @@ public class GameActivity extends AppCompatActivity implements
             @Override
             public void onChanged(Integer speed) {
                 gameAnimationUtils.setAnimationSpeed(speed);
+                if (speed != null) {
+                    boardView.setAnimationSpeed(speed);
+                }
             }
         });
     }
 
-    private void updateGameUI(GameState gameState) {
-        if (gameState == null) return;
+    private void updateGameUI(StateUpdate update) {
+        if (update == null) return;
+        GameState gameState = gameViewModel.getCurrentGameState();
+
+        // Attribute draw times to what the game is doing
+        if (gameState.isGameOver()) {
+            DrawProfiler.setPhase(DrawProfiler.Phase.GAME_OVER);
+        } else if (gameState.getSelectionPhase() != SelectionPhase.NONE) {
+            DrawProfiler.setPhase(DrawProfiler.Phase.SELECTING);
+        } else {
+            DrawProfiler.setPhase(DrawProfiler.Phase.WAITING_FOR_ROLL);
+        }
 
         // Update the board view
-        boardView.setGameBoard(gameState.getBoard());
+        if (update.isNewGame() || update.getMovedShips() != 0) {
+            boardView.setGameState(gameState);
+        }
 
         // Update player panels
         List<Player> players = gameState.getPlayers();
-        if (players.size() >= 2) {
+        if (players.size() >= 2 && update.hasChanges()) {
             Player bottomPlayer = players.get(0); // First player at bottom
             bottomPlayerPanel.setPlayer(bottomPlayer);
             bottomPlayerPanel.setActive(bottomPlayer.isActive());
@@ -189,15 +328,26 @@ public class GameActivity extends AppCompatActivity implements
         }
 
         // Update turn indicator
-        String playerName = gameState.getCurrentPlayer().getName();
-        turnIndicatorTextView.setText(playerName + "'s Turn");
+        if (update.isPlayerChanged() && !players.isEmpty()) {
+            String playerName = gameState.getCurrentPlayer().getName();
+            turnIndicatorTextView.setText(playerName + "'s Turn");
+        }
 
         // Check if game is over
-        if (gameState.isGameOver()) {
+        if (update.isGameEnded()) {
             showGameOverDialog(gameState.getWinner());
         }
+
+        // Roll for the computer after a pause
+        handler.removeCallbacks(computerRoll);
+        if (gameViewModel.isComputerToRoll()) {
+            handler.postDelayed(computerRoll, COMPUTER_ROLL_DELAY_MS);
+        }
     }
 
+    /**
+     * Show a roll's event and process it once the dialog is dismissed.
+     */
     private void showGameEvent(GameEvent event) {
         // Show event dialog
         GameEventDialog dialog = new GameEventDialog(this, event);
@@ -211,6 +361,16 @@ public class GameActivity extends AppCompatActivity implements
 
         dialog.show();
 
+        // The computer does not wait for anyone to read its event
+        if (gameViewModel.isComputerTurn()) {
+            handler.postDelayed(new Runnable() {
+                @Override
+                public void run() {
+                    dialog.dismiss();
+                }
+            }, COMPUTER_EVENT_DELAY_MS);
+        }
+
         // Play sound effect for event
         playEventSound(event);
 
@@ -307,15 +467,23 @@ public class GameActivity extends AppCompatActivity implements
 
     @Override
     public void onCellClick(BoardCell cell) {
+        if (gameViewModel.isComputerTurn()) {
+            return;
+        }
+
         // Check if waiting for ship selection
         if (gameViewModel.isWaitingForShipSelection().getValue() == Boolean.TRUE ||
                 gameViewModel.isWaitingForTargetSelection().getValue() == Boolean.TRUE) {
 
-            // Check if cell has any spaceships
-            List<Spaceship> ships = cell.getSpaceships();
-            if (!ships.isEmpty()) {
-                // For simplicity, select the first ship in the cell
-                gameViewModel.selectSpaceship(ships.get(0));
+            // Prefer a highlighted ship, or the ship whose move ends on the cell
+            Spaceship ship = gameViewModel.findSelectableShip(cell);
+            if (ship == null) {
+                // Otherwise the first ship in the cell, which the rules engine will explain
+                List<Spaceship> ships = gameViewModel.getCurrentGameState().getBoard().getSpaceships(cell);
+                ship = ships.isEmpty() ? null : ships.get(0);
+            }
+            if (ship != null) {
+                gameViewModel.selectSpaceship(ship);
 
                 // Play sound
                 if (settingsViewModel.isSoundEnabled().getValue() == Boolean.TRUE) {
@@ -325,6 +493,18 @@ public class GameActivity extends AppCompatActivity implements
         }
     }
 
+    @Override
+    public void onRollRequested() {
+        if (!gameViewModel.isComputerTurn()) {
+            rollCrystalBall();
+        }
+    }
+
+    private void rollCrystalBall() {
+        DrawProfiler.setPhase(DrawProfiler.Phase.ROLLING);
+        crystalBallView.rollCrystalBall(gameViewModel.rollCrystalBall());
+    }
+
     @Override
     public void onRollComplete(GameEvent event) {
         // Play roll sound
@@ -346,6 +526,8 @@ public class GameActivity extends AppCompatActivity implements
         super.onPause();
         // Pause sound
         soundManager.pauseAll();
+
+        handler.removeCallbacks(perfOverlayUpdater);
     }
 
     @Override
@@ -353,6 +535,10 @@ public class GameActivity extends AppCompatActivity implements
         super.onResume();
         // Resume sound
         soundManager.resumeAll();
+
+        if (perfOverlay != null) {
+            handler.post(perfOverlayUpdater);
+        }
     }
 
     @Override
@@ -360,5 +546,6 @@ public class GameActivity extends AppCompatActivity implements
         super.onDestroy();
         // Release resources
         soundManager.release();
+        handler.removeCallbacksAndMessages(null);
     }
 }
@@ -10,6 +10,7 @@ import androidx.lifecycle.ViewModelProvider;
 
 import com.example.super_ludo.R;
 import com.example.super_ludo.dialogs.PlayerSetupDialog;
+import com.example.super_ludo.viewmodels.GameViewModel;
 import com.example.super_ludo.viewmodels.SettingsViewModel;
 
 /**
@@ -17,6 +18,7 @@ import com.example.super_ludo.viewmodels.SettingsViewModel;
  */
 public class MainActivity extends AppCompatActivity {
 
+    private Button continueGameButton;
     private Button startGameButton;
     private Button howToPlayButton;
     private Button quitButton;
@@ -38,13 +40,28 @@ public class MainActivity extends AppCompatActivity {
         setupClickListeners();
     }
 
+    @Override
+    protected void onResume() {
+        super.onResume();
+        // Offer to continue whenever a game was left unfinished
+        continueGameButton.setVisibility(GameViewModel.hasSavedGame(this) ? View.VISIBLE : View.GONE);
+    }
+
     private void initializeUI() {
+        continueGameButton = findViewById(R.id.continueGameButton);
         startGameButton = findViewById(R.id.startGameButton);
         howToPlayButton = findViewById(R.id.howToPlayButton);
         quitButton = findViewById(R.id.quitButton);
     }
 
     private void setupClickListeners() {
+        continueGameButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                continueGame();
+            }
+        });
+
         startGameButton.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
@@ -70,17 +87,24 @@ public class MainActivity extends AppCompatActivity {
     private void showPlayerSetupDialog() {
         PlayerSetupDialog dialog = new PlayerSetupDialog(this, new PlayerSetupDialog.PlayerSetupListener() {
             @Override
-            public void onPlayersReady(int playerCount) {
-                startGame(playerCount);
+            public void onPlayersReady(int playerCount, int computerSeats) {
+                startGame(playerCount, computerSeats);
             }
         });
 
         dialog.show();
     }
 
-    private void startGame(int playerCount) {
+    private void startGame(int playerCount, int computerSeats) {
         Intent intent = new Intent(this, GameActivity.class);
         intent.putExtra(GameActivity.EXTRA_PLAYER_COUNT, playerCount);
+        intent.putExtra(GameActivity.EXTRA_COMPUTER_SEATS, computerSeats);
+        startActivity(intent);
+    }
+
+    private void continueGame() {
+        Intent intent = new Intent(this, GameActivity.class);
+        intent.putExtra(GameActivity.EXTRA_RESUME, true);
         startActivity(intent);
     }
 
@@ -14,6 +14,7 @@ import androidx.annotation.NonNull;
 import com.example.super_ludo.R;
 import com.example.super_ludo.models.EventType;
 import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.utils.ResourceUtils;
 
 /**
  * Dialog for displaying game events.
@@ -46,13 +47,13 @@ public class GameEventDialog extends Dialog {
         // Set event data
         if (event != null) {
             // Set title
-            eventTitleTextView.setText(getContext().getString(event.getTitleResourceId()));
+            eventTitleTextView.setText(getContext().getString(ResourceUtils.getEventTitleResourceId(event)));
 
             // Set icon
-            eventIconImageView.setImageResource(event.getDrawableResourceId());
+            eventIconImageView.setImageResource(ResourceUtils.getEventDrawableResourceId(event));
 
             // Set description
-            String description = getContext().getString(event.getDescriptionResourceId());
+            String description = getContext().getString(ResourceUtils.getEventDescriptionResourceId(event));
 
             // For normal roll, include the value
             if (event.getType() == EventType.NORMAL_ROLL) {
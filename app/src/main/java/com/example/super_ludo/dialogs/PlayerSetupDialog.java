@@ -6,6 +6,7 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import android.view.View;
 import android.widget.Button;
+import android.widget.CheckBox;
 import android.widget.EditText;
 import android.widget.NumberPicker;
 import android.widget.TextView;
@@ -24,6 +25,7 @@ public class PlayerSetupDialog extends Dialog {
     private EditText player2NameEditText;
     private EditText player3NameEditText;
     private EditText player4NameEditText;
+    private CheckBox computerOpponentsCheckBox;
     private Button startButton;
     private Button cancelButton;
 
@@ -45,6 +47,7 @@ public class PlayerSetupDialog extends Dialog {
         player2NameEditText = findViewById(R.id.player2NameEditText);
         player3NameEditText = findViewById(R.id.player3NameEditText);
         player4NameEditText = findViewById(R.id.player4NameEditText);
+        computerOpponentsCheckBox = findViewById(R.id.computerOpponentsCheckBox);
         startButton = findViewById(R.id.startButton);
         cancelButton = findViewById(R.id.cancelButton);
 
@@ -115,9 +118,15 @@ public class PlayerSetupDialog extends Dialog {
         // TODO: Store player names for use in the game
         // Currently, we're just passing the count back to the activity
 
+        // The computer plays everyone but Player 1 if asked to
+        int computerSeats = 0;
+        if (computerOpponentsCheckBox.isChecked()) {
+            computerSeats = ((1 << playerCount) - 1) & ~1;
+        }
+
         // Notify listener
         if (listener != null) {
-            listener.onPlayersReady(playerCount);
+            listener.onPlayersReady(playerCount, computerSeats);
         }
 
         dismiss();
@@ -127,6 +136,9 @@ public class PlayerSetupDialog extends Dialog {
      * Interface for player setup callbacks.
      */
     public interface PlayerSetupListener {
-        void onPlayersReady(int playerCount);
+        /**
+         * @param computerSeats The players the computer plays, bit i standing for player i
+         */
+        void onPlayersReady(int playerCount, int computerSeats);
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.example.super_ludo.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ *
+ * Buckets are log-linear: every power of two is split into eight buckets, so
+ * a reported percentile is within 12.5% of the true value. Recording is one
+ * atomic increment and never allocates, so it is safe to call from onDraw on
+ * the UI thread while another thread reads or dumps the histogram.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Covers durations up to 2^40 ns (about 18 minutes); longer ones land in the last bucket
+    private static final int BUCKET_COUNT = (40 - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Record one duration.
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketIndex(nanos));
+    }
+
+    /**
+     * Get the number of recorded durations.
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Get an upper bound for a percentile.
+     *
+     * @param percentile Between 0 and 100
+     * @return The duration in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Remove every recorded duration.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    private static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        int index = (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -13,6 +13,7 @@ public class PreferenceUtils {
     private static final String KEY_SOUND_ENABLED = "sound_enabled";
     private static final String KEY_VIBRATION_ENABLED = "vibration_enabled";
     private static final String KEY_ANIMATION_SPEED = "animation_speed";
+    private static final String KEY_COMPUTER_SEATS = "computer_seats";
 
     private static SharedPreferences getPreferences(Context context) {
         return PreferenceManager.getDefaultSharedPreferences(context);
@@ -74,4 +75,18 @@ public class PreferenceUtils {
     public static void setAnimationSpeed(Context context, int speed) {
         getPreferences(context).edit().putInt(KEY_ANIMATION_SPEED, speed).apply();
     }
+
+    /**
+     * Get the players the computer plays in the current game, bit i standing for player i.
+     */
+    public static int getComputerSeats(Context context) {
+        return getPreferences(context).getInt(KEY_COMPUTER_SEATS, 0);
+    }
+
+    /**
+     * Set the players the computer plays in the current game.
+     */
+    public static void setComputerSeats(Context context, int seats) {
+        getPreferences(context).edit().putInt(KEY_COMPUTER_SEATS, seats).apply();
+    }
 }
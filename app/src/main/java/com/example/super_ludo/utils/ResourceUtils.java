@@ -0,0 +1,113 @@
+package com.example.super_ludo.utils;
+
+import com.example.super_ludo.R;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.PlayerColor;
+
+/**
+ * Utility class mapping game models to Android resources.
+ */
+public class ResourceUtils {
+
+    /**
+     * Get the drawable resource ID for an event.
+     */
+    public static int getEventDrawableResourceId(GameEvent event) {
+        switch (event.getType()) {
+            case NORMAL_ROLL:
+                return R.drawable.crystal_ball_normal;
+            case BLACK_HOLE:
+                return R.drawable.crystal_ball_black_hole;
+            case METEOR_STRIKE:
+                return R.drawable.crystal_ball_meteor;
+            case WORMHOLE:
+                return R.drawable.crystal_ball_wormhole;
+            case SUPER_BOOST:
+                return R.drawable.crystal_ball_boost;
+            case ALIEN_INVASION:
+                return R.drawable.crystal_ball_alien;
+            default:
+                return R.drawable.crystal_ball;
+        }
+    }
+
+    /**
+     * Get the title string resource ID for an event.
+     */
+    public static int getEventTitleResourceId(GameEvent event) {
+        switch (event.getType()) {
+            case NORMAL_ROLL:
+                return R.string.normal_roll;
+            case BLACK_HOLE:
+                return R.string.black_hole;
+            case METEOR_STRIKE:
+                return R.string.meteor_strike;
+            case WORMHOLE:
+                return R.string.wormhole;
+            case SUPER_BOOST:
+                return R.string.super_boost;
+            case ALIEN_INVASION:
+                return R.string.alien_invasion;
+            default:
+                return R.string.event_title;
+        }
+    }
+
+    /**
+     * Get the description string resource ID for an event.
+     */
+    public static int getEventDescriptionResourceId(GameEvent event) {
+        switch (event.getType()) {
+            case NORMAL_ROLL:
+                return R.string.normal_roll_desc;
+            case BLACK_HOLE:
+                return R.string.black_hole_desc;
+            case METEOR_STRIKE:
+                return R.string.meteor_strike_desc;
+            case WORMHOLE:
+                return R.string.wormhole_desc;
+            case SUPER_BOOST:
+                return R.string.super_boost_desc;
+            case ALIEN_INVASION:
+                return R.string.alien_invasion_desc;
+            default:
+                return R.string.event_description;
+        }
+    }
+
+    /**
+     * Get the spaceship drawable resource ID for a player color.
+     */
+    public static int getShipDrawableResourceId(PlayerColor color) {
+        switch (color) {
+            case BLUE:
+                return R.drawable.spaceship_blue;
+            case GREEN:
+                return R.drawable.spaceship_green;
+            case RED:
+                return R.drawable.spaceship_red;
+            case YELLOW:
+                return R.drawable.spaceship_yellow;
+            default:
+                return R.drawable.spaceship_blue;
+        }
+    }
+
+    /**
+     * Get the board cell drawable resource ID for a player color.
+     */
+    public static int getCellDrawableResourceId(PlayerColor color) {
+        switch (color) {
+            case BLUE:
+                return R.drawable.board_cell_blue;
+            case GREEN:
+                return R.drawable.board_cell_green;
+            case RED:
+                return R.drawable.board_cell_red;
+            case YELLOW:
+                return R.drawable.board_cell_yellow;
+            default:
+                return R.drawable.board_cell_blue;
+        }
+    }
+}
@@ -1,47 +1,147 @@
 package com.example.super_ludo.viewmodels;
 
 import android.app.Application;
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import com.example.super_ludo.ai.ComputerPlayer;
+import com.example.super_ludo.ai.GreedyPolicy;
+import com.example.super_ludo.ai.MoveHighlights;
+import com.example.super_ludo.ai.Policy;
+import com.example.super_ludo.ai.TurnOutcomes;
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.engine.RuleResult;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.journal.GameCheckpoint;
+import com.example.super_ludo.journal.GameJournal;
+import com.example.super_ludo.journal.JournalReplayer;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.EventSampler;
 import com.example.super_ludo.models.BoardCell;
 import com.example.super_ludo.models.EventType;
 import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameHistory;
 import com.example.super_ludo.models.GameState;
 import com.example.super_ludo.models.Player;
+import com.example.super_ludo.models.SelectionPhase;
 import com.example.super_ludo.models.Spaceship;
-import com.example.super_ludo.utils.GameLogic;
-
-import java.util.List;
-import java.util.Random;
+import com.example.super_ludo.models.StateUpdate;
+import com.example.super_ludo.models.ZobristKeys;
+import com.example.super_ludo.utils.PreferenceUtils;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * ViewModel for managing game state and logic.
+ * ViewModel exposing the game state to the UI.
+ *
+ * All rules live in the {@link RulesEngine}; this class only forwards user
+ * actions to it and publishes the results as LiveData. Every action that
+ * changes the game publishes exactly one {@link StateUpdate}, however many
+ * steps the engine took.
+ *
+ * While the Crystal Ball spins, the outcomes of every possible roll are
+ * worked out on a background thread, so the legal moves of the revealed
+ * event are ready as soon as it is processed. They are published as
+ * {@link MoveHighlights}, cached by position and event so undo, redo and
+ * repeated rolls of the same position reuse them.
+ *
+ * Journal records and checkpoints are written in order on a storage thread,
+ * so the main thread never waits for the disk. A checkpoint is taken at
+ * every turn boundary, see {@link GameCheckpoint}; together with the journal
+ * this lets {@link #resumeSavedGame} pick the game up after the app was killed.
+ *
+ * Players can be left to the computer. Their rolls are made by the UI, see
+ * {@link #isComputerToRoll()}, so they are shown like anyone else's; their
+ * selections are searched for by a {@link ComputerPlayer} on its own thread
+ * and applied back on the main thread.
  */
 public class GameViewModel extends AndroidViewModel {
 
-    private GameLogic gameLogic;
+    // Journal of the current game in the app's files directory
+    private static final String JOURNAL_FILE = "game.journal";
+    // Checkpoint of the current game, next to the journal
+    private static final String CHECKPOINT_FILE = "game.save";
+    // Highlights kept for recently seen positions
+    private static final int HIGHLIGHT_CACHE_SIZE = 32;
+    // Time the computer may think about a selection
+    private static final long COMPUTER_BUDGET_MS = 1000;
+
+    private RulesEngine rulesEngine;
     private GameState gameState;
+    private GameHistory history;
+    private StateUpdate lastUpdate;
+    private final EventSampler eventSampler = EventSampler.fromConstants();
+    private final SplittableRandom random = new SplittableRandom();
+    // Only touched on the storage thread; null while journaling is unavailable
+    private GameJournal journal;
+    // True while a saved game is being read on the storage thread
+    private boolean resuming;
+    // The roll drawn but not yet processed; null when none is pending
+    private GameEvent pendingRoll;
+
+    // Outcomes of the next roll, computed in the background; null when none are pending
+    private final ExecutorService outcomeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "turn-outcomes");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Policy advisor = new GreedyPolicy();
+    private Future<TurnOutcomes> pendingOutcomes;
+    private CompactGameState pendingPosition;
+
+    // Journal records and checkpoints are written one at a time, in the order they were made
+    private final ExecutorService storageExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Checkpoints requested so far; a waiting checkpoint is skipped once a later one is requested
+    private final AtomicInteger checkpointRequests = new AtomicInteger();
+
+    // Selection the computer is searching for; null when none is pending
+    private final ComputerPlayer computerPlayer = new ComputerPlayer();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private Future<Integer> pendingComputerMove;
+
+    // Highlights by Zobrist hash and event, least recently used first
+    private final Map<Long, MoveHighlights> highlightCache =
+            new LinkedHashMap<Long, MoveHighlights>(HIGHLIGHT_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, MoveHighlights> eldest) {
+                    return size() > HIGHLIGHT_CACHE_SIZE;
+                }
+            };
 
     // LiveData for observing changes
-    private MutableLiveData<GameState> gameStateLiveData = new MutableLiveData<>();
+    private MutableLiveData<StateUpdate> stateUpdateLiveData = new MutableLiveData<>();
     private MutableLiveData<GameEvent> currentEventLiveData = new MutableLiveData<>();
     private MutableLiveData<Spaceship> selectedSpaceshipLiveData = new MutableLiveData<>();
     private MutableLiveData<BoardCell> highlightedCellLiveData = new MutableLiveData<>();
     private MutableLiveData<Boolean> waitingForShipSelectionLiveData = new MutableLiveData<>();
     private MutableLiveData<Boolean> waitingForTargetSelectionLiveData = new MutableLiveData<>();
     private MutableLiveData<String> statusMessageLiveData = new MutableLiveData<>();
-
-    // Random number generator
-    private Random random = new Random();
-
-    // Game state flags
-    private boolean waitingForShipSelection = false;
-    private boolean waitingForTargetSelection = false;
-    private Spaceship movingShip = null;
+    private MutableLiveData<Boolean> canUndoLiveData = new MutableLiveData<>();
+    private MutableLiveData<Boolean> canRedoLiveData = new MutableLiveData<>();
+    private MutableLiveData<TurnOutcomes.Outcome> selectionOutcomeLiveData = new MutableLiveData<>();
+    private MutableLiveData<MoveHighlights> moveHighlightsLiveData = new MutableLiveData<>();
 
     public GameViewModel(@NonNull Application application) {
         super(application);
@@ -49,13 +149,15 @@ public class GameViewModel extends AndroidViewModel {
         // Initialize game state
         gameState = new GameState();
 
-        // Initialize game logic
-        gameLogic = new GameLogic();
+        // Initialize the rules engine
+        rulesEngine = new RulesEngine();
 
         // Set initial values
-        gameStateLiveData.setValue(gameState);
+        publishNewGame();
         waitingForShipSelectionLiveData.setValue(false);
         waitingForTargetSelectionLiveData.setValue(false);
+        canUndoLiveData.setValue(false);
+        canRedoLiveData.setValue(false);
         statusMessageLiveData.setValue("Welcome to GiiKER Super Ludo!");
     }
 
@@ -63,8 +165,23 @@ public class GameViewModel extends AndroidViewModel {
      * Initialize a new game with the specified number of players.
      */
     public void initializeGame(int playerCount) {
+        initializeGame(playerCount, 0);
+    }
+
+    /**
+     * Initialize a new game, some of whose players the computer plays.
+     *
+     * @param computerSeats The players the computer plays, bit i standing for player i
+     */
+    public void initializeGame(int playerCount, int computerSeats) {
         gameState.initialize(playerCount);
-        gameStateLiveData.setValue(gameState);
+        setComputerSeats(computerSeats);
+        PreferenceUtils.setComputerSeats(getApplication(), computerSeats);
+        openJournal();
+        recordNewGame();
+        startHistory();
+        saveCheckpoint();
+        publishNewGame();
         statusMessageLiveData.setValue("Game started! " + gameState.getCurrentPlayer().getName() + "'s turn.");
     }
 
@@ -73,566 +190,664 @@ public class GameViewModel extends AndroidViewModel {
      */
     public void resetGame() {
         gameState.resetGame();
-        gameStateLiveData.setValue(gameState);
+        recordNewGame();
+        startHistory();
+        saveCheckpoint();
+        publishNewGame();
         currentEventLiveData.setValue(null);
         selectedSpaceshipLiveData.setValue(null);
         highlightedCellLiveData.setValue(null);
-        waitingForShipSelection = false;
         waitingForShipSelectionLiveData.setValue(false);
-        waitingForTargetSelection = false;
         waitingForTargetSelectionLiveData.setValue(false);
-        movingShip = null;
         statusMessageLiveData.setValue("Game reset! " + gameState.getCurrentPlayer().getName() + "'s turn.");
     }
 
     /**
-     * Process a crystal ball roll event.
+     * Check if a game has been started, or is being resumed.
      */
-    public void processRoll(GameEvent event) {
-        // Record the event
-        gameState.setLastEvent(event);
-        currentEventLiveData.setValue(event);
-
-        // Handle the event based on its type
-        switch (event.getType()) {
-            case NORMAL_ROLL:
-                handleNormalRoll(event.getValue());
-                break;
-
-            case BLACK_HOLE:
-                handleBlackHole();
-                break;
-
-            case METEOR_STRIKE:
-                handleMeteorStrike();
-                break;
+    public boolean hasGame() {
+        return resuming || isInProgress();
+    }
 
-            case WORMHOLE:
-                handleWormhole();
-                break;
+    /**
+     * Check if the last session left a game that {@link #resumeSavedGame} can pick up.
+     */
+    public static boolean hasSavedGame(Context context) {
+        return new File(context.getFilesDir(), CHECKPOINT_FILE).exists();
+    }
 
-            case SUPER_BOOST:
-                handleSuperBoost();
-                break;
+    /**
+     * Resume the game the last session left, from its checkpoint and the journal records after it.
+     *
+     * The files are read on the storage thread. The checkpoint is mapped rather
+     * than read, and older positions are only decoded when undo reaches them,
+     * so this stays fast for long games.
+     *
+     * @param playerCount The players of the new game started if there is none to resume
+     * @param computerSeats The players the computer plays in that game, see {@link #initializeGame(int, int)}
+     */
+    public void resumeSavedGame(final int playerCount, final int computerSeats) {
+        resuming = true;
+        final File filesDir = getApplication().getFilesDir();
+        storageExecutor.execute(() -> {
+            final GameHistory resumed = readSavedGame(filesDir);
+            mainHandler.post(() -> finishResume(resumed, playerCount, computerSeats));
+        });
+    }
 
-            case ALIEN_INVASION:
-                handleAlienInvasion();
-                break;
+    /**
+     * Read the saved game and reopen its journal, on the storage thread.
+     *
+     * @return The game's history, or null if there is no game to resume
+     */
+    private GameHistory readSavedGame(File filesDir) {
+        File journalFile = new File(filesDir, JOURNAL_FILE);
+        GameState resumed = new GameState();
+        GameHistory resumedHistory;
+        long journalLength;
+        try {
+            GameCheckpoint checkpoint = GameCheckpoint.read(new File(filesDir, CHECKPOINT_FILE));
+            if (!checkpoint.matches(journalFile)) {
+                return null;
+            }
+            checkpoint.restore(resumed);
+            resumedHistory = checkpoint.getHistory();
+            journalLength = checkpoint.getJournalLength();
+
+            // Catch up with the records journaled after the checkpoint
+            try (FileInputStream file = new FileInputStream(journalFile)) {
+                file.getChannel().position(journalLength);
+                InputStream in = new BufferedInputStream(file);
+                JournalReplayer replayer = new JournalReplayer(new RulesEngine());
+                replayer.resume(in, resumed, resumedHistory);
+                resumedHistory = replayer.getHistory();
+                journalLength += replayer.getLength();
+            } catch (IOException e) {
+                // A tail that cannot be replayed is dropped, back to the checkpoint
+                resumedHistory = checkpoint.getHistory();
+                journalLength = checkpoint.getJournalLength();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
         }
 
-        // Update LiveData
-        gameStateLiveData.setValue(gameState);
+        closeJournal();
+        try {
+            journal = GameJournal.open(journalFile, journalLength);
+        } catch (IOException e) {
+            journal = null;
+        }
+        return resumedHistory;
     }
 
     /**
-     * Handle a normal dice roll (1-6).
+     * Take over a game read by {@link #readSavedGame}, or start a new one if there was none.
      */
-    private void handleNormalRoll(int steps) {
-        Player currentPlayer = gameState.getCurrentPlayer();
-
-        // Check if player has any valid moves
-        boolean hasValidMoves = false;
+    private void finishResume(GameHistory resumedHistory, int playerCount, int computerSeats) {
+        resuming = false;
+        if (resumedHistory == null) {
+            initializeGame(playerCount, computerSeats);
+            return;
+        }
 
-        for (Spaceship ship : currentPlayer.getSpaceships()) {
-            // Can only move ships that are in base if rolled a 6
-            if (ship.isInBase() && steps != 6) {
-                continue;
-            }
+        resumedHistory.restore(gameState);
+        setComputerSeats(PreferenceUtils.getComputerSeats(getApplication()));
+        history = resumedHistory;
+        publishNewGame();
+        publishRestoredState("Game resumed.");
+    }
 
-            // Can't move ships that have reached home
-            if (ship.hasReachedHome()) {
-                continue;
-            }
+    /**
+     * Check if the player to move is played by the computer.
+     */
+    public boolean isComputerTurn() {
+        return isInProgress() && gameState.getCurrentPlayer().isComputer();
+    }
 
-            hasValidMoves = true;
-            break;
-        }
+    private boolean isInProgress() {
+        return !gameState.getPlayers().isEmpty() && !gameState.isGameOver();
+    }
 
-        if (hasValidMoves) {
-            // Ask player to select a ship
-            waitingForShipSelection = true;
-            waitingForShipSelectionLiveData.setValue(true);
-            statusMessageLiveData.setValue("Select a spaceship to move " + steps + " spaces.");
-        } else {
-            // No valid moves, go to next player
-            statusMessageLiveData.setValue("No valid moves available. Turn passes to next player.");
-            endTurn();
-        }
+    /**
+     * Check if the computer is to roll the Crystal Ball, which the UI does for it.
+     */
+    public boolean isComputerToRoll() {
+        return isComputerTurn() && gameState.getSelectionPhase() == SelectionPhase.NONE;
     }
 
     /**
-     * Handle the Black Hole event (skip turn).
+     * Draw the outcome of a Crystal Ball roll; pass it to {@link #processRoll} once it has been shown.
      */
-    private void handleBlackHole() {
-        statusMessageLiveData.setValue("Black Hole! You lose your turn.");
-        endTurn();
+    public GameEvent rollCrystalBall() {
+        precomputeOutcomes();
+        pendingRoll = eventSampler.sample(random);
+        return pendingRoll;
     }
 
     /**
-     * Handle the Meteor Strike event (send opponent back to base).
+     * Process a crystal ball roll event.
+     *
+     * Only the last roll drawn by {@link #rollCrystalBall()} is processed, and
+     * only once; a roll drawn before undo, redo or a new game is dropped.
      */
-    private void handleMeteorStrike() {
-        // Check if there are any opponent ships that can be sent back
-        List<Player> players = gameState.getPlayers();
-        Player currentPlayer = gameState.getCurrentPlayer();
+    public void processRoll(GameEvent event) {
+        if (event != pendingRoll) {
+            return;
+        }
+        pendingRoll = null;
 
-        // Collect all opponent ships that are not in base or home
-        boolean hasTargets = false;
+        // A roll shown after the game was won is not part of it
+        if (!isInProgress()) {
+            return;
+        }
 
-        for (Player player : players) {
-            if (player == currentPlayer) continue;
+        // Record the event
+        currentEventLiveData.setValue(event);
 
-            for (Spaceship ship : player.getSpaceships()) {
-                if (!ship.isInBase() && !ship.hasReachedHome() &&
-                        !gameState.getBoard().isSafeZone(ship.getPosition())) {
-                    hasTargets = true;
-                    break;
-                }
-            }
+        TurnOutcomes.Outcome outcome = takeOutcome(event);
+        RuleResult result = rulesEngine.processRoll(gameState, event);
+        publishSelection(outcome);
+        recordRoll(event);
+        recordHistory();
+        publishResult(result, event);
+    }
 
-            if (hasTargets) break;
+    /**
+     * Handle a spaceship selection.
+     */
+    public void selectSpaceship(Spaceship ship) {
+        GameEvent currentEvent = gameState.getLastEvent();
+        RuleResult result = rulesEngine.selectSpaceship(gameState, ship);
+        if (result == RuleResult.NOT_WAITING) {
+            return;
         }
 
-        if (hasTargets) {
-            // Ask player to select an opponent's ship
-            waitingForTargetSelection = true;
-            waitingForTargetSelectionLiveData.setValue(true);
-            statusMessageLiveData.setValue("Meteor Strike! Select an opponent's spaceship to send back to base.");
-        } else {
-            // No valid targets
-            statusMessageLiveData.setValue("Meteor Strike! But there are no spaceships to hit. Turn passes to next player.");
-            endTurn();
+        if (!result.isRejected()) {
+            recordSelection(ship, result);
+            recordHistory();
+            selectedSpaceshipLiveData.setValue(ship);
+            publishSelection(null);
         }
+        publishResult(result, currentEvent);
     }
 
     /**
-     * Handle the Wormhole event (jump to safe zone).
+     * Step back to the position before the last roll or selection.
      */
-    private void handleWormhole() {
-        // Check if player has any ships that are not in base or home
-        Player currentPlayer = gameState.getCurrentPlayer();
-        boolean hasValidShips = false;
-
-        for (Spaceship ship : currentPlayer.getSpaceships()) {
-            if (!ship.isInBase() && !ship.hasReachedHome()) {
-                hasValidShips = true;
-                break;
-            }
+    public void undo() {
+        if (history == null || !history.canUndo()) {
+            return;
         }
+        history = history.undo();
+        history.restore(gameState);
+        recordUndo(true);
+        publishRestoredState("Move undone.");
+    }
 
-        if (hasValidShips) {
-            // Ask player to select a ship
-            waitingForShipSelection = true;
-            waitingForShipSelectionLiveData.setValue(true);
-            statusMessageLiveData.setValue("Wormhole! Select a spaceship to jump to the next safe zone.");
-        } else {
-            // No valid ships
-            statusMessageLiveData.setValue("Wormhole! But you have no spaceships to move. Turn passes to next player.");
-            endTurn();
+    /**
+     * Replay the last undone roll or selection.
+     */
+    public void redo() {
+        if (history == null || !history.canRedo()) {
+            return;
         }
+        history = history.redo();
+        history.restore(gameState);
+        recordUndo(false);
+        publishRestoredState("Move redone.");
     }
 
     /**
-     * Handle the Super Boost event (extra turn).
+     * Get a snapshot history of the current game, for previewing moves without touching the game.
      */
-    private void handleSuperBoost() {
-        // Give player an extra turn
-        gameState.setExtraTurn();
-        statusMessageLiveData.setValue("Super Boost! You get an extra turn.");
+    public GameHistory getHistory() {
+        return history;
+    }
 
-        // Since we're not changing players, just update and continue
-        waitingForShipSelection = false;
-        waitingForShipSelectionLiveData.setValue(false);
-        waitingForTargetSelection = false;
-        waitingForTargetSelectionLiveData.setValue(false);
+    private void startHistory() {
+        history = GameHistory.start(gameState);
+        updateHistoryLiveData();
+    }
+
+    private void recordHistory() {
+        history = history.record(gameState);
+        updateHistoryLiveData();
+    }
 
-        // End this turn (which will not change the player due to extra turn flag)
-        endTurn();
+    private void updateHistoryLiveData() {
+        canUndoLiveData.setValue(history.canUndo());
+        canRedoLiveData.setValue(history.canRedo());
     }
 
     /**
-     * Handle the Alien Invasion event (send opponent to random location).
+     * Push a position restored from the history to the LiveData observers.
      */
-    private void handleAlienInvasion() {
-        // Similar to Meteor Strike, but we'll move the ship to a random location
-        List<Player> players = gameState.getPlayers();
-        Player currentPlayer = gameState.getCurrentPlayer();
+    private void publishRestoredState(String message) {
+        pendingRoll = null;
+        updateHistoryLiveData();
+        publishSelection(null);
 
-        // Collect all opponent ships that are not in base or home
-        boolean hasTargets = false;
+        SelectionPhase phase = gameState.getSelectionPhase();
+        selectedSpaceshipLiveData.setValue(null);
+        highlightedCellLiveData.setValue(null);
+        waitingForShipSelectionLiveData.setValue(phase == SelectionPhase.SHIP);
+        waitingForTargetSelectionLiveData.setValue(phase == SelectionPhase.TARGET);
 
-        for (Player player : players) {
-            if (player == currentPlayer) continue;
+        if (gameState.isGameOver()) {
+            message += " " + gameState.getWinner().getName() + " wins!";
+        } else if (phase != SelectionPhase.NONE) {
+            message += " " + gameState.getCurrentPlayer().getName() + " selects a spaceship.";
+        } else {
+            message += " " + gameState.getCurrentPlayer().getName() + "'s turn.";
+        }
 
-            for (Spaceship ship : player.getSpaceships()) {
-                if (!ship.isInBase() && !ship.hasReachedHome()) {
-                    hasTargets = true;
-                    break;
-                }
-            }
+        statusMessageLiveData.setValue(message);
+        publishUpdate(lastUpdate.restore(gameState));
+    }
 
-            if (hasTargets) break;
-        }
+    private void publishNewGame() {
+        pendingRoll = null;
+        highlightCache.clear();
+        publishSelection(null);
+        lastUpdate = StateUpdate.newGame(gameState);
+        cancelStaleOutcomes();
+        requestComputerMove();
+        stateUpdateLiveData.setValue(lastUpdate);
+    }
 
-        if (hasTargets) {
-            // Ask player to select an opponent's ship
-            waitingForTargetSelection = true;
-            waitingForTargetSelectionLiveData.setValue(true);
-            statusMessageLiveData.setValue("Alien Invasion! Select an opponent's spaceship to send to a random location.");
-        } else {
-            // No valid targets
-            statusMessageLiveData.setValue("Alien Invasion! But there are no spaceships to abduct. Turn passes to next player.");
-            endTurn();
+    /**
+     * Publish an update unless the action left the game exactly as it was.
+     */
+    private void publishUpdate(StateUpdate update) {
+        if (update.getSnapshot().equals(lastUpdate.getSnapshot())) {
+            return;
         }
+        lastUpdate = update;
+        cancelStaleOutcomes();
+        requestComputerMove();
+        stateUpdateLiveData.setValue(update);
     }
 
     /**
-     * Handle a spaceship selection.
+     * Publish the moves of the pending selection, or nothing if there is none.
+     *
+     * @param outcome The precomputed outcome of the pending event, or null to look it up or work it out
      */
-    public void selectSpaceship(Spaceship ship) {
-        if (!waitingForShipSelection && !waitingForTargetSelection) {
+    private void publishSelection(TurnOutcomes.Outcome outcome) {
+        if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+            selectionOutcomeLiveData.setValue(null);
+            moveHighlightsLiveData.setValue(null);
             return;
         }
 
-        Player currentPlayer = gameState.getCurrentPlayer();
-        GameEvent currentEvent = gameState.getLastEvent();
-
-        if (waitingForShipSelection) {
-            // Make sure ship belongs to current player
-            if (ship.getOwner() != currentPlayer) {
-                statusMessageLiveData.setValue("You can only select your own spaceships.");
-                return;
+        // Zobrist hashes leave out the event, so add its key
+        long key = gameState.getZobristHash() ^ ZobristKeys.event(gameState.getLastEvent().getCode());
+        MoveHighlights highlights = highlightCache.get(key);
+        if (highlights == null || !highlights.isFor(gameState)) {
+            if (outcome == null) {
+                outcome = TurnOutcomes.forPendingSelection(gameState, advisor);
             }
+            highlights = MoveHighlights.of(gameState, outcome);
+            highlightCache.put(key, highlights);
+        }
+        selectionOutcomeLiveData.setValue(highlights.getOutcome());
+        moveHighlightsLiveData.setValue(highlights);
+    }
 
-            // Make sure ship is valid for the current event
-            if (currentEvent.getType() == EventType.NORMAL_ROLL) {
-                // For normal roll, can only move ships that are in base if rolled a 6
-                if (ship.isInBase() && currentEvent.getValue() != 6) {
-                    statusMessageLiveData.setValue("You need to roll a 6 to move a spaceship out of base.");
-                    return;
-                }
+    /**
+     * Start working out every roll's outcome for the current position, unless that is already under way.
+     */
+    private void precomputeOutcomes() {
+        if (!isInProgress() || gameState.getSelectionPhase() != SelectionPhase.NONE) {
+            return;
+        }
 
-                // Can't move ships that have reached home
-                if (ship.hasReachedHome()) {
-                    statusMessageLiveData.setValue("This spaceship has already reached home.");
-                    return;
-                }
-            } else if (currentEvent.getType() == EventType.WORMHOLE) {
-                // For wormhole, can only move ships that are not in base or home
-                if (ship.isInBase() || ship.hasReachedHome()) {
-                    statusMessageLiveData.setValue("You can only select a spaceship that is in flight.");
-                    return;
-                }
-            }
+        CompactGameState position = CompactGameState.encode(gameState);
+        if (pendingOutcomes != null && position.equals(pendingPosition)) {
+            return;
+        }
+        cancelOutcomes();
 
-            // Set selected ship
-            selectedSpaceshipLiveData.setValue(ship);
-            movingShip = ship;
+        final GameState snapshot = gameState.copy();
+        pendingPosition = position;
+        pendingOutcomes = outcomeExecutor.submit(() -> TurnOutcomes.compute(snapshot, advisor));
+    }
 
-            // Process movement based on event
-            if (currentEvent.getType() == EventType.NORMAL_ROLL) {
-                moveShip(ship, currentEvent.getValue());
-            } else if (currentEvent.getType() == EventType.WORMHOLE) {
-                moveToNextSafeZone(ship);
+    /**
+     * Get the precomputed outcome of an event for the current position, or null if it is not ready.
+     *
+     * Never waits; the pending computation is dropped either way.
+     */
+    private TurnOutcomes.Outcome takeOutcome(GameEvent event) {
+        TurnOutcomes outcomes = null;
+        if (pendingOutcomes != null && pendingOutcomes.isDone() && !pendingOutcomes.isCancelled()) {
+            try {
+                outcomes = pendingOutcomes.get();
+            } catch (InterruptedException | ExecutionException e) {
+                outcomes = null;
             }
+        }
+        cancelOutcomes();
 
-            // Reset selection state
-            waitingForShipSelection = false;
-            waitingForShipSelectionLiveData.setValue(false);
-
-            // Check win condition
-            if (checkWinCondition()) {
-                return;
-            }
+        if (outcomes == null || !outcomes.isFor(gameState)) {
+            return null;
+        }
+        return outcomes.get(event);
+    }
 
-            // End turn
-            endTurn();
-        } else if (waitingForTargetSelection) {
-            // For target selection, make sure ship belongs to an opponent
-            if (ship.getOwner() == currentPlayer) {
-                statusMessageLiveData.setValue("You can only select an opponent's spaceship.");
-                return;
-            }
+    /**
+     * Drop the pending computation if the game has left the position it was started for.
+     */
+    private void cancelStaleOutcomes() {
+        if (pendingOutcomes != null && !lastUpdate.getSnapshot().equals(pendingPosition)) {
+            cancelOutcomes();
+        }
+    }
 
-            // Make sure ship is valid for the current event
-            if (currentEvent.getType() == EventType.METEOR_STRIKE) {
-                // For meteor strike, can't target ships in base, home, or safe zones
-                if (ship.isInBase() || ship.hasReachedHome() ||
-                        gameState.getBoard().isSafeZone(ship.getPosition())) {
-                    statusMessageLiveData.setValue("You can't target this spaceship.");
-                    return;
-                }
+    private void cancelOutcomes() {
+        if (pendingOutcomes != null) {
+            pendingOutcomes.cancel(true);
+            pendingOutcomes = null;
+            pendingPosition = null;
+        }
+    }
 
-                // Send ship back to base
-                sendToBase(ship);
-            } else if (currentEvent.getType() == EventType.ALIEN_INVASION) {
-                // For alien invasion, can't target ships in base or home
-                if (ship.isInBase() || ship.hasReachedHome()) {
-                    statusMessageLiveData.setValue("You can't target this spaceship.");
-                    return;
-                }
+    private void setComputerSeats(int seats) {
+        int index = 0;
+        for (Player player : gameState.getPlayers()) {
+            player.setComputer((seats & (1 << index++)) != 0);
+        }
+    }
 
-                // Send ship to random location
-                sendToRandomLocation(ship);
-            }
+    /**
+     * Start the computer searching for a selection if it has one to make; a search under way is dropped.
+     */
+    private void requestComputerMove() {
+        if (pendingComputerMove != null) {
+            pendingComputerMove.cancel(true);
+            pendingComputerMove = null;
+        }
+        if (!isComputerTurn() || gameState.getSelectionPhase() == SelectionPhase.NONE) {
+            return;
+        }
 
-            // Reset selection state
-            waitingForTargetSelection = false;
-            waitingForTargetSelectionLiveData.setValue(false);
+        final CompactGameState position = CompactGameState.encode(gameState);
+        pendingComputerMove = computerPlayer.chooseMove(gameState, COMPUTER_BUDGET_MS,
+                move -> mainHandler.post(() -> applyComputerMove(position, move)));
+    }
 
-            // End turn
-            endTurn();
+    /**
+     * Make the selection the computer chose, on the main thread.
+     */
+    private void applyComputerMove(CompactGameState position, int move) {
+        // Undo or a new game may have moved on while the computer was thinking
+        if (pendingComputerMove == null || !position.equals(CompactGameState.encode(gameState))) {
+            return;
         }
+        pendingComputerMove = null;
+        selectSpaceship(gameState.getShip(Move.getSlot(move)));
     }
 
     /**
-     * Move a ship by a number of steps.
+     * Queue a checkpoint of the current position behind the journal records made so far.
+     *
+     * The checkpoint is only taken while journaling, since resuming checks it
+     * against the journal. When turns come faster than the disk, checkpoints
+     * still waiting to be written are skipped for the latest one.
      */
-    private void moveShip(Spaceship ship, int steps) {
-        if (ship.isInBase() && steps == 6) {
-            // Move ship from base to start position
-            BoardCell startPosition = gameState.getBoard().getStartPosition(ship.getColor());
-
-            // First remove from current position if any
-            if (ship.getPosition() != null) {
-                ship.getPosition().removeSpaceship(ship);
+    private void saveCheckpoint() {
+        final GameHistory snapshot = history;
+        final int request = checkpointRequests.incrementAndGet();
+        final File file = new File(getApplication().getFilesDir(), CHECKPOINT_FILE);
+        storageExecutor.execute(() -> {
+            if (journal == null || request != checkpointRequests.get()) {
+                return;
             }
+            try {
+                GameCheckpoint.of(snapshot, journal).writeTo(file);
+            } catch (IOException e) {
+                // The next turn tries again, and the journal has everything meanwhile
+            }
+        });
+    }
+
+    /**
+     * Delete the checkpoint once the game is over, after any write still under way.
+     */
+    private void discardCheckpoint() {
+        checkpointRequests.incrementAndGet();
+        final File file = new File(getApplication().getFilesDir(), CHECKPOINT_FILE);
+        storageExecutor.execute(() -> file.delete());
+    }
 
-            // Set new position
-            ship.setPosition(startPosition);
-            startPosition.addSpaceship(ship);
-
-            // Set path position to 0 (start)
-            ship.setPathPosition(0);
-
-            statusMessageLiveData.setValue("Spaceship moved from base to start position.");
-        } else if (!ship.isInBase()) {
-            // Calculate new path position
-            int newPathPosition = ship.calculateNewPathPosition(steps);
-
-            // Check if this would take the ship past home
-            if (gameLogic.isPathToHome(ship, newPathPosition, gameState.getBoard())) {
-                int stepsToHome = gameLogic.getStepsToHome(ship, gameState.getBoard());
-
-                if (steps == stepsToHome) {
-                    // Exact count to reach home
-                    moveToHome(ship);
-                    statusMessageLiveData.setValue("Spaceship reached home!");
-                } else if (steps > stepsToHome) {
-                    // Too many steps, can't move
-                    statusMessageLiveData.setValue("You need an exact count to reach home.");
-                } else {
-                    // Move along the path
-                    moveAlongPath(ship, newPathPosition);
-                    statusMessageLiveData.setValue("Spaceship moved " + steps + " spaces.");
+    /**
+     * Start a fresh journal for a new game.
+     */
+    private void openJournal() {
+        final File file = new File(getApplication().getFilesDir(), JOURNAL_FILE);
+        storageExecutor.execute(() -> {
+            closeJournal();
+            try {
+                if (file.exists() && !file.delete()) {
+                    return;
                 }
-            } else {
-                // Regular movement along the path
-                moveAlongPath(ship, newPathPosition);
-                statusMessageLiveData.setValue("Spaceship moved " + steps + " spaces.");
+                journal = GameJournal.open(file);
+            } catch (IOException e) {
+                journal = null;
             }
-        }
-
-        // Check for collisions
-        checkForCollisions(ship);
+        });
+    }
 
-        // Update game state
-        gameStateLiveData.setValue(gameState);
+    /**
+     * Close the journal, on the storage thread.
+     */
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            // Every record was already flushed
+        }
+        journal = null;
     }
 
     /**
-     * Move a ship to the next safe zone.
+     * A journal record, written on the storage thread.
      */
-    private void moveToNextSafeZone(Spaceship ship) {
-        BoardCell nextSafeZone = gameState.getBoard().getNextSafeZone(ship.getPosition());
+    private interface JournalRecord {
+        void writeTo(GameJournal journal) throws IOException;
+    }
 
-        if (nextSafeZone != null) {
-            // First remove from current position
-            if (ship.getPosition() != null) {
-                ship.getPosition().removeSpaceship(ship);
+    /**
+     * Queue a record behind everything journaled so far.
+     */
+    private void record(final JournalRecord record) {
+        storageExecutor.execute(() -> {
+            if (journal == null) {
+                return;
+            }
+            try {
+                record.writeTo(journal);
+            } catch (IOException e) {
+                // Stop journaling rather than interrupt the game
+                closeJournal();
             }
+        });
+    }
 
-            // Set new position
-            ship.setPosition(nextSafeZone);
-            nextSafeZone.addSpaceship(ship);
+    private void recordNewGame() {
+        final int playerCount = gameState.getPlayers().size();
+        record(out -> out.recordNewGame(playerCount));
+    }
 
-            // Update path position (approximate)
-            // This is a simplified approach - in a real implementation,
-            // you would need to know the exact path position of the safe zone
-            ship.setPathPosition(ship.getPathPosition() + 10);
+    private void recordRoll(final GameEvent event) {
+        record(out -> out.recordRoll(event));
+    }
 
-            statusMessageLiveData.setValue("Spaceship jumped to the next safe zone!");
+    private void recordUndo(boolean undo) {
+        record(undo ? GameJournal::recordUndo : GameJournal::recordRedo);
+    }
+
+    private void recordSelection(Spaceship ship, RuleResult result) {
+        final int slot = CompactGameState.getSlot(ship);
+        if (result == RuleResult.TELEPORTED) {
+            final int pathIndex = rulesEngine.getLastTeleportIndex();
+            record(out -> out.recordTeleport(slot, pathIndex));
         } else {
-            statusMessageLiveData.setValue("No safe zone found ahead. Spaceship stays in place.");
+            record(out -> out.recordSelection(slot));
         }
-
-        // Check for collisions
-        checkForCollisions(ship);
-
-        // Update game state
-        gameStateLiveData.setValue(gameState);
     }
 
     /**
-     * Move a ship to the home position.
+     * Wait until every journal record and checkpoint queued so far has been written; for tests.
      */
-    private void moveToHome(Spaceship ship) {
-        // First remove from current position
-        if (ship.getPosition() != null) {
-            ship.getPosition().removeSpaceship(ship);
-        }
-
-        // Set new position to home
-        BoardCell homePosition = gameState.getBoard().getHomePosition(ship.getColor());
-        ship.setPosition(homePosition);
-        homePosition.addSpaceship(ship);
-
-        // Mark as reached home
-        ship.setReachedHome(true);
+    void awaitStorage() throws InterruptedException, ExecutionException {
+        storageExecutor.submit(() -> { }).get();
+    }
 
-        // Update game state
-        gameStateLiveData.setValue(gameState);
+    @Override
+    protected void onCleared() {
+        outcomeExecutor.shutdownNow();
+        computerPlayer.shutdown();
+        mainHandler.removeCallbacksAndMessages(null);
+        // Let the waiting records and checkpoint be written first
+        storageExecutor.execute(this::closeJournal);
+        storageExecutor.shutdown();
+        super.onCleared();
     }
 
     /**
-     * Move a ship along the path to a new position.
+     * Push the outcome of a rules engine call to the LiveData observers.
      */
-    private void moveAlongPath(Spaceship ship, int newPathPosition) {
-        // Calculate the new board cell based on path position
-        BoardCell newPosition = gameLogic.getPositionFromPathIndex(
-                newPathPosition, ship.getColor(), gameState.getBoard());
+    private void publishResult(RuleResult result, GameEvent event) {
+        String message = getResultMessage(result, event);
 
-        if (newPosition != null) {
-            // First remove from current position
-            if (ship.getPosition() != null) {
-                ship.getPosition().removeSpaceship(ship);
-            }
+        int captures = rulesEngine.getLastCaptureCount();
+        for (int i = 0; i < captures; i++) {
+            message += " Opponent's spaceship sent back to base!";
+        }
+
+        SelectionPhase phase = gameState.getSelectionPhase();
+        waitingForShipSelectionLiveData.setValue(phase == SelectionPhase.SHIP);
+        waitingForTargetSelectionLiveData.setValue(phase == SelectionPhase.TARGET);
+
+        if (gameState.isGameOver()) {
+            message = "Game Over! " + gameState.getWinner().getName() + " wins!";
+            discardCheckpoint();
+        } else if (!result.isAwaitingSelection()) {
+            saveCheckpoint();
 
-            // Set new position
-            ship.setPosition(newPosition);
-            newPosition.addSpaceship(ship);
+            // The turn has ended, reset selection state
+            selectedSpaceshipLiveData.setValue(null);
+            highlightedCellLiveData.setValue(null);
 
-            // Update path position
-            ship.setPathPosition(newPathPosition);
+            // Update status message for next player
+            if (!message.endsWith(".")) message += ".";
+            message += " " + gameState.getCurrentPlayer().getName() + "'s turn.";
         }
+
+        statusMessageLiveData.setValue(message);
+        publishUpdate(lastUpdate.next(gameState));
     }
 
     /**
-     * Send a ship back to its base.
+     * Get the status message describing a rules engine result.
      */
-    private void sendToBase(Spaceship ship) {
-        // First remove from current position
-        if (ship.getPosition() != null) {
-            ship.getPosition().removeSpaceship(ship);
-        }
+    private String getResultMessage(RuleResult result, GameEvent event) {
+        EventType type = event.getType();
 
-        // Return to base
-        ship.returnToBase();
+        switch (result) {
+            case AWAITING_SHIP_SELECTION:
+                if (type == EventType.WORMHOLE) {
+                    return "Wormhole! Select a spaceship to jump to the next safe zone.";
+                }
+                return "Select a spaceship to move " + event.getValue() + " spaces.";
 
-        statusMessageLiveData.setValue("Opponent's spaceship sent back to base!");
+            case AWAITING_TARGET_SELECTION:
+                if (type == EventType.ALIEN_INVASION) {
+                    return "Alien Invasion! Select an opponent's spaceship to send to a random location.";
+                }
+                return "Meteor Strike! Select an opponent's spaceship to send back to base.";
+
+            case NO_VALID_MOVES:
+                switch (type) {
+                    case METEOR_STRIKE:
+                        return "Meteor Strike! But there are no spaceships to hit. Turn passes to next player.";
+                    case WORMHOLE:
+                        return "Wormhole! But you have no spaceships to move. Turn passes to next player.";
+                    case ALIEN_INVASION:
+                        return "Alien Invasion! But there are no spaceships to abduct. Turn passes to next player.";
+                    default:
+                        return "No valid moves available. Turn passes to next player.";
+                }
 
-        // Update game state
-        gameStateLiveData.setValue(gameState);
-    }
+            case TURN_LOST:
+                return "Black Hole! You lose your turn.";
 
-    /**
-     * Send a ship to a random location on the board.
-     */
-    private void sendToRandomLocation(Spaceship ship) {
-        // First remove from current position
-        if (ship.getPosition() != null) {
-            ship.getPosition().removeSpaceship(ship);
-        }
+            case EXTRA_TURN:
+                return "Super Boost! You get an extra turn.";
 
-        // Get a random path position
-        int randomPathPosition = random.nextInt(52); // 52 is the total path length
+            case NOT_OWN_SHIP:
+                return "You can only select your own spaceships.";
 
-        // Get the corresponding board cell
-        BoardCell randomPosition = gameLogic.getPositionFromPathIndex(
-                randomPathPosition, ship.getColor(), gameState.getBoard());
+            case NEEDS_SIX:
+                return "You need to roll a 6 to move a spaceship out of base.";
 
-        if (randomPosition != null) {
-            // Set new position
-            ship.setPosition(randomPosition);
-            randomPosition.addSpaceship(ship);
+            case ALREADY_HOME:
+                return "This spaceship has already reached home.";
 
-            // Update path position
-            ship.setPathPosition(randomPathPosition);
+            case NOT_IN_FLIGHT:
+                return "You can only select a spaceship that is in flight.";
 
-            statusMessageLiveData.setValue("Opponent's spaceship teleported to a random location!");
-        } else {
-            // If random position is invalid, just send back to base
-            ship.returnToBase();
-            statusMessageLiveData.setValue("Opponent's spaceship sent back to base!");
-        }
+            case NOT_OPPONENT_SHIP:
+                return "You can only select an opponent's spaceship.";
 
-        // Update game state
-        gameStateLiveData.setValue(gameState);
-    }
+            case INVALID_TARGET:
+                return "You can't target this spaceship.";
 
-    /**
-     * Check for collisions with opponent ships.
-     */
-    private void checkForCollisions(Spaceship movedShip) {
-        if (movedShip.isInBase() || movedShip.hasReachedHome() ||
-                gameState.getBoard().isSafeZone(movedShip.getPosition())) {
-            return; // No collisions possible
-        }
+            case LEFT_BASE:
+                return "Spaceship moved from base to start position.";
 
-        BoardCell currentPosition = movedShip.getPosition();
-        if (currentPosition == null) return;
+            case MOVED:
+                return "Spaceship moved " + event.getValue() + " spaces.";
 
-        for (Spaceship otherShip : currentPosition.getSpaceships()) {
-            if (otherShip != movedShip && otherShip.getColor() != movedShip.getColor()) {
-                // Collision with opponent ship
-                sendToBase(otherShip);
-                statusMessageLiveData.setValue(statusMessageLiveData.getValue() +
-                        " Opponent's spaceship sent back to base!");
-            }
-        }
-    }
+            case REACHED_HOME:
+                return "Spaceship reached home!";
 
-    /**
-     * Check if the current player has won.
-     */
-    private boolean checkWinCondition() {
-        if (gameState.checkWinCondition()) {
-            Player winner = gameState.getWinner();
-            statusMessageLiveData.setValue("Game Over! " + winner.getName() + " wins!");
-            return true;
-        }
-        return false;
-    }
+            case NEEDS_EXACT_COUNT:
+                return "You need an exact count to reach home.";
 
-    /**
-     * End the current turn and move to the next player.
-     */
-    private void endTurn() {
-        // Move to next player
-        gameState.nextTurn();
+            case JUMPED_TO_SAFE_ZONE:
+                return "Spaceship jumped to the next safe zone!";
 
-        // Reset selection state
-        selectedSpaceshipLiveData.setValue(null);
-        highlightedCellLiveData.setValue(null);
+            case NO_SAFE_ZONE_AHEAD:
+                return "No safe zone found ahead. Spaceship stays in place.";
 
-        // Update game state
-        gameStateLiveData.setValue(gameState);
+            case SENT_TO_BASE:
+                return "Opponent's spaceship sent back to base!";
 
-        // Update status message for next player
-        if (!gameState.isGameOver()) {
-            String baseMessage = statusMessageLiveData.getValue();
-            if (!baseMessage.endsWith(".")) baseMessage += ".";
+            case TELEPORTED:
+                return "Opponent's spaceship teleported to a random location!";
 
-            statusMessageLiveData.setValue(baseMessage + " " +
-                    gameState.getCurrentPlayer().getName() + "'s turn.");
+            default:
+                return "";
         }
     }
 
     /**
-     * Get the current game state as LiveData.
+     * Get the game being played. It changes in place; observe {@link #getStateUpdates()} to hear about changes.
      */
-    public LiveData<GameState> getGameState() {
-        return gameStateLiveData;
+    public GameState getCurrentGameState() {
+        return gameState;
+    }
+
+    /**
+     * Get the changes to the game as LiveData, one update per action.
+     */
+    public LiveData<StateUpdate> getStateUpdates() {
+        return stateUpdateLiveData;
     }
 
     /**
@@ -649,6 +864,30 @@ public class GameViewModel extends AndroidViewModel {
         return selectedSpaceshipLiveData;
     }
 
+    /**
+     * Get the legal moves of the pending selection as LiveData, null while no selection is pending.
+     */
+    public LiveData<TurnOutcomes.Outcome> getSelectionOutcome() {
+        return selectionOutcomeLiveData;
+    }
+
+    /**
+     * Get the legal moves of the pending selection as board cells, null while no selection is pending.
+     */
+    public LiveData<MoveHighlights> getMoveHighlights() {
+        return moveHighlightsLiveData;
+    }
+
+    /**
+     * Find the ship a tap on a cell selects, see {@link MoveHighlights#findShip}.
+     *
+     * @return The ship, or null if the cell holds no legal move
+     */
+    public Spaceship findSelectableShip(BoardCell cell) {
+        MoveHighlights highlights = moveHighlightsLiveData.getValue();
+        return highlights != null ? highlights.findShip(cell) : null;
+    }
+
     /**
      * Get the highlighted cell as LiveData.
      */
@@ -670,6 +909,20 @@ public class GameViewModel extends AndroidViewModel {
         return waitingForTargetSelectionLiveData;
     }
 
+    /**
+     * Get whether a move can be undone as LiveData.
+     */
+    public LiveData<Boolean> canUndo() {
+        return canUndoLiveData;
+    }
+
+    /**
+     * Get whether an undone move can be redone as LiveData.
+     */
+    public LiveData<Boolean> canRedo() {
+        return canRedoLiveData;
+    }
+
     /**
      * Get the current status message as LiveData.
      */
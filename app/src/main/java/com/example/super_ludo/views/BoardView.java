@@ -1,6 +1,7 @@
 package com.example.super_ludo.views;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Path;
@@ -14,19 +15,30 @@ import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
 
 import com.example.super_ludo.R;
+import com.example.super_ludo.ai.MoveHighlights;
 import com.example.super_ludo.models.BoardCell;
 import com.example.super_ludo.models.CellType;
+import com.example.super_ludo.models.CompactGameState;
 import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.GameState;
 import com.example.super_ludo.models.PlayerColor;
 import com.example.super_ludo.models.Spaceship;
 
-import java.util.List;
 
 /**
  * Custom view for rendering the game board.
+ *
+ * The board layout never changes during a game, so cells, grid lines, home
+ * quadrants and start stars are rendered once into an offscreen bitmap and
+ * only that bitmap is drawn each frame, with ships and highlights on top.
+ *
+ * Ship moves reported through {@link #setGameState(GameState)} are animated
+ * cell by cell by a {@link ShipAnimator}.
  */
 public class BoardView extends View {
 
+    private static final DrawProfiler PROFILER = DrawProfiler.register("BoardView");
+
     private GameBoard gameBoard;
     private int cellSize;
     private int boardSize;
@@ -39,6 +51,35 @@ public class BoardView extends View {
     private BoardCell selectedCell;
     private Paint selectionPaint;
 
+    // Static board layer, rebuilt on size change or when the board is swapped
+    private Bitmap boardLayer;
+
+    // Reused on every draw so onDraw does not allocate
+    private RenderResources resources;
+    private Paint starPaint;
+    private Paint textPaint;
+    private final Path path = new Path();
+    private final Rect cellRect = new Rect();
+    private final RectF shipRect = new RectF();
+
+    // Ship animation
+    private GameState gameState;
+    private ShipAnimator shipAnimator;
+    // Ship and position code per slot as last shown, to detect moves
+    private final Spaceship[] shownShips = new Spaceship[CompactGameState.SHIP_COUNT];
+    private final int[] shownCodes = new int[CompactGameState.SHIP_COUNT];
+    // Ships on the cell being drawn
+    private final Spaceship[] cellShips = new Spaceship[CompactGameState.SHIP_COUNT];
+
+    // Legal move markers, rebuilt when the moves or the cell size change and drawn in one pass
+    private MoveHighlights moveHighlights;
+    private final Path selectableMarkers = new Path();
+    private final Path destinationMarkers = new Path();
+    private final Path captureMarkers = new Path();
+    private Paint markerPaint;
+    private int highlightColor;
+    private int captureColor;
+
     public BoardView(Context context) {
         super(context);
         init();
@@ -55,6 +96,9 @@ public class BoardView extends View {
     }
 
     private void init() {
+        resources = RenderResources.get(getContext());
+        shipAnimator = new ShipAnimator(this);
+
         // Initialize paints
         gridPaint = new Paint();
         gridPaint.setColor(ContextCompat.getColor(getContext(), R.color.boardGrid));
@@ -72,12 +116,70 @@ public class BoardView extends View {
         selectionPaint.setStrokeWidth(4f);
         selectionPaint.setStyle(Paint.Style.STROKE);
 
+        markerPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        markerPaint.setStrokeWidth(3f);
+        highlightColor = ContextCompat.getColor(getContext(), R.color.moveHighlight);
+        captureColor = ContextCompat.getColor(getContext(), R.color.moveCapture);
+
+        starPaint = new Paint();
+        starPaint.setColor(resources.accent);
+        starPaint.setStyle(Paint.Style.FILL);
+
+        textPaint = new Paint();
+        textPaint.setColor(resources.white);
+        textPaint.setTextAlign(Paint.Align.CENTER);
+
         // Set default board size
         boardSize = 11; // Default 11x11 grid
     }
 
     public void setGameBoard(GameBoard gameBoard) {
-        this.gameBoard = gameBoard;
+        if (gameBoard != this.gameBoard) {
+            // The cached layer only shows the layout, which boards may share
+            if (gameBoard == null || this.gameBoard == null
+                    || gameBoard.getTopology() != this.gameBoard.getTopology()) {
+                releaseBoardLayer();
+            }
+            this.gameBoard = gameBoard;
+        }
+        invalidate();
+    }
+
+    /**
+     * Show a game state, animating any ship that moved since the last call.
+     *
+     * Ships of a new game, or a different set of players, appear without animation.
+     */
+    public void setGameState(GameState gameState) {
+        this.gameState = gameState;
+        GameBoard board = gameState.getBoard();
+        boolean sameBoard = board == this.gameBoard;
+        setGameBoard(board);
+
+        for (int slot = 0; slot < shownShips.length; slot++) {
+            Spaceship ship = gameState.getShip(slot);
+            int code = ship != null ? CompactGameState.getShipCode(ship) : CompactGameState.BASE_CODE;
+            if (sameBoard && ship != null && ship == shownShips[slot] && code != shownCodes[slot]) {
+                shipAnimator.start(board, ship, shownCodes[slot], code);
+            }
+            shownShips[slot] = ship;
+            shownCodes[slot] = code;
+        }
+    }
+
+    /**
+     * Set the animation speed as a percentage of normal.
+     */
+    public void setAnimationSpeed(int percent) {
+        shipAnimator.setSpeed(percent);
+    }
+
+    /**
+     * Mark the ships that can be selected and where each would go, or clear the markers with null.
+     */
+    public void setMoveHighlights(MoveHighlights highlights) {
+        this.moveHighlights = highlights;
+        buildMoveMarkers();
         invalidate();
     }
 
@@ -100,29 +202,94 @@ public class BoardView extends View {
         int size = Math.min(width, height);
 
         // Calculate cell size
+        int oldCellSize = cellSize;
         cellSize = size / boardSize;
+        if (cellSize != oldCellSize) {
+            buildMoveMarkers();
+        }
 
         setMeasuredDimension(size, size);
     }
 
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        releaseBoardLayer();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        shipAnimator.cancelAll();
+        releaseBoardLayer();
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
+        long start = PROFILER.begin();
+        try {
+            drawContent(canvas);
+        } finally {
+            PROFILER.end(start);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        PROFILER.countInvalidation();
+        super.invalidate();
+    }
+
+    private void drawContent(Canvas canvas) {
         super.onDraw(canvas);
 
         if (gameBoard == null) return;
 
-        // Draw the board
-        drawBoard(canvas);
+        // Draw the static board layer
+        if (boardLayer == null) {
+            boardLayer = createBoardLayer();
+        }
+        if (boardLayer != null) {
+            canvas.drawBitmap(boardLayer, 0, 0, null);
+        }
 
         // Draw the spaceships
         drawSpaceships(canvas);
 
+        // Draw the legal move markers
+        if (moveHighlights != null) {
+            drawMoveMarkers(canvas);
+        }
+
         // Draw selection highlight if a cell is selected
         if (selectedCell != null) {
             drawCellSelection(canvas, selectedCell);
         }
     }
 
+    /**
+     * Render the static board into a bitmap the size of the grid.
+     *
+     * @return The bitmap, or null before the view has been measured
+     */
+    private Bitmap createBoardLayer() {
+        int size = cellSize * boardSize;
+        if (size <= 0) {
+            return null;
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        drawBoard(new Canvas(bitmap));
+        return bitmap;
+    }
+
+    private void releaseBoardLayer() {
+        if (boardLayer != null) {
+            boardLayer.recycle();
+            boardLayer = null;
+        }
+    }
+
     private void drawBoard(Canvas canvas) {
         for (int y = 0; y < boardSize; y++) {
             for (int x = 0; x < boardSize; x++) {
@@ -138,7 +305,7 @@ public class BoardView extends View {
         int x = cell.getX() * cellSize;
         int y = cell.getY() * cellSize;
 
-        Rect cellRect = new Rect(x, y, x + cellSize, y + cellSize);
+        cellRect.set(x, y, x + cellSize, y + cellSize);
 
         // Draw cell based on its type
         switch (cell.getType()) {
@@ -147,13 +314,13 @@ public class BoardView extends View {
                 break;
 
             case PATH:
-                cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.boardBackground));
+                cellPaint.setColor(resources.boardBackground);
                 canvas.drawRect(cellRect, cellPaint);
                 canvas.drawRect(cellRect, gridPaint);
                 break;
 
             case SAFE_ZONE:
-                cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.safeZone));
+                cellPaint.setColor(resources.safeZone);
                 canvas.drawRect(cellRect, cellPaint);
                 break;
 
@@ -173,7 +340,7 @@ public class BoardView extends View {
 
             case HOME:
                 // Draw home as a special cell
-                cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.boardBackground));
+                cellPaint.setColor(resources.boardBackground);
                 canvas.drawRect(cellRect, cellPaint);
 
                 // Draw colored segments for each player's home
@@ -185,21 +352,7 @@ public class BoardView extends View {
     private void drawColoredCell(Canvas canvas, Rect rect, PlayerColor color) {
         if (color == null) return;
 
-        switch (color) {
-            case BLUE:
-                cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerBlue));
-                break;
-            case GREEN:
-                cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerGreen));
-                break;
-            case RED:
-                cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerRed));
-                break;
-            case YELLOW:
-                cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerYellow));
-                break;
-        }
-
+        cellPaint.setColor(resources.getPlayerColor(color));
         canvas.drawRect(rect, cellPaint);
         canvas.drawRect(rect, gridPaint);
     }
@@ -210,44 +363,16 @@ public class BoardView extends View {
         int centerY = rect.top + rect.height() / 2;
 
         // Blue quadrant (bottom-right)
-        Path bluePath = new Path();
-        bluePath.moveTo(centerX, centerY);
-        bluePath.lineTo(rect.right, centerY);
-        bluePath.lineTo(rect.right, rect.bottom);
-        bluePath.lineTo(centerX, rect.bottom);
-        bluePath.close();
-        cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerBlue));
-        canvas.drawPath(bluePath, cellPaint);
+        drawQuadrant(canvas, centerX, centerY, rect.right, rect.bottom, PlayerColor.BLUE);
 
         // Green quadrant (top-right)
-        Path greenPath = new Path();
-        greenPath.moveTo(centerX, centerY);
-        greenPath.lineTo(rect.right, centerY);
-        greenPath.lineTo(rect.right, rect.top);
-        greenPath.lineTo(centerX, rect.top);
-        greenPath.close();
-        cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerGreen));
-        canvas.drawPath(greenPath, cellPaint);
+        drawQuadrant(canvas, centerX, centerY, rect.right, rect.top, PlayerColor.GREEN);
 
         // Red quadrant (top-left)
-        Path redPath = new Path();
-        redPath.moveTo(centerX, centerY);
-        redPath.lineTo(centerX, rect.top);
-        redPath.lineTo(rect.left, rect.top);
-        redPath.lineTo(rect.left, centerY);
-        redPath.close();
-        cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerRed));
-        canvas.drawPath(redPath, cellPaint);
+        drawQuadrant(canvas, centerX, centerY, rect.left, rect.top, PlayerColor.RED);
 
         // Yellow quadrant (bottom-left)
-        Path yellowPath = new Path();
-        yellowPath.moveTo(centerX, centerY);
-        yellowPath.lineTo(centerX, rect.bottom);
-        yellowPath.lineTo(rect.left, rect.bottom);
-        yellowPath.lineTo(rect.left, centerY);
-        yellowPath.close();
-        cellPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerYellow));
-        canvas.drawPath(yellowPath, cellPaint);
+        drawQuadrant(canvas, centerX, centerY, rect.left, rect.bottom, PlayerColor.YELLOW);
 
         // Draw grid lines
         canvas.drawRect(rect, gridPaint);
@@ -255,12 +380,22 @@ public class BoardView extends View {
         canvas.drawLine(rect.left, centerY, rect.right, centerY, gridPaint);
     }
 
-    private void drawStar(Canvas canvas, int centerX, int centerY, int radius) {
-        Paint starPaint = new Paint();
-        starPaint.setColor(ContextCompat.getColor(getContext(), R.color.colorAccent));
-        starPaint.setStyle(Paint.Style.FILL);
+    /**
+     * Fill the square between the cell center and one of its corners.
+     */
+    private void drawQuadrant(Canvas canvas, int centerX, int centerY, int cornerX, int cornerY, PlayerColor color) {
+        path.rewind();
+        path.moveTo(centerX, centerY);
+        path.lineTo(cornerX, centerY);
+        path.lineTo(cornerX, cornerY);
+        path.lineTo(centerX, cornerY);
+        path.close();
+        cellPaint.setColor(resources.getPlayerColor(color));
+        canvas.drawPath(path, cellPaint);
+    }
 
-        Path starPath = new Path();
+    private void drawStar(Canvas canvas, int centerX, int centerY, int radius) {
+        path.rewind();
         float innerRadius = radius * 0.4f;
 
         // Calculate the points of the star
@@ -271,14 +406,14 @@ public class BoardView extends View {
             float y = (float) (centerY + r * Math.sin(angle));
 
             if (i == 0) {
-                starPath.moveTo(x, y);
+                path.moveTo(x, y);
             } else {
-                starPath.lineTo(x, y);
+                path.lineTo(x, y);
             }
         }
-        starPath.close();
+        path.close();
 
-        canvas.drawPath(starPath, starPaint);
+        canvas.drawPath(path, starPaint);
     }
 
     private void drawSpaceships(Canvas canvas) {
@@ -286,31 +421,58 @@ public class BoardView extends View {
             for (int x = 0; x < boardSize; x++) {
                 BoardCell cell = gameBoard.getCell(x, y);
                 if (cell != null) {
-                    List<Spaceship> spaceships = cell.getSpaceships();
-                    if (!spaceships.isEmpty()) {
-                        drawSpaceshipsInCell(canvas, cell, spaceships);
+                    int count = gameBoard.getSpaceships(cell, cellShips);
+                    if (count > 0) {
+                        drawSpaceshipsInCell(canvas, cell, count);
                     }
                 }
             }
         }
+
+        // Ships in flight are drawn on top, between cells
+        if (gameState != null && shipAnimator.isAnyAnimating()) {
+            int shipSize = cellSize / 3;
+            for (int slot = 0; slot < shownShips.length; slot++) {
+                if (shipAnimator.isAnimating(slot) && shownShips[slot] != null) {
+                    int x = (int) (shipAnimator.getX(slot) * cellSize) + cellSize/2 - shipSize/2;
+                    int y = (int) (shipAnimator.getY(slot) * cellSize) + cellSize/2 - shipSize/2;
+                    drawSpaceship(canvas, x, y, shipSize, shownShips[slot]);
+                }
+            }
+        }
     }
 
-    private void drawSpaceshipsInCell(Canvas canvas, BoardCell cell, List<Spaceship> spaceships) {
+    /**
+     * Draw the first shipCount entries of cellShips, which all stand on the cell.
+     */
+    private void drawSpaceshipsInCell(Canvas canvas, BoardCell cell, int shipCount) {
         int x = cell.getX() * cellSize;
         int y = cell.getY() * cellSize;
 
+        // Ships still on their way here are drawn by the animation instead
+        int count = 0;
+        for (int i = 0; i < shipCount; i++) {
+            Spaceship ship = cellShips[i];
+            if (!shipAnimator.isAnimating(CompactGameState.getSlot(ship))) {
+                cellShips[count++] = ship;
+            }
+        }
+
         // Adjust positions based on number of ships in the cell
         int shipSize = cellSize / 3;
         int padding = (cellSize - shipSize) / 4;
 
-        switch (spaceships.size()) {
+        switch (count) {
+            case 0:
+                break;
+
             case 1:
                 // Center the single ship
                 drawSpaceship(canvas,
                         x + cellSize/2 - shipSize/2,
                         y + cellSize/2 - shipSize/2,
                         shipSize,
-                        spaceships.get(0));
+                        cellShips[0]);
                 break;
 
             case 2:
@@ -319,12 +481,12 @@ public class BoardView extends View {
                         x + padding,
                         y + cellSize/2 - shipSize/2,
                         shipSize,
-                        spaceships.get(0));
+                        cellShips[0]);
                 drawSpaceship(canvas,
                         x + cellSize - padding - shipSize,
                         y + cellSize/2 - shipSize/2,
                         shipSize,
-                        spaceships.get(1));
+                        cellShips[1]);
                 break;
 
             case 3:
@@ -333,22 +495,22 @@ public class BoardView extends View {
                         x + cellSize/2 - shipSize/2,
                         y + padding,
                         shipSize,
-                        spaceships.get(0));
+                        cellShips[0]);
                 drawSpaceship(canvas,
                         x + padding,
                         y + cellSize - padding - shipSize,
                         shipSize,
-                        spaceships.get(1));
+                        cellShips[1]);
                 drawSpaceship(canvas,
                         x + cellSize - padding - shipSize,
                         y + cellSize - padding - shipSize,
                         shipSize,
-                        spaceships.get(2));
+                        cellShips[2]);
                 break;
 
             default:
                 // For more ships, just draw a generic indicator
-                shipPaint.setColor(ContextCompat.getColor(getContext(), R.color.colorAccent));
+                shipPaint.setColor(resources.accent);
                 canvas.drawCircle(x + cellSize/2, y + cellSize/2, cellSize/4, shipPaint);
                 break;
         }
@@ -356,42 +518,70 @@ public class BoardView extends View {
 
     private void drawSpaceship(Canvas canvas, int x, int y, int size, Spaceship ship) {
         // Set color based on player
-        PlayerColor color = ship.getColor();
-        switch (color) {
-            case BLUE:
-                shipPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerBlue));
-                break;
-            case GREEN:
-                shipPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerGreen));
-                break;
-            case RED:
-                shipPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerRed));
-                break;
-            case YELLOW:
-                shipPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerYellow));
-                break;
-        }
+        shipPaint.setColor(resources.getPlayerColor(ship.getColor()));
 
         // Draw a simple spaceship shape
-        RectF shipRect = new RectF(x, y, x + size, y + size);
+        shipRect.set(x, y, x + size, y + size);
         canvas.drawRoundRect(shipRect, size/4, size/4, shipPaint);
 
         // Draw ship number
-        Paint textPaint = new Paint();
-        textPaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
         textPaint.setTextSize(size * 0.6f);
-        textPaint.setTextAlign(Paint.Align.CENTER);
-        canvas.drawText(String.valueOf(ship.getShipNumber()),
+        canvas.drawText(resources.getNumber(ship.getShipNumber()),
                 shipRect.centerX(),
                 shipRect.centerY() + textPaint.getTextSize()/3, // Adjust for vertical centering
                 textPaint);
     }
 
+    /**
+     * Add the markers of every legal move to the marker paths: a ring around
+     * each selectable ship and a dot on its destination, in the capture
+     * colour if the move sends a ship back to base.
+     */
+    private void buildMoveMarkers() {
+        selectableMarkers.rewind();
+        destinationMarkers.rewind();
+        captureMarkers.rewind();
+        if (moveHighlights == null || cellSize == 0) {
+            return;
+        }
+
+        float ringRadius = cellSize * 0.45f;
+        float dotRadius = cellSize * 0.15f;
+        for (int i = 0; i < moveHighlights.getCount(); i++) {
+            BoardCell source = moveHighlights.getSource(i);
+            if (source != null) {
+                selectableMarkers.addCircle(getCenter(source.getX()), getCenter(source.getY()),
+                        ringRadius, Path.Direction.CW);
+            }
+            BoardCell destination = moveHighlights.getDestination(i);
+            if (destination != null) {
+                Path markers = moveHighlights.isCapture(i) ? captureMarkers : destinationMarkers;
+                markers.addCircle(getCenter(destination.getX()), getCenter(destination.getY()),
+                        dotRadius, Path.Direction.CW);
+            }
+        }
+    }
+
+    private void drawMoveMarkers(Canvas canvas) {
+        markerPaint.setStyle(Paint.Style.STROKE);
+        markerPaint.setColor(highlightColor);
+        canvas.drawPath(selectableMarkers, markerPaint);
+
+        markerPaint.setStyle(Paint.Style.FILL);
+        canvas.drawPath(destinationMarkers, markerPaint);
+        markerPaint.setColor(captureColor);
+        canvas.drawPath(captureMarkers, markerPaint);
+    }
+
+    private float getCenter(int cell) {
+        return cell * cellSize + cellSize / 2f;
+    }
+
     private void drawCellSelection(Canvas canvas, BoardCell cell) {
         int x = cell.getX() * cellSize;
         int y = cell.getY() * cellSize;
 
-        Rect cellRect = new Rect(x, y, x + cellSize, y + cellSize);
+        cellRect.set(x, y, x + cellSize, y + cellSize);
         canvas.drawRect(cellRect, selectionPaint);
     }
 
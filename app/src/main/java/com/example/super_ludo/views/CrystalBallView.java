@@ -17,21 +17,36 @@ import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
 
 import com.example.super_ludo.R;
-import com.example.super_ludo.models.EventType;
 import com.example.super_ludo.models.GameEvent;
-
-import java.util.Random;
+import com.example.super_ludo.models.PlayerColor;
 
 /**
- * Custom view for the Crystal Ball that controls game events.
+ * Custom view for the Crystal Ball.
+ *
+ * Touching the ball asks the listener for a roll; the view only animates the
+ * event it is given, see {@link #rollCrystalBall(GameEvent)}.
  */
 public class CrystalBallView extends View {
 
+    private static final DrawProfiler PROFILER = DrawProfiler.register("CrystalBallView");
+
     private Paint ballPaint;
     private Paint glowPaint;
     private Paint highlightPaint;
     private Paint eventPaint;
 
+    // Event indicator paints, prepared once so onDraw does not allocate
+    private RenderResources resources;
+    private Paint numberBackgroundPaint;
+    private Paint numberPaint;
+    private Paint blackHolePaint;
+    private Paint meteorPaint;
+    private Paint meteorGlowPaint;
+    private Paint wormholePaint;
+    private Paint boostPaint;
+    private Paint alienPaint;
+    private Paint eyePaint;
+
     private int ballColor;
     private int glowColor;
     private int highlightColor;
@@ -47,8 +62,6 @@ public class CrystalBallView extends View {
     private GameEvent currentEvent;
     private CrystalBallRollListener rollListener;
 
-    private Random random = new Random();
-
     public CrystalBallView(Context context) {
         super(context);
         init();
@@ -83,6 +96,38 @@ public class CrystalBallView extends View {
         eventPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         eventPaint.setStyle(Paint.Style.FILL);
 
+        resources = RenderResources.get(getContext());
+
+        numberBackgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        numberBackgroundPaint.setColor(resources.white);
+
+        numberPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        numberPaint.setColor(resources.black);
+        numberPaint.setTextAlign(Paint.Align.CENTER);
+
+        blackHolePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+        meteorPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        meteorPaint.setColor(resources.getPlayerColor(PlayerColor.RED));
+
+        meteorGlowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        meteorGlowPaint.setColor(resources.white);
+        meteorGlowPaint.setStyle(Paint.Style.STROKE);
+        meteorGlowPaint.setStrokeWidth(3f);
+
+        wormholePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        wormholePaint.setColor(resources.getPlayerColor(PlayerColor.YELLOW));
+        wormholePaint.setStyle(Paint.Style.STROKE);
+        wormholePaint.setStrokeWidth(4f);
+
+        boostPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+        alienPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        alienPaint.setColor(resources.getPlayerColor(PlayerColor.GREEN));
+
+        eyePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        eyePaint.setColor(resources.black);
+
         // Set up animation
         setupAnimations();
     }
@@ -183,10 +228,41 @@ public class CrystalBallView extends View {
                 Shader.TileMode.CLAMP
         );
         highlightPaint.setShader(highlightGradient);
+
+        // Black hole gradient
+        RadialGradient blackHoleGradient = new RadialGradient(
+                centerX,
+                centerY,
+                radius * 0.4f,
+                new int[] {
+                        ContextCompat.getColor(getContext(), android.R.color.black),
+                        ContextCompat.getColor(getContext(), R.color.colorPrimaryDark)
+                },
+                null,
+                Shader.TileMode.CLAMP
+        );
+        blackHolePaint.setShader(blackHoleGradient);
+
+        numberPaint.setTextSize(radius * 0.5f);
     }
 
     @Override
     protected void onDraw(Canvas canvas) {
+        long start = PROFILER.begin();
+        try {
+            drawContent(canvas);
+        } finally {
+            PROFILER.end(start);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        PROFILER.countInvalidation();
+        super.invalidate();
+    }
+
+    private void drawContent(Canvas canvas) {
         super.onDraw(canvas);
 
         // Apply scale if animating
@@ -250,47 +326,22 @@ public class CrystalBallView extends View {
 
     private void drawDiceNumber(Canvas canvas, int number) {
         // Draw a small white circle in the center
-        Paint numberBackgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        numberBackgroundPaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
         canvas.drawCircle(centerX, centerY, radius * 0.3f, numberBackgroundPaint);
 
-        // Draw the number
-        Paint numberPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        numberPaint.setColor(ContextCompat.getColor(getContext(), android.R.color.black));
-        numberPaint.setTextSize(radius * 0.5f);
-        numberPaint.setTextAlign(Paint.Align.CENTER);
-
         // Draw text centered vertically
         float textHeight = numberPaint.descent() - numberPaint.ascent();
         float textOffset = (textHeight / 2) - numberPaint.descent();
 
-        canvas.drawText(String.valueOf(number), centerX, centerY + textOffset, numberPaint);
+        canvas.drawText(resources.getNumber(number), centerX, centerY + textOffset, numberPaint);
     }
 
     private void drawBlackHole(Canvas canvas) {
         // Draw a black hole effect
-        Paint blackHolePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        RadialGradient blackHoleGradient = new RadialGradient(
-                centerX,
-                centerY,
-                radius * 0.4f,
-                new int[] {
-                        ContextCompat.getColor(getContext(), android.R.color.black),
-                        ContextCompat.getColor(getContext(), R.color.colorPrimaryDark)
-                },
-                null,
-                Shader.TileMode.CLAMP
-        );
-        blackHolePaint.setShader(blackHoleGradient);
-
         canvas.drawCircle(centerX, centerY, radius * 0.4f, blackHolePaint);
     }
 
     private void drawMeteor(Canvas canvas) {
         // Draw a meteor effect
-        Paint meteorPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        meteorPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerRed));
-
         canvas.save();
         canvas.rotate(45, centerX, centerY);
         canvas.drawOval(centerX - radius * 0.4f, centerY - radius * 0.2f,
@@ -298,11 +349,6 @@ public class CrystalBallView extends View {
         canvas.restore();
 
         // Add a glow effect
-        Paint meteorGlowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        meteorGlowPaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
-        meteorGlowPaint.setStyle(Paint.Style.STROKE);
-        meteorGlowPaint.setStrokeWidth(3f);
-
         canvas.save();
         canvas.rotate(45, centerX, centerY);
         canvas.drawOval(centerX - radius * 0.4f, centerY - radius * 0.2f,
@@ -312,12 +358,6 @@ public class CrystalBallView extends View {
 
     private void drawWormhole(Canvas canvas) {
         // Draw a wormhole effect (spiral)
-        Paint wormholePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        wormholePaint.setColor(ContextCompat.getColor(getContext(), R.color.playerYellow));
-        wormholePaint.setStyle(Paint.Style.STROKE);
-        wormholePaint.setStrokeWidth(4f);
-
-        // Draw spiral
         float maxRadius = radius * 0.4f;
         float minRadius = radius * 0.1f;
         float radiusStep = (maxRadius - minRadius) / 720f;
@@ -342,8 +382,7 @@ public class CrystalBallView extends View {
 
     private void drawSuperBoost(Canvas canvas) {
         // Draw a boost effect (starburst)
-        Paint boostPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        boostPaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
+        boostPaint.setColor(resources.white);
 
         int numRays = 8;
         float innerRadius = radius * 0.1f;
@@ -360,23 +399,16 @@ public class CrystalBallView extends View {
         }
 
         // Draw a center circle
-        boostPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerYellow));
+        boostPaint.setColor(resources.getPlayerColor(PlayerColor.YELLOW));
         canvas.drawCircle(centerX, centerY, innerRadius, boostPaint);
     }
 
     private void drawAlienInvasion(Canvas canvas) {
         // Draw an alien head
-        Paint alienPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        alienPaint.setColor(ContextCompat.getColor(getContext(), R.color.playerGreen));
-
-        // Alien head
         canvas.drawOval(centerX - radius * 0.3f, centerY - radius * 0.4f,
                 centerX + radius * 0.3f, centerY + radius * 0.2f, alienPaint);
 
         // Alien eyes
-        Paint eyePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        eyePaint.setColor(ContextCompat.getColor(getContext(), android.R.color.black));
-
         canvas.drawOval(centerX - radius * 0.2f, centerY - radius * 0.25f,
                 centerX - radius * 0.05f, centerY - radius * 0.1f, eyePaint);
         canvas.drawOval(centerX + radius * 0.05f, centerY - radius * 0.25f,
@@ -391,8 +423,8 @@ public class CrystalBallView extends View {
 
             // Check if touch was within the ball
             float distance = (float) Math.sqrt(Math.pow(x - centerX, 2) + Math.pow(y - centerY, 2));
-            if (distance <= radius && !isAnimating) {
-                rollCrystalBall();
+            if (distance <= radius && !isAnimating && rollListener != null) {
+                rollListener.onRollRequested();
                 return true;
             }
         }
@@ -400,48 +432,26 @@ public class CrystalBallView extends View {
         return super.onTouchEvent(event);
     }
 
-    public void rollCrystalBall() {
+    /**
+     * Animate a roll that lands on the given event.
+     */
+    public void rollCrystalBall(GameEvent event) {
         if (isAnimating) return;
 
         isAnimating = true;
-
-        // Generate a random event
-        currentEvent = generateRandomEvent();
+        currentEvent = event;
 
         // Start animations
         rotationAnimator.start();
         pulseAnimator.start();
     }
 
-    private GameEvent generateRandomEvent() {
-        double chance = random.nextDouble();
-
-        if (chance < 0.65) {
-            // Normal roll (1-6)
-            int value = random.nextInt(6) + 1;
-            return new GameEvent(EventType.NORMAL_ROLL, value);
-        } else if (chance < 0.75) {
-            // Black Hole
-            return new GameEvent(EventType.BLACK_HOLE);
-        } else if (chance < 0.825) {
-            // Meteor Strike
-            return new GameEvent(EventType.METEOR_STRIKE);
-        } else if (chance < 0.9) {
-            // Wormhole
-            return new GameEvent(EventType.WORMHOLE);
-        } else if (chance < 0.95) {
-            // Super Boost
-            return new GameEvent(EventType.SUPER_BOOST);
-        } else {
-            // Alien Invasion
-            return new GameEvent(EventType.ALIEN_INVASION);
-        }
-    }
-
     /**
      * Interface for crystal ball roll callbacks.
      */
     public interface CrystalBallRollListener {
+        void onRollRequested();
+
         void onRollComplete(GameEvent event);
     }
 }
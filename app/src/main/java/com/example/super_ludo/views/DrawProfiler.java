@@ -0,0 +1,152 @@
+package com.example.super_ludo.views;
+
+import android.os.Trace;
+
+import com.example.super_ludo.utils.LatencyHistogram;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Draw-time statistics for one custom view class.
+ *
+ * Every onDraw is timed into a {@link LatencyHistogram} for the whole run and
+ * one for the current game phase, and wrapped in an android.os.Trace section
+ * so it shows up in systrace. Invalidations are counted alongside, in total
+ * and per phase, which tells redundant redraws apart from expensive ones.
+ */
+public final class DrawProfiler {
+
+    /**
+     * What the game is doing, so jank can be attributed to a phase.
+     */
+    public enum Phase {
+        WAITING_FOR_ROLL,
+        ROLLING,
+        SELECTING,
+        GAME_OVER
+    }
+
+    private static final List<DrawProfiler> PROFILERS = new CopyOnWriteArrayList<>();
+    private static volatile Phase phase = Phase.WAITING_FOR_ROLL;
+
+    private final String name;
+    private final String traceSection;
+    private final LatencyHistogram total = new LatencyHistogram();
+    private final LatencyHistogram[] byPhase = new LatencyHistogram[Phase.values().length];
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong[] invalidationsByPhase = new AtomicLong[Phase.values().length];
+
+    private DrawProfiler(String name) {
+        this.name = name;
+        this.traceSection = name + ".onDraw";
+        for (int i = 0; i < byPhase.length; i++) {
+            byPhase[i] = new LatencyHistogram();
+            invalidationsByPhase[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Create the profiler for a view class; call once from a static field.
+     */
+    static DrawProfiler register(String name) {
+        DrawProfiler profiler = new DrawProfiler(name);
+        PROFILERS.add(profiler);
+        return profiler;
+    }
+
+    /**
+     * Set the phase later draws are attributed to.
+     */
+    public static void setPhase(Phase newPhase) {
+        phase = newPhase;
+    }
+
+    /**
+     * Start timing a draw.
+     *
+     * @return The start time to pass to {@link #end(long)}
+     */
+    long begin() {
+        Trace.beginSection(traceSection);
+        return System.nanoTime();
+    }
+
+    /**
+     * Finish timing a draw started with {@link #begin()}.
+     */
+    void end(long start) {
+        long elapsed = System.nanoTime() - start;
+        total.record(elapsed);
+        byPhase[phase.ordinal()].record(elapsed);
+        Trace.endSection();
+    }
+
+    void countInvalidation() {
+        invalidations.incrementAndGet();
+        invalidationsByPhase[phase.ordinal()].incrementAndGet();
+    }
+
+    /**
+     * Get a short report with one line per view, for an on-screen overlay.
+     */
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (DrawProfiler profiler : PROFILERS) {
+            if (summary.length() > 0) {
+                summary.append('\n');
+            }
+            summary.append(String.format(Locale.US, "%-16s p50 %5.2f  p99 %5.2f ms  n %d  inv %d",
+                    profiler.name,
+                    profiler.total.getPercentile(50) / 1e6,
+                    profiler.total.getPercentile(99) / 1e6,
+                    profiler.total.getCount(),
+                    profiler.invalidations.get()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Write a full report, broken down by game phase.
+     */
+    public static void dump(PrintWriter out) {
+        out.println("view,phase,draws,p50_ms,p90_ms,p99_ms,max_bucket_ms,invalidations");
+        for (DrawProfiler profiler : PROFILERS) {
+            dumpRow(out, profiler, "ALL", profiler.total, profiler.invalidations.get());
+            for (Phase p : Phase.values()) {
+                dumpRow(out, profiler, p.name(), profiler.byPhase[p.ordinal()],
+                        profiler.invalidationsByPhase[p.ordinal()].get());
+            }
+        }
+    }
+
+    private static void dumpRow(PrintWriter out, DrawProfiler profiler, String phaseName,
+                                LatencyHistogram histogram, long invalidations) {
+        out.printf(Locale.US, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f,%d%n",
+                profiler.name, phaseName, histogram.getCount(),
+                histogram.getPercentile(50) / 1e6,
+                histogram.getPercentile(90) / 1e6,
+                histogram.getPercentile(99) / 1e6,
+                histogram.getPercentile(100) / 1e6,
+                invalidations);
+    }
+
+    /**
+     * Clear every view's statistics.
+     */
+    public static void resetAll() {
+        for (DrawProfiler profiler : PROFILERS) {
+            profiler.total.reset();
+            for (LatencyHistogram histogram : profiler.byPhase) {
+                histogram.reset();
+            }
+            profiler.invalidations.set(0);
+            for (AtomicLong count : profiler.invalidationsByPhase) {
+                count.set(0);
+            }
+        }
+    }
+}
@@ -13,12 +13,15 @@ import androidx.core.content.ContextCompat;
 import com.example.super_ludo.R;
 import com.example.super_ludo.models.EventType;
 import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.utils.ResourceUtils;
 
 /**
  * Custom view for displaying game events.
  */
 public class GameEventView extends View {
 
+    private static final DrawProfiler PROFILER = DrawProfiler.register("GameEventView");
+
     private Paint backgroundPaint;
     private Paint textPaint;
     private Paint iconPaint;
@@ -27,6 +30,8 @@ public class GameEventView extends View {
     private String title;
     private String description;
     private Drawable iconDrawable;
+    // Description wrapped to the current size, null until the next draw
+    private String[] descriptionLines;
 
     public GameEventView(Context context) {
         super(context);
@@ -61,22 +66,44 @@ public class GameEventView extends View {
 
         if (event != null) {
             // Set title and description from resources
-            title = getContext().getString(event.getTitleResourceId());
-            description = getContext().getString(event.getDescriptionResourceId());
+            title = getContext().getString(ResourceUtils.getEventTitleResourceId(event));
+            description = getContext().getString(ResourceUtils.getEventDescriptionResourceId(event));
 
             // Set icon drawable
-            iconDrawable = ContextCompat.getDrawable(getContext(), event.getDrawableResourceId());
+            iconDrawable = ContextCompat.getDrawable(getContext(), ResourceUtils.getEventDrawableResourceId(event));
         } else {
             title = "";
             description = "";
             iconDrawable = null;
         }
 
+        descriptionLines = null;
         invalidate();
     }
 
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        descriptionLines = null;
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
+        long start = PROFILER.begin();
+        try {
+            drawContent(canvas);
+        } finally {
+            PROFILER.end(start);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        PROFILER.countInvalidation();
+        super.invalidate();
+    }
+
+    private void drawContent(Canvas canvas) {
         super.onDraw(canvas);
 
         int width = getWidth();
@@ -103,7 +130,7 @@ public class GameEventView extends View {
             // For normal roll, draw the number
             if (event.getType() == EventType.NORMAL_ROLL) {
                 textPaint.setTextSize(iconSize * 0.5f);
-                canvas.drawText(String.valueOf(event.getValue()),
+                canvas.drawText(RenderResources.get(getContext()).getNumber(event.getValue()),
                         width / 2f,
                         top + iconSize / 2f + textPaint.getTextSize() / 3,
                         textPaint);
@@ -114,11 +141,13 @@ public class GameEventView extends View {
         textPaint.setTextSize(height * 0.06f);
 
         // Split description into lines if needed
-        String[] lines = splitTextIntoLines(description, width, textPaint);
+        if (descriptionLines == null) {
+            descriptionLines = splitTextIntoLines(description, width, textPaint);
+        }
         float lineY = height * 0.7f;
         float lineSpacing = textPaint.getTextSize() * 1.2f;
 
-        for (String line : lines) {
+        for (String line : descriptionLines) {
             canvas.drawText(line, width / 2f, lineY, textPaint);
             lineY += lineSpacing;
         }
@@ -14,7 +14,6 @@ import androidx.core.content.ContextCompat;
 
 import com.example.super_ludo.R;
 import com.example.super_ludo.models.Player;
-import com.example.super_ludo.models.PlayerColor;
 import com.example.super_ludo.models.Spaceship;
 
 import java.util.List;
@@ -24,10 +23,18 @@ import java.util.List;
  */
 public class PlayerStatusView extends View {
 
+    private static final DrawProfiler PROFILER = DrawProfiler.register("PlayerStatusView");
+
     private Paint backgroundPaint;
     private Paint namePaint;
     private Paint statusPaint;
     private Paint activeIndicatorPaint;
+    private Paint homePaint;
+
+    // Reused on every draw so onDraw does not allocate
+    private RenderResources resources;
+    private final RectF backgroundRect = new RectF();
+    private final RectF indicatorRect = new RectF();
 
     private Player player;
     private boolean isActive;
@@ -49,6 +56,8 @@ public class PlayerStatusView extends View {
     }
 
     private void init() {
+        resources = RenderResources.get(getContext());
+
         // Initialize paints
         backgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         backgroundPaint.setColor(ContextCompat.getColor(getContext(), R.color.colorPrimaryDark));
@@ -63,6 +72,12 @@ public class PlayerStatusView extends View {
 
         activeIndicatorPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         activeIndicatorPaint.setColor(ContextCompat.getColor(getContext(), R.color.colorAccent));
+        activeIndicatorPaint.setStyle(Paint.Style.STROKE);
+
+        homePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        homePaint.setColor(resources.white);
+        homePaint.setStyle(Paint.Style.STROKE);
+        homePaint.setStrokeWidth(3f);
 
         // Default values
         isActive = false;
@@ -86,6 +101,21 @@ public class PlayerStatusView extends View {
 
     @Override
     protected void onDraw(Canvas canvas) {
+        long start = PROFILER.begin();
+        try {
+            drawContent(canvas);
+        } finally {
+            PROFILER.end(start);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        PROFILER.countInvalidation();
+        super.invalidate();
+    }
+
+    private void drawContent(Canvas canvas) {
         super.onDraw(canvas);
 
         int width = getWidth();
@@ -93,17 +123,16 @@ public class PlayerStatusView extends View {
         float padding = height * 0.1f;
 
         // Draw background with rounded corners
-        RectF backgroundRect = new RectF(0, 0, width, height);
+        backgroundRect.set(0, 0, width, height);
         canvas.drawRoundRect(backgroundRect, height * 0.2f, height * 0.2f, backgroundPaint);
 
         // Draw active indicator
         if (isActive) {
-            RectF indicatorRect = new RectF(
+            indicatorRect.set(
                     padding / 2,
                     padding / 2,
                     width - padding / 2,
                     height - padding / 2);
-            activeIndicatorPaint.setStyle(Paint.Style.STROKE);
             activeIndicatorPaint.setStrokeWidth(padding / 2);
             canvas.drawRoundRect(indicatorRect, height * 0.15f, height * 0.15f, activeIndicatorPaint);
         }
@@ -126,30 +155,8 @@ public class PlayerStatusView extends View {
             Spaceship ship = ships.get(i);
             float shipX = shipStartX + i * (shipSize * 1.2f);
 
-            // Get proper ship drawable based on color
-            PlayerColor color = player.getColor();
-            int drawableId;
-
-            switch (color) {
-                case BLUE:
-                    drawableId = R.drawable.spaceship_blue;
-                    break;
-                case GREEN:
-                    drawableId = R.drawable.spaceship_green;
-                    break;
-                case RED:
-                    drawableId = R.drawable.spaceship_red;
-                    break;
-                case YELLOW:
-                    drawableId = R.drawable.spaceship_yellow;
-                    break;
-                default:
-                    drawableId = R.drawable.spaceship_blue;
-                    break;
-            }
-
             // Draw the ship
-            Drawable shipDrawable = ContextCompat.getDrawable(getContext(), drawableId);
+            Drawable shipDrawable = resources.getShipDrawable(player.getColor());
             if (shipDrawable != null) {
                 int left = (int) (shipX - shipSize / 2);
                 int top = (int) (shipY - shipSize / 2);
@@ -161,11 +168,6 @@ public class PlayerStatusView extends View {
 
                 // If ship has reached home, draw indicator
                 if (ship.hasReachedHome()) {
-                    Paint homePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-                    homePaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
-                    homePaint.setStyle(Paint.Style.STROKE);
-                    homePaint.setStrokeWidth(3f);
-
                     canvas.drawCircle(shipX, shipY, shipSize * 0.6f, homePaint);
                 }
             }
@@ -178,29 +180,4 @@ public class PlayerStatusView extends View {
         float statusY = height * 0.6f;
         canvas.drawText(statusText, statusX, statusY, statusPaint);
     }
-
-    // Helper method to load drawable
-    private Drawable getShipDrawable(Context context, PlayerColor color) {
-        int drawableId;
-
-        switch (color) {
-            case BLUE:
-                drawableId = R.drawable.spaceship_blue;
-                break;
-            case GREEN:
-                drawableId = R.drawable.spaceship_green;
-                break;
-            case RED:
-                drawableId = R.drawable.spaceship_red;
-                break;
-            case YELLOW:
-                drawableId = R.drawable.spaceship_yellow;
-                break;
-            default:
-                drawableId = R.drawable.spaceship_blue;
-                break;
-        }
-
-        return ContextCompat.getDrawable(context, drawableId);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.example.super_ludo.views;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+
+import androidx.core.content.ContextCompat;
+
+import com.example.super_ludo.R;
+import com.example.super_ludo.models.PlayerColor;
+import com.example.super_ludo.utils.ResourceUtils;
+
+/**
+ * Colors, drawables and labels shared by the custom views.
+ *
+ * Everything is resolved once per process so that onDraw never looks up
+ * resources or allocates. Only use it from the UI thread.
+ */
+final class RenderResources {
+
+    private static RenderResources instance;
+
+    private final int[] playerColors = new int[PlayerColor.values().length];
+    private final Drawable[] shipDrawables = new Drawable[PlayerColor.values().length];
+    // Labels for ship numbers and roll values
+    private final String[] numbers = new String[10];
+
+    final int white;
+    final int black;
+    final int accent;
+    final int primaryDark;
+    final int boardBackground;
+    final int safeZone;
+
+    private RenderResources(Context context) {
+        for (PlayerColor color : PlayerColor.values()) {
+            playerColors[color.ordinal()] = ContextCompat.getColor(context, getColorResourceId(color));
+            shipDrawables[color.ordinal()] = ContextCompat.getDrawable(context,
+                    ResourceUtils.getShipDrawableResourceId(color));
+        }
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = String.valueOf(i);
+        }
+
+        white = ContextCompat.getColor(context, android.R.color.white);
+        black = ContextCompat.getColor(context, android.R.color.black);
+        accent = ContextCompat.getColor(context, R.color.colorAccent);
+        primaryDark = ContextCompat.getColor(context, R.color.colorPrimaryDark);
+        boardBackground = ContextCompat.getColor(context, R.color.boardBackground);
+        safeZone = ContextCompat.getColor(context, R.color.safeZone);
+    }
+
+    static RenderResources get(Context context) {
+        if (instance == null) {
+            instance = new RenderResources(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Get the resolved color of a player.
+     */
+    int getPlayerColor(PlayerColor color) {
+        return playerColors[color.ordinal()];
+    }
+
+    /**
+     * Get the spaceship drawable of a player; set its bounds before every draw.
+     */
+    Drawable getShipDrawable(PlayerColor color) {
+        return shipDrawables[color.ordinal()];
+    }
+
+    /**
+     * Get the label for a small non-negative number, such as a ship number or roll value.
+     */
+    String getNumber(int value) {
+        return value >= 0 && value < numbers.length ? numbers[value] : String.valueOf(value);
+    }
+
+    private static int getColorResourceId(PlayerColor color) {
+        switch (color) {
+            case GREEN:
+                return R.color.playerGreen;
+            case RED:
+                return R.color.playerRed;
+            case YELLOW:
+                return R.color.playerYellow;
+            default:
+                return R.color.playerBlue;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.super_ludo.views;
+
+import android.view.Choreographer;
+import android.view.View;
+
+import com.example.super_ludo.models.BoardCell;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.Spaceship;
+import com.example.super_ludo.utils.Constants;
+
+/**
+ * Moves ships drawn by {@link BoardView} from cell to cell.
+ *
+ * Forward moves along a ship's path hop through every cell in between; other
+ * moves (captures, teleports, undo) glide straight to the new cell. All ships
+ * in flight are advanced by one Choreographer frame callback, which
+ * invalidates the view once per frame. Positions are in cell units and
+ * waypoint buffers are preallocated, so running animations do not allocate.
+ */
+final class ShipAnimator implements Choreographer.FrameCallback {
+
+    private static final int SHIP_COUNT = CompactGameState.SHIP_COUNT;
+    // Ship codes are six bits, so no path has more cells than this
+    private static final int MAX_WAYPOINTS = 64;
+    private static final long HOP_DURATION_MS = 150;
+
+    private final View view;
+    private int speedPercent = 100;
+
+    // Per slot: the cells to pass through, in cell units
+    private final float[][] waypointX = new float[SHIP_COUNT][MAX_WAYPOINTS];
+    private final float[][] waypointY = new float[SHIP_COUNT][MAX_WAYPOINTS];
+    private final int[] waypointCount = new int[SHIP_COUNT];
+    private final long[] segmentNanos = new long[SHIP_COUNT];
+    private final long[] startNanos = new long[SHIP_COUNT]; // -1 until the first frame
+    private final boolean[] active = new boolean[SHIP_COUNT];
+    private final float[] currentX = new float[SHIP_COUNT];
+    private final float[] currentY = new float[SHIP_COUNT];
+
+    private boolean frameCallbackPosted;
+
+    ShipAnimator(View view) {
+        this.view = view;
+    }
+
+    /**
+     * Set the animation speed as a percentage of normal, see SettingsViewModel.getAnimationSpeed.
+     */
+    void setSpeed(int percent) {
+        speedPercent = Math.max(1, percent);
+    }
+
+    boolean isAnimating(int slot) {
+        return active[slot];
+    }
+
+    boolean isAnyAnimating() {
+        return frameCallbackPosted;
+    }
+
+    /**
+     * Get the current column of an animating ship's cell, fractional while between cells.
+     */
+    float getX(int slot) {
+        return currentX[slot];
+    }
+
+    /**
+     * Get the current row of an animating ship's cell, fractional while between cells.
+     */
+    float getY(int slot) {
+        return currentY[slot];
+    }
+
+    /**
+     * Animate a ship from one position to another.
+     *
+     * @param fromCode Previous position as a ship code, see {@link CompactGameState#getShipCode(Spaceship)}
+     * @param toCode New position as a ship code
+     */
+    void start(GameBoard board, Spaceship ship, int fromCode, int toCode) {
+        int slot = CompactGameState.getSlot(ship);
+        float[] xs = waypointX[slot];
+        float[] ys = waypointY[slot];
+        int count = 0;
+
+        // Start from where the ship is shown now if it is already moving
+        if (active[slot]) {
+            xs[count] = currentX[slot];
+            ys[count] = currentY[slot];
+            count++;
+        } else {
+            count = addCell(xs, ys, count, getCell(board, ship, fromCode));
+        }
+
+        long duration;
+        if (fromCode != CompactGameState.BASE_CODE && toCode > fromCode && !active[slot]) {
+            // Hop through every cell along the path
+            for (int code = fromCode + 1; code <= toCode && count < MAX_WAYPOINTS; code++) {
+                count = addCell(xs, ys, count, getCell(board, ship, code));
+            }
+            duration = HOP_DURATION_MS;
+        } else {
+            count = addCell(xs, ys, count, getCell(board, ship, toCode));
+            duration = Constants.ANIM_DURATION_MOVE;
+        }
+
+        if (count < 2) {
+            active[slot] = false;
+            return;
+        }
+
+        waypointCount[slot] = count;
+        segmentNanos[slot] = duration * 1000000L * 100 / speedPercent;
+        startNanos[slot] = -1;
+        currentX[slot] = xs[0];
+        currentY[slot] = ys[0];
+        active[slot] = true;
+
+        if (!frameCallbackPosted) {
+            frameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Stop every animation, leaving ships in their cells.
+     */
+    void cancelAll() {
+        for (int slot = 0; slot < SHIP_COUNT; slot++) {
+            active[slot] = false;
+        }
+        if (frameCallbackPosted) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            frameCallbackPosted = false;
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameCallbackPosted = false;
+        boolean moved = false;
+        boolean running = false;
+
+        for (int slot = 0; slot < SHIP_COUNT; slot++) {
+            if (!active[slot]) {
+                continue;
+            }
+            if (startNanos[slot] < 0) {
+                startNanos[slot] = frameTimeNanos;
+            }
+            moved = true;
+
+            long elapsed = frameTimeNanos - startNanos[slot];
+            int segment = (int) (elapsed / segmentNanos[slot]);
+            int last = waypointCount[slot] - 1;
+            if (segment >= last) {
+                // Arrived; the ship is drawn in its cell again
+                currentX[slot] = waypointX[slot][last];
+                currentY[slot] = waypointY[slot][last];
+                active[slot] = false;
+            } else {
+                float t = (float) (elapsed - segment * segmentNanos[slot]) / segmentNanos[slot];
+                t = t * t * (3 - 2 * t); // Ease in and out of every hop
+                float[] xs = waypointX[slot];
+                float[] ys = waypointY[slot];
+                currentX[slot] = xs[segment] + (xs[segment + 1] - xs[segment]) * t;
+                currentY[slot] = ys[segment] + (ys[segment + 1] - ys[segment]) * t;
+                running = true;
+            }
+        }
+
+        if (moved) {
+            view.invalidate();
+        }
+        if (running) {
+            frameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    private static int addCell(float[] xs, float[] ys, int count, BoardCell cell) {
+        if (cell == null) {
+            return count;
+        }
+        xs[count] = cell.getX();
+        ys[count] = cell.getY();
+        return count + 1;
+    }
+
+    private static BoardCell getCell(GameBoard board, Spaceship ship, int code) {
+        if (code == CompactGameState.BASE_CODE) {
+            return board.getBasePosition(ship.getColor(), ship.getShipNumber() - 1);
+        }
+        return board.getPathCell(ship.getColor(), code - 1);
+    }
+}
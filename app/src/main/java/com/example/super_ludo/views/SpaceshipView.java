@@ -19,10 +19,19 @@ import com.example.super_ludo.models.PlayerColor;
  */
 public class SpaceshipView extends View {
 
+    private static final DrawProfiler PROFILER = DrawProfiler.register("SpaceshipView");
+
     private Paint bodyPaint;
     private Paint windowPaint;
     private Paint enginePaint;
     private Paint glowPaint;
+    private Paint textPaint;
+    private Paint homeRingPaint;
+    private Paint homeFillPaint;
+
+    // Shapes for the current size, rebuilt in onSizeChanged
+    private final Path bodyPath = new Path();
+    private final Path glowPath = new Path();
 
     private int shipColor;
     private PlayerColor playerColor;
@@ -51,6 +60,30 @@ public class SpaceshipView extends View {
         shipNumber = 1;
         reachedHome = false;
 
+        // Initialize paints
+        bodyPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        bodyPaint.setStyle(Paint.Style.FILL);
+
+        windowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        windowPaint.setStyle(Paint.Style.FILL);
+
+        enginePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        enginePaint.setStyle(Paint.Style.FILL);
+
+        glowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        glowPaint.setStyle(Paint.Style.FILL);
+
+        textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        textPaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
+        textPaint.setTextAlign(Paint.Align.CENTER);
+
+        homeRingPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        homeRingPaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
+        homeRingPaint.setStyle(Paint.Style.STROKE);
+
+        homeFillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        homeFillPaint.setStyle(Paint.Style.FILL);
+
         // Parse custom attributes if available
         if (attrs != null) {
             TypedArray a = getContext().obtainStyledAttributes(attrs, R.styleable.SpaceshipView);
@@ -68,19 +101,6 @@ public class SpaceshipView extends View {
             a.recycle();
         }
 
-        // Initialize paints
-        bodyPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        bodyPaint.setStyle(Paint.Style.FILL);
-
-        windowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        windowPaint.setStyle(Paint.Style.FILL);
-
-        enginePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        enginePaint.setStyle(Paint.Style.FILL);
-
-        glowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        glowPaint.setStyle(Paint.Style.FILL);
-
         updateColors();
     }
 
@@ -110,6 +130,7 @@ public class SpaceshipView extends View {
         enginePaint.setColor(engineColor);
 
         glowPaint.setColor(windowColor);
+        homeFillPaint.setColor(windowColor);
 
         invalidate();
     }
@@ -156,8 +177,51 @@ public class SpaceshipView extends View {
         return reachedHome;
     }
 
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        float shipWidth = w * 0.8f;
+        float shipHeight = h * 0.7f;
+        float x = w / 2f;
+        float y = h / 2f;
+
+        // Ship body (triangle pointing up)
+        bodyPath.rewind();
+        bodyPath.moveTo(x, y - shipHeight/2); // Top point
+        bodyPath.lineTo(x - shipWidth/2, y + shipHeight/2); // Bottom left
+        bodyPath.lineTo(x + shipWidth/2, y + shipHeight/2); // Bottom right
+        bodyPath.close();
+
+        // Glow effect
+        glowPath.rewind();
+        glowPath.moveTo(x, y - shipHeight/2); // Top point
+        glowPath.lineTo(x + shipWidth * 0.1f, y - shipHeight * 0.3f); // Right glow
+        glowPath.lineTo(x + shipWidth * 0.3f, y); // Right mid
+        glowPath.lineTo(x + shipWidth * 0.1f, y + shipHeight * 0.2f); // Right bottom
+        glowPath.close();
+
+        textPaint.setTextSize(shipWidth * 0.3f);
+        homeRingPaint.setStrokeWidth(w * 0.05f);
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
+        long start = PROFILER.begin();
+        try {
+            drawContent(canvas);
+        } finally {
+            PROFILER.end(start);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        PROFILER.countInvalidation();
+        super.invalidate();
+    }
+
+    private void drawContent(Canvas canvas) {
         super.onDraw(canvas);
 
         int width = getWidth();
@@ -180,12 +244,6 @@ public class SpaceshipView extends View {
         float y = height / 2f;
 
         // Ship body (triangle pointing up)
-        Path bodyPath = new Path();
-        bodyPath.moveTo(x, y - shipHeight/2); // Top point
-        bodyPath.lineTo(x - shipWidth/2, y + shipHeight/2); // Bottom left
-        bodyPath.lineTo(x + shipWidth/2, y + shipHeight/2); // Bottom right
-        bodyPath.close();
-
         canvas.drawPath(bodyPath, bodyPaint);
 
         // Windows (circle in the middle)
@@ -203,38 +261,19 @@ public class SpaceshipView extends View {
                 enginePaint);
 
         // Glow effect
-        Path glowPath = new Path();
-        glowPath.moveTo(x, y - shipHeight/2); // Top point
-        glowPath.lineTo(x + shipWidth * 0.1f, y - shipHeight * 0.3f); // Right glow
-        glowPath.lineTo(x + shipWidth * 0.3f, y); // Right mid
-        glowPath.lineTo(x + shipWidth * 0.1f, y + shipHeight * 0.2f); // Right bottom
-        glowPath.close();
-
         canvas.drawPath(glowPath, glowPaint);
 
         // Ship number
-        Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        textPaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
-        textPaint.setTextSize(shipWidth * 0.3f);
-        textPaint.setTextAlign(Paint.Align.CENTER);
-
         float textY = y + textPaint.getTextSize() * 0.3f; // Adjust for vertical centering
-        canvas.drawText(String.valueOf(shipNumber), x, textY, textPaint);
+        canvas.drawText(RenderResources.get(getContext()).getNumber(shipNumber), x, textY, textPaint);
     }
 
     private void drawHomeIndicator(Canvas canvas, int width, int height) {
-        Paint homePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        homePaint.setColor(ContextCompat.getColor(getContext(), android.R.color.white));
-        homePaint.setStyle(Paint.Style.STROKE);
-        homePaint.setStrokeWidth(width * 0.05f);
-
         // Draw a circle around the ship
         float radius = Math.min(width, height) / 2f * 0.9f;
-        canvas.drawCircle(width / 2f, height / 2f, radius, homePaint);
+        canvas.drawCircle(width / 2f, height / 2f, radius, homeRingPaint);
 
         // Draw an inner circle
-        homePaint.setColor(lightenColor(shipColor));
-        homePaint.setStyle(Paint.Style.FILL);
-        canvas.drawCircle(width / 2f, height / 2f, radius * 0.8f, homePaint);
+        canvas.drawCircle(width / 2f, height / 2f, radius * 0.8f, homeFillPaint);
     }
 }
@@ -0,0 +1,26 @@
+// Benchmarks module build.gradle.kts
+// JMH benchmarks for the core rules engine and models.
+// Run with: ./gradlew :benchmarks:jmh
+plugins {
+    id("java")
+    id("me.champeau.jmh")
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    jmh(project(":core"))
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
@@ -0,0 +1,23 @@
+package com.example.super_ludo.benchmarks;
+
+import com.example.super_ludo.models.GameBoard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating a game's board; the layout and path lookup tables are shared.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoardBenchmark {
+
+    @Benchmark
+    public GameBoard construct() {
+        return new GameBoard();
+    }
+}
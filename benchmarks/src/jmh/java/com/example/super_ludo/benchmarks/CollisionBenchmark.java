@@ -0,0 +1,60 @@
+package com.example.super_ludo.benchmarks;
+
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.PlayerColor;
+import com.example.super_ludo.models.Spaceship;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collision checks after a move, with and without a capture.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionBenchmark {
+
+    // A track cell that is not a safe zone
+    private static final int BLUE_PATH_INDEX = 3;
+
+    private GameState gameState;
+    private RulesEngine engine;
+    private Spaceship blueShip;
+    private Spaceship greenShip;
+    private int greenPathIndex;
+
+    @Setup
+    public void setUp() {
+        gameState = new GameState();
+        gameState.initialize(2);
+        engine = new RulesEngine();
+        blueShip = gameState.getPlayers().get(0).getSpaceships().get(0);
+        greenShip = gameState.getPlayers().get(1).getSpaceships().get(0);
+        gameState.moveShip(blueShip, BLUE_PATH_INDEX);
+
+        GameBoard board = gameState.getBoard();
+        greenPathIndex = board.getPathIndex(PlayerColor.GREEN, blueShip.getPosition());
+    }
+
+    @Benchmark
+    public int noCapture() {
+        return engine.checkForCollisions(gameState, blueShip);
+    }
+
+    @Benchmark
+    public int capture() {
+        // Put the opponent back on the cell so every call captures it
+        gameState.moveShip(greenShip, greenPathIndex);
+        return engine.checkForCollisions(gameState, blueShip);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.super_ludo.benchmarks;
+
+import com.example.super_ludo.models.EventSampler;
+import com.example.super_ludo.models.GameEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing Crystal Ball events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSamplingBenchmark {
+
+    private EventSampler sampler;
+    private double[] cumulative;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        sampler = EventSampler.fromConstants();
+        random = new SplittableRandom(42);
+
+        // Cumulative probabilities for comparison with a linear search
+        double[] probabilities = sampler.getProbabilities();
+        cumulative = new double[probabilities.length];
+        for (int code = 1; code < probabilities.length; code++) {
+            cumulative[code] = cumulative[code - 1] + probabilities[code];
+        }
+    }
+
+    @Benchmark
+    public GameEvent aliasMethod() {
+        return sampler.sample(random);
+    }
+
+    @Benchmark
+    public GameEvent cumulativeSearch() {
+        double r = random.nextDouble();
+        int code = 1;
+        while (code < GameEvent.OUTCOME_COUNT && r >= cumulative[code]) {
+            code++;
+        }
+        return GameEvent.fromCode(code);
+    }
+}
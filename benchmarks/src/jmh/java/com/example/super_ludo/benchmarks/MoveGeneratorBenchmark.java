@@ -0,0 +1,51 @@
+package com.example.super_ludo.benchmarks;
+
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.models.EventType;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Legal move generation over a fixed set of 4-player mid-game positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoveGeneratorBenchmark {
+
+    private static final int POSITION_COUNT = 256;
+
+    private GameState[] positions;
+    private GameEvent[] events;
+    private int[] moves;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        positions = Playouts.createPositions(POSITION_COUNT, 4, 7);
+        events = new GameEvent[] {
+                GameEvent.fromCode(1), GameEvent.fromCode(3), GameEvent.fromCode(6),
+                new GameEvent(EventType.METEOR_STRIKE),
+                new GameEvent(EventType.WORMHOLE),
+                new GameEvent(EventType.ALIEN_INVASION)
+        };
+        moves = new int[MoveGenerator.MAX_MOVES];
+    }
+
+    @Benchmark
+    public int generate() {
+        int i = index++;
+        GameState gameState = positions[i & (POSITION_COUNT - 1)];
+        return MoveGenerator.generate(gameState, events[i % events.length], moves);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.super_ludo.benchmarks;
+
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.GameState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full random games from a fresh board to a winner.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PlayoutBenchmark {
+
+    @Param({"2", "4"})
+    public int playerCount;
+
+    private SplittableRandom rolls;
+    private Random random;
+    private RulesEngine engine;
+    private int[] moves;
+
+    @Setup
+    public void setUp() {
+        rolls = new SplittableRandom(42);
+        random = new Random(42);
+        engine = new RulesEngine(random);
+        moves = new int[MoveGenerator.MAX_MOVES];
+    }
+
+    @Benchmark
+    public int fullGame() {
+        GameState gameState = new GameState();
+        gameState.initialize(playerCount);
+        return Playouts.play(gameState, engine, rolls, random, moves, Playouts.MAX_TURNS);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.super_ludo.benchmarks;
+
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.EventSampler;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.SelectionPhase;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Random playouts shared by the benchmarks.
+ */
+final class Playouts {
+
+    // Safety cap, random games finish well before this
+    static final int MAX_TURNS = 5000;
+
+    static final EventSampler EVENTS = EventSampler.fromConstants();
+
+    private Playouts() {
+    }
+
+    /**
+     * Play random turns until the game is over or a turn limit is hit.
+     *
+     * @param rolls Source for Crystal Ball rolls
+     * @param random Source for move choices
+     * @return The number of turns played
+     */
+    static int play(GameState gameState, RulesEngine engine, SplittableRandom rolls, Random random,
+                    int[] moves, int maxTurns) {
+        int turns = 0;
+        while (!gameState.isGameOver() && turns < maxTurns) {
+            GameEvent event = EVENTS.sample(rolls);
+            engine.processRoll(gameState, event);
+
+            if (gameState.getSelectionPhase() != SelectionPhase.NONE) {
+                int count = MoveGenerator.generate(gameState, event, moves);
+                engine.applyMove(gameState, moves[random.nextInt(count)]);
+            }
+            turns++;
+        }
+        return turns;
+    }
+
+    /**
+     * Build a set of reproducible mid-game positions.
+     */
+    static GameState[] createPositions(int count, int playerCount, long seed) {
+        SplittableRandom rolls = new SplittableRandom(seed);
+        Random random = new Random(seed);
+        RulesEngine engine = new RulesEngine(random);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        GameState[] positions = new GameState[count];
+
+        for (int i = 0; i < count; i++) {
+            GameState gameState;
+            do {
+                gameState = new GameState();
+                gameState.initialize(playerCount);
+                play(gameState, engine, rolls, random, moves, 40 + random.nextInt(80));
+            } while (gameState.isGameOver());
+            positions[i] = gameState;
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.super_ludo.benchmarks;
+
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing, encoding and cloning of a 4-player mid-game position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StateBenchmark {
+
+    private GameState gameState;
+    private GameState target;
+    private CompactGameState encoded;
+
+    @Setup
+    public void setUp() {
+        gameState = Playouts.createPositions(1, 4, 11)[0];
+        encoded = CompactGameState.encode(gameState);
+        target = new GameState();
+        target.initialize(4);
+    }
+
+    @Benchmark
+    public long zobristHash() {
+        return gameState.getZobristHash();
+    }
+
+    @Benchmark
+    public long zobristRecompute() {
+        return gameState.computeZobristHash();
+    }
+
+    @Benchmark
+    public CompactGameState encode() {
+        return CompactGameState.encode(gameState);
+    }
+
+    @Benchmark
+    public GameState decodeInto() {
+        encoded.decodeInto(target);
+        return target;
+    }
+
+    @Benchmark
+    public GameState copy() {
+        return gameState.copy();
+    }
+}
@@ -0,0 +1,16 @@
+// Core module build.gradle.kts
+// Plain Java rules engine and models with no Android dependencies,
+// so the game can be simulated headless on any JVM.
+plugins {
+    id("java-library")
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    // Testing
+    testImplementation("junit:junit:4.13.2")
+}
@@ -0,0 +1,80 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.models.GameState;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a {@link MoveSearch} on a background thread with a time budget.
+ *
+ * The caller's state is copied before the search starts, so the UI thread can
+ * keep reading and drawing it while the computer thinks.
+ */
+public class ComputerPlayer {
+
+    private final MoveSearch search;
+    private final ExecutorService executor;
+
+    public ComputerPlayer() {
+        this(new ExpectimaxSearch());
+    }
+
+    public ComputerPlayer(MoveSearch search) {
+        this.search = search;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "computer-player");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start choosing a move for the pending selection.
+     *
+     * @param gameState A state waiting for a selection; it is copied on the calling thread
+     * @param budgetMillis Time the search may take
+     * @return A future completing with a move, see {@link com.example.super_ludo.engine.Move}
+     */
+    public Future<Integer> chooseMove(GameState gameState, long budgetMillis) {
+        final GameState snapshot = gameState.copy();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+
+        return executor.submit(() -> search.bestMove(snapshot, deadline));
+    }
+
+    /**
+     * Start choosing a move for the pending selection, and report it when found.
+     *
+     * @param listener Called on the search thread with the move, unless the search is cancelled first
+     * @return A future that can be cancelled to abandon the search
+     */
+    public Future<Integer> chooseMove(GameState gameState, long budgetMillis, final MoveListener listener) {
+        final GameState snapshot = gameState.copy();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+
+        return executor.submit(() -> {
+            int move = search.bestMove(snapshot, deadline);
+            if (!Thread.currentThread().isInterrupted()) {
+                listener.onMoveChosen(move);
+            }
+            return move;
+        });
+    }
+
+    /**
+     * Stop the background thread; pending searches are abandoned.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Receives the move a search has chosen.
+     */
+    public interface MoveListener {
+        void onMoveChosen(int move);
+    }
+}
@@ -0,0 +1,559 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.EventSampler;
+import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.Player;
+import com.example.super_ludo.models.PlayerColor;
+import com.example.super_ludo.models.SelectionPhase;
+import com.example.super_ludo.models.Spaceship;
+import com.example.super_ludo.models.ZobristKeys;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Depth-limited expectimax search over Crystal Ball rolls and spaceship selections.
+ *
+ * Chance nodes weigh every event outcome by its probability; decision nodes pick
+ * a spaceship. Opponents are assumed to play against the searching player
+ * (paranoid search), which bounds values to [-1, 1] and lets chance nodes be
+ * pruned with Ballard's Star1 windows and Star2 probing.
+ *
+ * The Alien Invasion teleport is random, so a target's value is the average
+ * over a few evenly spread destinations; this keeps every value the search
+ * finds a function of the position, as the table requires.
+ *
+ * Results are cached in a {@link TranspositionTable}, which several searches
+ * on different threads may share. Cached best moves are tried first, both in
+ * later iterations of the same search and in later turns.
+ *
+ * The search mutates the given state while it runs and restores it through
+ * {@link CompactGameState} snapshots. It is not thread-safe.
+ */
+public class ExpectimaxSearch implements MoveSearch {
+
+    /**
+     * Probability of each event code (index 0 unused), as rolled by the game.
+     */
+    public static final double[] DEFAULT_PROBABILITIES = EventSampler.fromConstants().getProbabilities();
+
+    public static final int MAX_DEPTH = 16;
+
+    // 2^16 entries, 1 MB
+    private static final int DEFAULT_TABLE_BITS = 16;
+
+    private static final double WIN = 1;
+    private static final double LOSS = -1;
+    // Heuristic values stay strictly inside the win/loss bounds
+    private static final double HEURISTIC_SCALE = 0.9;
+
+    // Most a ship in flight is worth next to one home, which meteors and captures cannot touch
+    static final double IN_FLIGHT = 0.8;
+    // Share of a ship's value in flight earned by leaving base; the rest grows with progress squared
+    static final double BASE_EXIT = 0.25;
+    // Share of a ship's value lost while an opponent is within one roll behind it
+    static final double CAPTURE_RISK = 0.2;
+    // Value of standing on a safe zone, where ships cannot be captured
+    static final double SAFE_ZONE = 0.05;
+    // Longest normal roll, the reach of an opponent's ship
+    private static final int MAX_ROLL = 6;
+    private static final long TRACK_MASK = (1L << GameBoard.TRACK_LENGTH) - 1;
+
+    // Teleport destinations averaged over for an Alien Invasion target
+    private static final int TELEPORT_SAMPLES = 4;
+
+    // Nodes between deadline checks
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final double[] probabilities;
+    private final RulesEngine engine;
+    private final TranspositionTable table;
+    private final int[][] moveBuffers = new int[MAX_DEPTH + 1][MoveGenerator.MAX_MOVES];
+    private final int[][] moveCounts = new int[MAX_DEPTH + 1][GameEvent.OUTCOME_COUNT + 1];
+    private final double[][] probeValues = new double[MAX_DEPTH + 1][GameEvent.OUTCOME_COUNT + 1];
+    private final int[][] probedMoves = new int[MAX_DEPTH + 1][GameEvent.OUTCOME_COUNT + 1];
+
+    private GameState state;
+    private int rootPlayer;
+    private long deadlineNanos;
+    private long nodeCount;
+    private int completedDepth;
+    private double bestValue;
+
+    public ExpectimaxSearch() {
+        this(DEFAULT_PROBABILITIES, new TranspositionTable(DEFAULT_TABLE_BITS));
+    }
+
+    /**
+     * @param probabilities Probability per event code, see {@link #DEFAULT_PROBABILITIES}
+     * @param table Cache for search results, may be shared with other searches
+     */
+    public ExpectimaxSearch(double[] probabilities, TranspositionTable table) {
+        if (probabilities.length != GameEvent.OUTCOME_COUNT + 1) {
+            throw new IllegalArgumentException("Expected a probability for every event code");
+        }
+        this.probabilities = probabilities.clone();
+        // Teleports always get their destination, so the engine never draws at random
+        this.engine = new RulesEngine(new Random(0));
+        this.table = table;
+    }
+
+    /**
+     * Get the number of nodes visited by the last search.
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Get the value of the best move found by the last completed search, from -1 (loss) to 1 (win).
+     */
+    public double getBestValue() {
+        return bestValue;
+    }
+
+    /**
+     * Get the deepest search the last call to {@link #bestMove} completed.
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * Find the best move for a pending selection, deepening until the deadline passes.
+     *
+     * @param gameState A state waiting for a selection; it is restored before returning
+     * @param deadlineNanos Deadline in {@link System#nanoTime()} units
+     * @return The move found by the deepest completed search
+     */
+    @Override
+    public int bestMove(GameState gameState, long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+        table.newSearch();
+        CompactGameState root = CompactGameState.encode(gameState);
+
+        int bestMove = -1;
+        completedDepth = 0;
+        nodeCount = 0;
+
+        try {
+            for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+                bestMove = searchRoot(gameState, depth);
+                completedDepth = depth;
+            }
+        } catch (SearchTimeout timeout) {
+            root.decodeInto(gameState);
+        }
+
+        if (bestMove < 0) {
+            // Not even depth 1 finished, fall back to the first legal move
+            int[] moves = moveBuffers[0];
+            MoveGenerator.generate(gameState, gameState.getLastEvent(), moves);
+            bestMove = moves[0];
+        }
+        return bestMove;
+    }
+
+    /**
+     * Find the best move for a pending selection with a fixed depth and no deadline.
+     */
+    public int search(GameState gameState, int depth) {
+        deadlineNanos = Long.MAX_VALUE;
+        nodeCount = 0;
+        int move = searchRoot(gameState, depth);
+        completedDepth = depth;
+        return move;
+    }
+
+    private int searchRoot(GameState gameState, int depth) {
+        if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+            throw new IllegalStateException("No selection pending");
+        }
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + MAX_DEPTH);
+        }
+
+        state = gameState;
+        rootPlayer = gameState.getCurrentPlayerIndex();
+
+        int[] moves = moveBuffers[depth];
+        int count = MoveGenerator.generate(gameState, gameState.getLastEvent(), moves);
+        long key = decisionKey();
+        moveToFront(moves, count, TranspositionTable.getBestMove(table.probe(key)));
+        CompactGameState snapshot = CompactGameState.encode(gameState);
+
+        int bestMove = moves[0];
+        double alpha = LOSS;
+        for (int i = 0; i < count; i++) {
+            double value = applyMove(moves[i], depth, alpha, WIN);
+            snapshot.decodeInto(gameState);
+
+            if (value > alpha || i == 0) {
+                alpha = Math.max(alpha, value);
+                bestMove = moves[i];
+            }
+        }
+        bestValue = alpha;
+        table.store(key, alpha, depth, TranspositionTable.BOUND_EXACT, bestMove);
+        return bestMove;
+    }
+
+    /**
+     * Apply a move and get its value; the state is left after the move for the caller to restore.
+     *
+     * An Alien Invasion target is worth the average over {@link #TELEPORT_SAMPLES}
+     * destinations spread evenly along the track, each searched with a full window.
+     */
+    private double applyMove(int move, int depth, double alpha, double beta) {
+        if (Move.getType(move) != Move.ALIEN_TARGET) {
+            engine.applyMove(state, move);
+            return afterMove(depth, alpha, beta);
+        }
+
+        Spaceship target = state.getShip(Move.getSlot(move));
+        int destinations = state.getBoard().getHomeEntranceIndex(target.getColor()) + 1;
+        CompactGameState before = CompactGameState.encode(state);
+        double total = 0;
+        for (int i = 0; i < TELEPORT_SAMPLES; i++) {
+            if (i > 0) {
+                before.decodeInto(state);
+            }
+            engine.applyMove(state, move, (2 * i + 1) * destinations / (2 * TELEPORT_SAMPLES));
+            total += afterMove(depth, LOSS, WIN);
+        }
+        return total / TELEPORT_SAMPLES;
+    }
+
+    /**
+     * Value of the position reached by a move, before the next roll.
+     */
+    private double afterMove(int depth, double alpha, double beta) {
+        if (state.isGameOver()) {
+            return terminalValue();
+        }
+        return chance(depth - 1, alpha, beta);
+    }
+
+    /**
+     * Value of a chance node: the probability-weighted value of every roll.
+     */
+    private double chance(int depth, double alpha, double beta) {
+        countNode();
+        if (depth == 0) {
+            return evaluate();
+        }
+
+        long key = state.getZobristHash() ^ ZobristKeys.perspective(rootPlayer);
+        long entry = table.probe(key);
+        if (entry != 0 && TranspositionTable.getDepth(entry) >= depth) {
+            double value = TranspositionTable.getValue(entry);
+            if (isUsable(TranspositionTable.getBound(entry), value, alpha, beta)) {
+                return value;
+            }
+        }
+
+        double value = searchChance(depth, alpha, beta);
+        table.store(key, value, depth, getBound(value, alpha, beta), TranspositionTable.NO_MOVE);
+        return value;
+    }
+
+    /**
+     * Search a chance node without consulting the transposition table.
+     */
+    private double searchChance(int depth, double alpha, double beta) {
+        boolean maximizing = state.getCurrentPlayerIndex() == rootPlayer;
+        CompactGameState snapshot = CompactGameState.encode(state);
+        double[] probes = probeValues[depth];
+        int[] counts = moveCounts[depth];
+
+        // Star2 probing: search the first move after each roll to bound every child
+        double probeSum = 0;
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            double p = probabilities[code];
+            if (p == 0) {
+                continue;
+            }
+
+            probes[code] = probe(depth, GameEvent.fromCode(code), counts, code);
+            probeSum += p * probes[code];
+            snapshot.decodeInto(state);
+        }
+
+        // A move's value bounds the decision node from the mover's side
+        if (maximizing && probeSum >= beta) {
+            return beta;
+        }
+        if (!maximizing && probeSum <= alpha) {
+            return alpha;
+        }
+
+        // Star1: search the remaining children with windows narrowed by the bounds
+        double lowerRest = 0; // Sum of p * lower bound over children not yet searched
+        double upperRest = 0; // Sum of p * upper bound over children not yet searched
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            double p = probabilities[code];
+            if (p == 0) continue;
+            lowerRest += p * lowerBound(maximizing, probes[code], counts[code]);
+            upperRest += p * upperBound(maximizing, probes[code], counts[code]);
+        }
+
+        double done = 0;
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            double p = probabilities[code];
+            if (p == 0) {
+                continue;
+            }
+
+            double lower = lowerBound(maximizing, probes[code], counts[code]);
+            double upper = upperBound(maximizing, probes[code], counts[code]);
+            lowerRest -= p * lower;
+            upperRest -= p * upper;
+
+            double value;
+            if (lower == upper) {
+                value = lower;
+            } else {
+                double childAlpha = (alpha - done - upperRest) / p;
+                double childBeta = (beta - done - lowerRest) / p;
+
+                engine.processRoll(state, GameEvent.fromCode(code));
+                value = decide(depth, Math.max(childAlpha, lower), Math.min(childBeta, upper),
+                        probedMoves[depth][code], probes[code]);
+                snapshot.decodeInto(state);
+
+                if (value <= childAlpha) {
+                    return alpha;
+                }
+                if (value >= childBeta) {
+                    return beta;
+                }
+            }
+            done += p * value;
+        }
+        return done;
+    }
+
+    /**
+     * Apply a roll and search its first move.
+     *
+     * @return The exact value when the roll leaves no choice, otherwise the first move's value
+     */
+    private double probe(int depth, GameEvent event, int[] counts, int code) {
+        engine.processRoll(state, event);
+
+        if (state.getSelectionPhase() == SelectionPhase.NONE) {
+            counts[code] = 0;
+            return afterMove(depth, LOSS, WIN);
+        }
+
+        int[] moves = moveBuffers[depth];
+        int count = MoveGenerator.generate(state, event, moves);
+        moveToFront(moves, count, TranspositionTable.getBestMove(table.probe(decisionKey())));
+        counts[code] = count;
+        probedMoves[depth][code] = moves[0];
+        return applyMove(moves[0], depth, LOSS, WIN);
+    }
+
+    private double lowerBound(boolean maximizing, double probe, int moveCount) {
+        return maximizing || moveCount <= 1 ? probe : LOSS;
+    }
+
+    private double upperBound(boolean maximizing, double probe, int moveCount) {
+        return !maximizing || moveCount <= 1 ? probe : WIN;
+    }
+
+    /**
+     * Value of a decision node, reusing the already searched value of its first move.
+     */
+    private double decide(int depth, double alpha, double beta, int firstMove, double firstValue) {
+        countNode();
+        long key = decisionKey();
+        long entry = table.probe(key);
+        if (entry != 0 && TranspositionTable.getDepth(entry) >= depth) {
+            double value = TranspositionTable.getValue(entry);
+            if (isUsable(TranspositionTable.getBound(entry), value, alpha, beta)) {
+                return value;
+            }
+        }
+
+        boolean maximizing = state.getCurrentPlayerIndex() == rootPlayer;
+        double alphaIn = alpha;
+        double betaIn = beta;
+
+        int[] moves = moveBuffers[depth];
+        int count = MoveGenerator.generate(state, state.getLastEvent(), moves);
+        CompactGameState snapshot = CompactGameState.encode(state);
+
+        double best = firstValue;
+        int bestMove = firstMove;
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == firstMove) {
+                continue;
+            }
+            if (maximizing ? best >= beta : best <= alpha) {
+                break;
+            }
+            if (maximizing) {
+                alpha = Math.max(alpha, best);
+            } else {
+                beta = Math.min(beta, best);
+            }
+
+            double value = applyMove(moves[i], depth, alpha, beta);
+            snapshot.decodeInto(state);
+
+            if (maximizing ? value > best : value < best) {
+                best = value;
+                bestMove = moves[i];
+            }
+        }
+
+        table.store(key, best, depth, getBound(best, alphaIn, betaIn), bestMove);
+        return best;
+    }
+
+    /**
+     * Key for the decision node at the current state, which also depends on the rolled event.
+     */
+    private long decisionKey() {
+        return state.getZobristHash()
+                ^ ZobristKeys.event(state.getLastEvent().getCode())
+                ^ ZobristKeys.perspective(rootPlayer);
+    }
+
+    /**
+     * Check if a cached value decides a node searched with the given window.
+     */
+    private static boolean isUsable(int bound, double value, double alpha, double beta) {
+        return bound == TranspositionTable.BOUND_EXACT
+                || (bound == TranspositionTable.BOUND_LOWER && value >= beta)
+                || (bound == TranspositionTable.BOUND_UPPER && value <= alpha);
+    }
+
+    /**
+     * Get the kind of bound a value found with the given window is.
+     */
+    private static int getBound(double value, double alpha, double beta) {
+        if (value <= alpha) {
+            return TranspositionTable.BOUND_UPPER;
+        }
+        if (value >= beta) {
+            return TranspositionTable.BOUND_LOWER;
+        }
+        return TranspositionTable.BOUND_EXACT;
+    }
+
+    /**
+     * Move a cached best move to the front of a move list, if it is legal.
+     */
+    private static void moveToFront(int[] moves, int count, int move) {
+        for (int i = 1; i < count; i++) {
+            if (moves[i] == move) {
+                moves[i] = moves[0];
+                moves[0] = move;
+                return;
+            }
+        }
+    }
+
+    private double terminalValue() {
+        return state.getWinner() == state.getPlayers().get(rootPlayer) ? WIN : LOSS;
+    }
+
+    /**
+     * Heuristic value: the searching player's strength minus the best opponent's strength.
+     */
+    private double evaluate() {
+        List<Player> players = state.getPlayers();
+        double own = 0;
+        double bestOpponent = 0;
+
+        for (int i = 0; i < players.size(); i++) {
+            double strength = getStrength(state.getBoard(), players.get(i));
+            if (i == rootPlayer) {
+                own = strength;
+            } else {
+                bestOpponent = Math.max(bestOpponent, strength);
+            }
+        }
+        return HEURISTIC_SCALE * (own - bestOpponent);
+    }
+
+    /**
+     * Get a player's strength from 0 (all ships in base) to 1 (all ships home).
+     *
+     * A ship home is worth 1. A ship in flight is worth up to {@link #IN_FLIGHT}:
+     * {@link #BASE_EXIT} of that for having left base and the rest by the
+     * square of its progress, so moves that bring ships close to home count
+     * most. It loses {@link #CAPTURE_RISK} of its value while an opponent could
+     * reach it with a normal roll, and gains {@link #SAFE_ZONE} on a safe zone.
+     *
+     * Tuned against {@link GreedyPolicy} with the simulator's tournament runner.
+     */
+    static double getStrength(GameBoard board, Player player) {
+        List<Spaceship> ships = player.getSpaceships();
+        PlayerColor color = player.getColor();
+        long safeZones = board.getSafeZoneMask();
+        long threatened = getReach(board.getOpponentOccupancy(color)) & ~safeZones;
+        double pathLength = board.getHomeIndex(color) + 1;
+        double total = player.getHomeCount();
+
+        // Only ships in flight need their positions looked at
+        int inFlight = player.getInFlightMask();
+        while (inFlight != 0) {
+            Spaceship ship = ships.get(Integer.numberOfTrailingZeros(inFlight));
+            double progress = (ship.getPathPosition() + 1) / pathLength;
+            double value = IN_FLIGHT * (BASE_EXIT + (1 - BASE_EXIT) * progress * progress);
+
+            // Ships on the home path are out of reach
+            int trackIndex = board.getTrackIndex(ship.getPosition());
+            if (trackIndex >= 0) {
+                long cell = 1L << trackIndex;
+                if ((threatened & cell) != 0) {
+                    value *= 1 - CAPTURE_RISK;
+                } else if ((safeZones & cell) != 0) {
+                    value += SAFE_ZONE;
+                }
+            }
+            total += value;
+            inFlight &= inFlight - 1;
+        }
+        return total / ships.size();
+    }
+
+    /**
+     * Get the track cells ships on the given cells reach with one normal roll, as a bitset.
+     */
+    static long getReach(long occupancy) {
+        long reach = 0;
+        for (int steps = 1; steps <= MAX_ROLL; steps++) {
+            reach |= occupancy << steps | occupancy >>> (GameBoard.TRACK_LENGTH - steps);
+        }
+        return reach & TRACK_MASK;
+    }
+
+    private void countNode() {
+        if (++nodeCount % CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw SearchTimeout.INSTANCE;
+        }
+    }
+
+    /**
+     * Thrown to unwind the search when the deadline passes.
+     */
+    private static final class SearchTimeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        static final SearchTimeout INSTANCE = new SearchTimeout();
+
+        private SearchTimeout() {
+            super(null, null, false, false);
+        }
+    }
+}
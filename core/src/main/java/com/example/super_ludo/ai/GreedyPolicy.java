@@ -0,0 +1,79 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.models.BoardCell;
+import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.Spaceship;
+
+/**
+ * Scripted policy that scores each move with fixed priorities and takes the best.
+ *
+ * Own ship moves prefer reaching home, then capturing, then leaving base, then
+ * advancing the ship furthest along. Targets are the opponent ship furthest along.
+ */
+public class GreedyPolicy implements Policy {
+
+    private static final int SCORE_REACH_HOME = 3000;
+    private static final int SCORE_CAPTURE = 2000;
+    private static final int SCORE_LEAVE_BASE = 1000;
+
+    @Override
+    public int chooseMove(GameState gameState, GameEvent event, int[] moves, int moveCount) {
+        int bestMove = moves[0];
+        int bestScore = Integer.MIN_VALUE;
+
+        for (int i = 0; i < moveCount; i++) {
+            int score = score(gameState, event, moves[i]);
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = moves[i];
+            }
+        }
+        return bestMove;
+    }
+
+    private int score(GameState gameState, GameEvent event, int move) {
+        Spaceship ship = gameState.getShip(Move.getSlot(move));
+        GameBoard board = gameState.getBoard();
+
+        switch (Move.getType(move)) {
+            case Move.SHIP_MOVE: {
+                if (ship.isInBase()) {
+                    return SCORE_LEAVE_BASE;
+                }
+
+                int target = ship.getPathPosition() + event.getValue();
+                if (target == board.getHomeIndex(ship.getColor())) {
+                    return SCORE_REACH_HOME;
+                }
+                if (capturesAt(board, board.getPathCell(ship.getColor(), target), ship)) {
+                    return SCORE_CAPTURE + target;
+                }
+                return target;
+            }
+
+            case Move.WORMHOLE_JUMP: {
+                int target = board.getNextSafeZoneIndex(ship.getColor(), ship.getPathPosition());
+                return target - ship.getPathPosition();
+            }
+
+            default:
+                // Meteor and alien targets: hit the opponent closest to home
+                return ship.getPathPosition();
+        }
+    }
+
+    /**
+     * Check if moving a ship onto a cell would send an opponent back to base.
+     */
+    private boolean capturesAt(GameBoard board, BoardCell cell, Spaceship ship) {
+        if (cell == null) {
+            return false;
+        }
+
+        int trackIndex = board.getTrackIndex(cell);
+        return trackIndex >= 0 && (board.getCapturableOpponents(ship.getColor()) & (1L << trackIndex)) != 0;
+    }
+}
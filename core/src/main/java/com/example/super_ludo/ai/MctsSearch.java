@@ -0,0 +1,304 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.EventSampler;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.SelectionPhase;
+import com.example.super_ludo.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte Carlo Tree Search (UCT) with root parallelization.
+ *
+ * Every worker thread grows its own tree from a copy of the position and the
+ * root visit counts are summed when the deadline passes. Rolls are sampled
+ * rather than enumerated, so wide Meteor Strike and Alien Invasion choices
+ * cost no more than a normal roll. Rollouts pick uniformly random legal moves
+ * from {@link MoveGenerator} and do not allocate.
+ */
+public class MctsSearch implements MoveSearch {
+
+    private static final double EXPLORATION = Math.sqrt(2);
+    // Rolls and selections a rollout plays before it is scored by progress. Uniformly
+    // random 4 player games from the opening pass this in under 2% of rollouts.
+    private static final int MAX_ROLLOUT_STEPS = 4000;
+    // Deepest tree path a worker follows before rolling out
+    private static final int MAX_TREE_DEPTH = 256;
+
+    private final EventSampler sampler;
+    private final int threadCount;
+    private final SplittableRandom random;
+    private final ExecutorService executor;
+
+    private long iterationCount;
+
+    public MctsSearch() {
+        this(Runtime.getRuntime().availableProcessors(), ExpectimaxSearch.DEFAULT_PROBABILITIES, System.nanoTime());
+    }
+
+    /**
+     * @param threadCount Number of independent trees searched in parallel
+     * @param probabilities Probability per event code, see {@link ExpectimaxSearch#DEFAULT_PROBABILITIES}
+     * @param seed Seed of the search's random stream, which every search splits its workers' streams from
+     */
+    public MctsSearch(int threadCount, double[] probabilities, long seed) {
+        this.sampler = new EventSampler(probabilities);
+        this.threadCount = threadCount;
+        this.random = new SplittableRandom(seed);
+        this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "mcts-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the number of playouts run by the last search, over all threads.
+     */
+    public long getIterationCount() {
+        return iterationCount;
+    }
+
+    /**
+     * Search until the deadline and return the move with the most visits over all trees.
+     *
+     * Blocks the calling thread until the deadline, so call it off the UI thread.
+     * Not safe to call from several threads at once.
+     */
+    @Override
+    public int bestMove(GameState gameState, long deadlineNanos) {
+        if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+            throw new IllegalStateException("No selection pending");
+        }
+
+        List<Future<Node>> futures = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            // A fresh stream per worker and call, so repeated searches do not replay the same rolls
+            Worker worker = new Worker(gameState.copy(), random.split(), deadlineNanos);
+            futures.add(executor.submit(worker));
+        }
+
+        // Sum the root statistics of every tree
+        int[] visits = new int[CompactGameState.SHIP_COUNT];
+        iterationCount = 0;
+        try {
+            for (Future<Node> future : futures) {
+                Node root = future.get();
+                iterationCount += root.visits;
+                for (int slot = 0; slot < visits.length; slot++) {
+                    Node child = root.moveChildren[slot];
+                    if (child != null) {
+                        visits[slot] += child.visits;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search failed", e.getCause());
+        }
+
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generate(gameState, gameState.getLastEvent(), moves);
+        int bestMove = moves[0];
+        for (int i = 1; i < count; i++) {
+            if (visits[Move.getSlot(moves[i])] > visits[Move.getSlot(bestMove)]) {
+                bestMove = moves[i];
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Stop the worker threads.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A position in one worker's tree, reached by a move or a roll.
+     *
+     * Children are stored by ship slot after a pending selection and by event
+     * code otherwise. Since Alien Invasion teleports are random, the same node
+     * can see both over different playouts.
+     */
+    private static final class Node {
+        final int mover; // Player who made the move leading here, -1 for rolls
+        Node[] moveChildren;
+        Node[] rollChildren;
+        int visits;
+        double wins; // Playouts won by the mover, draws count as a fraction
+
+        Node(int mover) {
+            this.mover = mover;
+        }
+    }
+
+    /**
+     * Grows one tree until the deadline.
+     */
+    private final class Worker implements Callable<Node> {
+        private final GameState state;
+        private final SplittableRandom rolls;
+        private final Random random;
+        private final RulesEngine engine;
+        private final long deadlineNanos;
+        private final CompactGameState rootSnapshot;
+        private final Node[] path = new Node[MAX_TREE_DEPTH + 2];
+        private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        Worker(GameState state, SplittableRandom rolls, long deadlineNanos) {
+            this.state = state;
+            this.rolls = rolls;
+            this.random = new Random(rolls.nextLong());
+            this.engine = new RulesEngine(random);
+            this.deadlineNanos = deadlineNanos;
+            this.rootSnapshot = CompactGameState.encode(state);
+        }
+
+        @Override
+        public Node call() {
+            Node root = new Node(-1);
+            // Always finish at least one playout so the root has statistics
+            do {
+                rootSnapshot.decodeInto(state);
+                playout(root);
+            } while (System.nanoTime() - deadlineNanos < 0 && !Thread.currentThread().isInterrupted());
+            return root;
+        }
+
+        private void playout(Node root) {
+            int depth = 0;
+            path[depth++] = root;
+            Node node = root;
+            boolean expanded = false;
+
+            // Selection and expansion
+            while (!expanded && !state.isGameOver() && depth <= MAX_TREE_DEPTH) {
+                Node child;
+                if (state.getSelectionPhase() != SelectionPhase.NONE) {
+                    if (node.moveChildren == null) {
+                        node.moveChildren = new Node[CompactGameState.SHIP_COUNT];
+                    }
+                    int move = selectMove(node);
+                    int slot = Move.getSlot(move);
+                    child = node.moveChildren[slot];
+                    if (child == null) {
+                        child = new Node(state.getCurrentPlayerIndex());
+                        node.moveChildren[slot] = child;
+                        expanded = true;
+                    }
+                    engine.applyMove(state, move);
+                } else {
+                    if (node.rollChildren == null) {
+                        node.rollChildren = new Node[GameEvent.OUTCOME_COUNT + 1];
+                    }
+                    int code = sampler.sampleCode(rolls);
+                    child = node.rollChildren[code];
+                    if (child == null) {
+                        child = new Node(-1);
+                        node.rollChildren[code] = child;
+                        expanded = true;
+                    }
+                    engine.processRoll(state, GameEvent.fromCode(code));
+                }
+                path[depth++] = child;
+                node = child;
+            }
+
+            int winner = rollout();
+            double draw = 1.0 / state.getPlayers().size();
+
+            // Backpropagation
+            for (int i = 0; i < depth; i++) {
+                Node visited = path[i];
+                visited.visits++;
+                if (winner < 0) {
+                    visited.wins += draw;
+                } else if (visited.mover == winner) {
+                    visited.wins += 1;
+                }
+            }
+        }
+
+        /**
+         * Pick the legal move with the highest UCT score, preferring unvisited moves.
+         */
+        private int selectMove(Node node) {
+            int count = MoveGenerator.generate(state, state.getLastEvent(), moves);
+            double logVisits = Math.log(Math.max(1, node.visits));
+
+            int bestMove = moves[0];
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                Node child = node.moveChildren[Move.getSlot(moves[i])];
+                if (child == null || child.visits == 0) {
+                    return moves[i];
+                }
+
+                double score = child.wins / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = moves[i];
+                }
+            }
+            return bestMove;
+        }
+
+        /**
+         * Play random moves to the end of the game, or until the step limit.
+         *
+         * @return The winning player's index, the leader's at the step limit, or -1 for a draw
+         */
+        private int rollout() {
+            int steps = 0;
+            while (!state.isGameOver() && steps < MAX_ROLLOUT_STEPS) {
+                if (state.getSelectionPhase() != SelectionPhase.NONE) {
+                    int count = MoveGenerator.generate(state, state.getLastEvent(), moves);
+                    engine.applyMove(state, moves[random.nextInt(count)]);
+                } else {
+                    engine.processRoll(state, sampler.sample(rolls));
+                }
+                steps++;
+            }
+            return state.isGameOver() ? state.getPlayers().indexOf(state.getWinner()) : getLeader();
+        }
+
+        /**
+         * Get the player whose ships have come the furthest in total, or -1 on a tie.
+         */
+        private int getLeader() {
+            int leader = -1;
+            int bestProgress = -1;
+            int playerCount = state.getPlayers().size();
+            for (int player = 0; player < playerCount; player++) {
+                int progress = 0;
+                int end = (player + 1) * Constants.SHIPS_PER_PLAYER;
+                for (int slot = player * Constants.SHIPS_PER_PLAYER; slot < end; slot++) {
+                    progress += CompactGameState.getShipCode(state.getShip(slot));
+                }
+                if (progress > bestProgress) {
+                    bestProgress = progress;
+                    leader = player;
+                } else if (progress == bestProgress) {
+                    leader = -1;
+                }
+            }
+            return leader;
+        }
+    }
+}
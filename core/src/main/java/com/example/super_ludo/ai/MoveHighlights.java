@@ -0,0 +1,136 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.models.BoardCell;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.Spaceship;
+
+/**
+ * The legal moves of a pending selection as board cells: which ships can be
+ * selected, where each one ends up, and whether that captures anything.
+ *
+ * Built once from a {@link TurnOutcomes.Outcome} and immutable afterwards,
+ * so it can be cached and drawn as often as needed. The cells belong to the
+ * board of the game it was built for.
+ */
+public final class MoveHighlights {
+
+    private final CompactGameState position;
+    private final TurnOutcomes.Outcome outcome;
+    private final Spaceship[] ships;
+    private final BoardCell[] sources;
+    private final BoardCell[] destinations;
+    private final boolean[] captures;
+
+    private MoveHighlights(CompactGameState position, TurnOutcomes.Outcome outcome, Spaceship[] ships,
+                           BoardCell[] sources, BoardCell[] destinations, boolean[] captures) {
+        this.position = position;
+        this.outcome = outcome;
+        this.ships = ships;
+        this.sources = sources;
+        this.destinations = destinations;
+        this.captures = captures;
+    }
+
+    /**
+     * Resolve the moves of an outcome against the game it was computed for.
+     *
+     * @param outcome The outcome of the game's pending event
+     */
+    public static MoveHighlights of(GameState gameState, TurnOutcomes.Outcome outcome) {
+        GameBoard board = gameState.getBoard();
+        int count = outcome.getMoveCount();
+        Spaceship[] ships = new Spaceship[count];
+        BoardCell[] sources = new BoardCell[count];
+        BoardCell[] destinations = new BoardCell[count];
+        boolean[] captures = new boolean[count];
+
+        for (int i = 0; i < count; i++) {
+            int slot = Move.getSlot(outcome.getMove(i));
+            Spaceship ship = gameState.getShip(slot);
+            ships[i] = ship;
+            sources[i] = getCell(board, ship, CompactGameState.getShipCode(ship));
+            int destination = outcome.getDestinationCode(i);
+            if (destination != TurnOutcomes.UNKNOWN_DESTINATION) {
+                destinations[i] = getCell(board, ship, destination);
+            }
+            // A Meteor Strike sends its own target to base, which is not a capture
+            captures[i] = (outcome.getCapturedShips(i) & ~(1 << slot)) != 0;
+        }
+        return new MoveHighlights(CompactGameState.encode(gameState), outcome, ships, sources, destinations, captures);
+    }
+
+    /**
+     * Check if these highlights were built for the position the game is in.
+     */
+    public boolean isFor(GameState gameState) {
+        return position.equals(CompactGameState.encode(gameState));
+    }
+
+    public TurnOutcomes.Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getCount() {
+        return ships.length;
+    }
+
+    public Spaceship getShip(int index) {
+        return ships[index];
+    }
+
+    /**
+     * Get the cell the ship stands on, or its base cell if it is in base.
+     */
+    public BoardCell getSource(int index) {
+        return sources[index];
+    }
+
+    /**
+     * Get the cell the ship ends on, or null if it is random (Alien Invasion).
+     */
+    public BoardCell getDestination(int index) {
+        return destinations[index];
+    }
+
+    /**
+     * Check if the move sends any ship other than its own back to base.
+     */
+    public boolean isCapture(int index) {
+        return captures[index];
+    }
+
+    /**
+     * Find the ship a tap on a cell selects: a selectable ship standing there,
+     * otherwise the only ship whose move ends there.
+     *
+     * @return The ship, or null if the cell is not highlighted or is ambiguous
+     */
+    public Spaceship findShip(BoardCell cell) {
+        for (int i = 0; i < ships.length; i++) {
+            if (sources[i] == cell) {
+                return ships[i];
+            }
+        }
+
+        Spaceship found = null;
+        for (int i = 0; i < ships.length; i++) {
+            if (destinations[i] == cell) {
+                if (found != null) {
+                    return null;
+                }
+                found = ships[i];
+            }
+        }
+        return found;
+    }
+
+    private static BoardCell getCell(GameBoard board, Spaceship ship, int code) {
+        if (code == CompactGameState.BASE_CODE) {
+            return board.getBasePosition(ship.getColor(), ship.getShipNumber() - 1);
+        }
+        return board.getPathCell(ship.getColor(), code - 1);
+    }
+}
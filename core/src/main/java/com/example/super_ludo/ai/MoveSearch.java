@@ -0,0 +1,18 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.models.GameState;
+
+/**
+ * A search that picks a move for a pending selection within a deadline.
+ */
+public interface MoveSearch {
+
+    /**
+     * Find the best move for a pending selection, returning by the deadline.
+     *
+     * @param gameState A state waiting for a selection; it is unchanged when this returns
+     * @param deadlineNanos Deadline in {@link System#nanoTime()} units
+     * @return A move, see {@link com.example.super_ludo.engine.Move}
+     */
+    int bestMove(GameState gameState, long deadlineNanos);
+}
@@ -0,0 +1,19 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+
+/**
+ * Chooses a spaceship selection for a computer-controlled player.
+ */
+public interface Policy {
+
+    /**
+     * Choose one of the legal moves for the pending event.
+     *
+     * @param moves Legal moves from {@link com.example.super_ludo.engine.MoveGenerator}
+     * @param moveCount Number of valid entries in moves, at least 1
+     * @return The chosen move
+     */
+    int chooseMove(GameState gameState, GameEvent event, int[] moves, int moveCount);
+}
@@ -0,0 +1,23 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+
+import java.util.Random;
+
+/**
+ * Picks a legal move uniformly at random.
+ */
+public class RandomPolicy implements Policy {
+
+    private final Random random;
+
+    public RandomPolicy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseMove(GameState gameState, GameEvent event, int[] moves, int moveCount) {
+        return moves[random.nextInt(moveCount)];
+    }
+}
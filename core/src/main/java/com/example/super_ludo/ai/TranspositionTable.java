@@ -0,0 +1,145 @@
+package com.example.super_ludo.ai;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size hash table of search results keyed by {@link com.example.super_ludo.models.GameState#getZobristHash()}.
+ *
+ * Entries are two longs in one shared array: the key XOR the data, then the
+ * data. A reader only accepts an entry whose two halves XOR back to its key,
+ * so entries torn by concurrent writers are seen as misses and any number of
+ * search threads can share the table without locks.
+ *
+ * Entries live in buckets of four (one 64-byte cache line). A store replaces
+ * the entry with the same key, else an empty one, else the one with the
+ * lowest depth after penalizing entries left over from older searches.
+ *
+ * Data layout:
+ *  bits 0-31   value (float bits)
+ *  bits 32-39  depth
+ *  bits 40-47  best move + 1 (0 for none)
+ *  bits 48-49  bound type
+ *  bits 50-57  age (search generation)
+ */
+public class TranspositionTable {
+
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2; // Value is at least the stored value
+    public static final int BOUND_UPPER = 3; // Value is at most the stored value
+
+    public static final int NO_MOVE = -1;
+
+    private static final int BUCKET_ENTRIES = 4;
+    private static final int LONGS_PER_ENTRY = 2;
+    // Depth a stale entry loses per search generation when choosing a victim
+    private static final int AGE_PENALTY = 4;
+
+    private final long[] table;
+    private final int bucketMask;
+    private volatile int age;
+
+    /**
+     * @param log2Entries Table size as a power of two; each entry takes 16 bytes
+     */
+    public TranspositionTable(int log2Entries) {
+        if (log2Entries < 2 || log2Entries > 26) {
+            throw new IllegalArgumentException("log2Entries must be between 2 and 26");
+        }
+        int entries = 1 << log2Entries;
+        this.table = new long[entries * LONGS_PER_ENTRY];
+        this.bucketMask = entries / BUCKET_ENTRIES - 1;
+    }
+
+    /**
+     * Start a new search generation, so older entries are replaced first.
+     */
+    public void newSearch() {
+        age = (age + 1) & 0xFF;
+    }
+
+    /**
+     * Remove every entry.
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+    }
+
+    /**
+     * Look up a position.
+     *
+     * @return The entry data, or 0 if the position is not stored; read it with the static accessors
+     */
+    public long probe(long key) {
+        int base = bucketIndex(key);
+        for (int i = 0; i < BUCKET_ENTRIES; i++) {
+            int index = base + i * LONGS_PER_ENTRY;
+            long data = table[index + 1];
+            if (data != 0 && (table[index] ^ data) == key) {
+                return data;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Store a search result.
+     *
+     * @param bestMove The best move found, or {@link #NO_MOVE}
+     */
+    public void store(long key, double value, int depth, int bound, int bestMove) {
+        int currentAge = age;
+        long data = (Float.floatToRawIntBits((float) value) & 0xFFFFFFFFL)
+                | (long) (depth & 0xFF) << 32
+                | (long) ((bestMove + 1) & 0xFF) << 40
+                | (long) bound << 48
+                | (long) currentAge << 50;
+
+        int base = bucketIndex(key);
+        int victim = base;
+        int victimScore = Integer.MAX_VALUE;
+
+        for (int i = 0; i < BUCKET_ENTRIES; i++) {
+            int index = base + i * LONGS_PER_ENTRY;
+            long existing = table[index + 1];
+
+            if (existing == 0 || (table[index] ^ existing) == key) {
+                victim = index;
+                break;
+            }
+
+            int staleness = (currentAge - getAge(existing)) & 0xFF;
+            int score = getDepth(existing) - AGE_PENALTY * staleness;
+            if (score < victimScore) {
+                victimScore = score;
+                victim = index;
+            }
+        }
+
+        table[victim] = key ^ data;
+        table[victim + 1] = data;
+    }
+
+    private int bucketIndex(long key) {
+        return (int) (key & bucketMask) * BUCKET_ENTRIES * LONGS_PER_ENTRY;
+    }
+
+    public static double getValue(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> 32) & 0xFF;
+    }
+
+    public static int getBestMove(long data) {
+        return ((int) (data >>> 40) & 0xFF) - 1;
+    }
+
+    public static int getBound(long data) {
+        return (int) (data >>> 48) & 0x3;
+    }
+
+    public static int getAge(long data) {
+        return (int) (data >>> 50) & 0xFF;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RuleResult;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.Player;
+import com.example.super_ludo.models.SelectionPhase;
+import com.example.super_ludo.utils.Constants;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Everything that can follow a roll from one position, for all eleven Crystal Ball outcomes.
+ *
+ * For every event this lists the legal moves, where each move takes its ship
+ * and which ships it captures, and the move a {@link Policy} recommends. The
+ * table is computed on a private copy of the position, so it can be built on a
+ * background thread while the roll is being animated; once built it is
+ * immutable. Check {@link #isFor(GameState)} before using it, since the game
+ * may have moved on in the meantime.
+ */
+public final class TurnOutcomes {
+
+    /**
+     * Destination code of moves whose result is random (Alien Invasion).
+     */
+    public static final int UNKNOWN_DESTINATION = -1;
+
+    /**
+     * What one event leads to.
+     */
+    public static final class Outcome {
+        private final GameEvent event;
+        private final RuleResult result;
+        private final int[] moves;
+        private final int[] destinations;
+        private final int[] captures;
+        private final int recommendedMove;
+
+        private Outcome(GameEvent event, RuleResult result, int[] moves, int[] destinations,
+                        int[] captures, int recommendedMove) {
+            this.event = event;
+            this.result = result;
+            this.moves = moves;
+            this.destinations = destinations;
+            this.captures = captures;
+            this.recommendedMove = recommendedMove;
+        }
+
+        public GameEvent getEvent() {
+            return event;
+        }
+
+        /**
+         * Get the result of the roll itself, see {@link RulesEngine#processRoll}.
+         */
+        public RuleResult getResult() {
+            return result;
+        }
+
+        /**
+         * Check if the roll leaves a selection to make.
+         */
+        public boolean isAwaitingSelection() {
+            return moves.length > 0;
+        }
+
+        public int getMoveCount() {
+            return moves.length;
+        }
+
+        /**
+         * Get a legal move, see {@link Move}.
+         */
+        public int getMove(int index) {
+            return moves[index];
+        }
+
+        /**
+         * Get the ship code the move's ship ends on, see {@link CompactGameState#getShipCode(int)},
+         * or {@link #UNKNOWN_DESTINATION} if it is random.
+         */
+        public int getDestinationCode(int index) {
+            return destinations[index];
+        }
+
+        /**
+         * Get the slots of the ships the move sends back to base, as a bitmask.
+         */
+        public int getCapturedShips(int index) {
+            return captures[index];
+        }
+
+        /**
+         * Get the index of the move for a ship slot, or -1 if the ship cannot be selected.
+         */
+        public int indexOf(int slot) {
+            for (int i = 0; i < moves.length; i++) {
+                if (Move.getSlot(moves[i]) == slot) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Get the move the policy chose, or -1 if there is no selection to make.
+         */
+        public int getRecommendedMove() {
+            return recommendedMove;
+        }
+    }
+
+    private final CompactGameState position;
+    private final Outcome[] outcomes; // Indexed by event code, 0 unused
+
+    private TurnOutcomes(CompactGameState position, Outcome[] outcomes) {
+        this.position = position;
+        this.outcomes = outcomes;
+    }
+
+    /**
+     * Work out every event's outcome for a position waiting for a roll.
+     *
+     * The given state is only read. Stops early, returning null, if the calling thread is interrupted.
+     *
+     * @param policy Chooses the recommended moves; called from the calling thread
+     */
+    public static TurnOutcomes compute(GameState gameState, Policy policy) {
+        CompactGameState position = CompactGameState.encode(gameState);
+        GameState scratch = new GameState();
+        RulesEngine engine = new RulesEngine(new Random(0));
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        Outcome[] outcomes = new Outcome[GameEvent.OUTCOME_COUNT + 1];
+
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+            position.decodeInto(scratch);
+            GameEvent event = GameEvent.fromCode(code);
+            RuleResult result = engine.processRoll(scratch, event);
+            outcomes[code] = evaluate(scratch, event, result, engine, policy, buffer);
+        }
+        return new TurnOutcomes(position, outcomes);
+    }
+
+    /**
+     * Work out the moves of a position that is already waiting for a selection.
+     *
+     * @return The outcome of the pending event, or null if no selection is pending
+     */
+    public static Outcome forPendingSelection(GameState gameState, Policy policy) {
+        if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+            return null;
+        }
+        GameEvent event = gameState.getLastEvent();
+        RuleResult result = gameState.getSelectionPhase() == SelectionPhase.SHIP
+                ? RuleResult.AWAITING_SHIP_SELECTION
+                : RuleResult.AWAITING_TARGET_SELECTION;
+
+        GameState scratch = new GameState();
+        CompactGameState.encode(gameState).decodeInto(scratch);
+        return evaluate(scratch, event, result, new RulesEngine(new Random(0)), policy,
+                new int[MoveGenerator.MAX_MOVES]);
+    }
+
+    /**
+     * Evaluate every legal move of a position right after a roll.
+     *
+     * @param buffer Scratch space for the move list, shared by every event of a computation
+     */
+    private static Outcome evaluate(GameState gameState, GameEvent event, RuleResult result,
+                                    RulesEngine engine, Policy policy, int[] buffer) {
+        if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+            return new Outcome(event, result, new int[0], new int[0], new int[0], -1);
+        }
+
+        int count = MoveGenerator.generate(gameState, event, buffer);
+        int[] moves = Arrays.copyOf(buffer, count);
+        int[] destinations = new int[count];
+        int[] captures = new int[count];
+        int recommendedMove = count > 0 ? policy.chooseMove(gameState, event, buffer, count) : -1;
+
+        // Encoded once to undo every move; captures are read off the players' base masks
+        CompactGameState before = CompactGameState.encode(gameState);
+        int inBase = getShipsInBase(gameState);
+        for (int i = 0; i < count; i++) {
+            int slot = Move.getSlot(moves[i]);
+            if (Move.getType(moves[i]) == Move.ALIEN_TARGET) {
+                destinations[i] = UNKNOWN_DESTINATION;
+                continue;
+            }
+
+            engine.applyMove(gameState, moves[i]);
+            destinations[i] = CompactGameState.getShipCode(gameState.getShip(slot));
+            captures[i] = getShipsInBase(gameState) & ~inBase;
+            before.decodeInto(gameState);
+        }
+        return new Outcome(event, result, moves, destinations, captures, recommendedMove);
+    }
+
+    /**
+     * Get the slots of the ships in base, as a bitmask.
+     */
+    private static int getShipsInBase(GameState gameState) {
+        int slots = 0;
+        for (Player player : gameState.getPlayers()) {
+            slots |= player.getBaseMask() << (player.getColor().ordinal() * Constants.SHIPS_PER_PLAYER);
+        }
+        return slots;
+    }
+
+    /**
+     * Check if this table was computed for the position the game is in.
+     */
+    public boolean isFor(GameState gameState) {
+        return position.equals(CompactGameState.encode(gameState));
+    }
+
+    /**
+     * Get the position this table was computed for.
+     */
+    public CompactGameState getPosition() {
+        return position;
+    }
+
+    /**
+     * Get what an event leads to.
+     */
+    public Outcome get(GameEvent event) {
+        return outcomes[event.getCode()];
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.super_ludo.engine;
+
+/**
+ * Encodes a legal action as a single int, so move lists can live in plain int arrays.
+ *
+ * The low 4 bits hold the ship slot (see CompactGameState.getSlot) and the
+ * bits above hold the move type.
+ */
+public final class Move {
+
+    public static final int SHIP_MOVE = 0;      // Move own ship by the rolled value
+    public static final int WORMHOLE_JUMP = 1;  // Jump own ship to the next safe zone
+    public static final int METEOR_TARGET = 2;  // Send opponent ship back to base
+    public static final int ALIEN_TARGET = 3;   // Teleport opponent ship to a random cell
+
+    private static final int SLOT_BITS = 4;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    private Move() {
+    }
+
+    public static int create(int type, int slot) {
+        return (type << SLOT_BITS) | slot;
+    }
+
+    public static int getType(int move) {
+        return move >>> SLOT_BITS;
+    }
+
+    public static int getSlot(int move) {
+        return move & SLOT_MASK;
+    }
+}
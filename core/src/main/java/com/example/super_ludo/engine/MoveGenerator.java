@@ -0,0 +1,200 @@
+package com.example.super_ludo.engine;
+
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.EventType;
+import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.Player;
+import com.example.super_ludo.models.Spaceship;
+import com.example.super_ludo.utils.Constants;
+
+/**
+ * Generates the legal actions for a Crystal Ball event.
+ *
+ * This is the single place that decides which spaceships may be selected.
+ * Generation writes into a caller-provided buffer and never allocates. The
+ * players' ship status masks rule out most ships before any of them is
+ * looked at; moves still come out in slot order.
+ */
+public final class MoveGenerator {
+
+    /**
+     * Large enough for any event: at most one action per ship slot.
+     */
+    public static final int MAX_MOVES = CompactGameState.SHIP_COUNT;
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Write all legal actions for an event into a buffer.
+     *
+     * @param moves Buffer of at least {@link #MAX_MOVES} entries
+     * @return The number of actions written
+     */
+    public static int generate(GameState gameState, GameEvent event, int[] moves) {
+        int moveType = getMoveType(event);
+        if (moveType < 0) {
+            return 0;
+        }
+
+        int count = 0;
+        int candidates = 0;
+        int shipCount = gameState.getShipCount();
+        for (int slot = 0; slot < shipCount; slot++) {
+            Spaceship ship = gameState.getShip(slot);
+            int bit = slot % Constants.SHIPS_PER_PLAYER;
+            if (bit == 0) {
+                candidates = getCandidates(gameState, event, ship.getOwner());
+            }
+            if ((candidates & 1 << bit) != 0 && getRejection(gameState, event, ship) == null) {
+                moves[count++] = Move.create(moveType, slot);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Check if an event has at least one legal action.
+     */
+    public static boolean hasLegalMove(GameState gameState, GameEvent event) {
+        if (getMoveType(event) < 0) {
+            return false;
+        }
+
+        int candidates = 0;
+        int shipCount = gameState.getShipCount();
+        for (int slot = 0; slot < shipCount; slot++) {
+            Spaceship ship = gameState.getShip(slot);
+            int bit = slot % Constants.SHIPS_PER_PLAYER;
+            if (bit == 0) {
+                candidates = getCandidates(gameState, event, ship.getOwner());
+            }
+            if ((candidates & 1 << bit) != 0 && getRejection(gameState, event, ship) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the ships of a player an event could select, as a mask of {@link Player#ALL_SHIPS}.
+     *
+     * Only ship status is checked; {@link #getRejection} has the final say.
+     */
+    private static int getCandidates(GameState gameState, GameEvent event, Player player) {
+        boolean own = player == gameState.getCurrentPlayer();
+        switch (event.getType()) {
+            case NORMAL_ROLL:
+                if (!own) {
+                    return 0;
+                }
+                // Ships in base can only leave on a 6
+                return event.getValue() == 6 ? Player.ALL_SHIPS & ~player.getHomeMask() : player.getInFlightMask();
+            case WORMHOLE:
+                return own ? player.getInFlightMask() : 0;
+            case METEOR_STRIKE:
+            case ALIEN_INVASION:
+                return own ? 0 : player.getInFlightMask();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Get the move type an event asks for, or -1 if the event needs no selection.
+     */
+    public static int getMoveType(GameEvent event) {
+        switch (event.getType()) {
+            case NORMAL_ROLL:
+                return Move.SHIP_MOVE;
+            case WORMHOLE:
+                return Move.WORMHOLE_JUMP;
+            case METEOR_STRIKE:
+                return Move.METEOR_TARGET;
+            case ALIEN_INVASION:
+                return Move.ALIEN_TARGET;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Check if an event asks for one of the current player's own spaceships.
+     */
+    public static boolean selectsOwnShip(GameEvent event) {
+        EventType type = event.getType();
+        return type == EventType.NORMAL_ROLL || type == EventType.WORMHOLE;
+    }
+
+    /**
+     * Get why a spaceship cannot be selected for an event.
+     *
+     * @return The rejection, or null if selecting the ship is legal
+     */
+    public static RuleResult getRejection(GameState gameState, GameEvent event, Spaceship ship) {
+        Player currentPlayer = gameState.getCurrentPlayer();
+        GameBoard board = gameState.getBoard();
+
+        switch (event.getType()) {
+            case NORMAL_ROLL: {
+                if (ship.getOwner() != currentPlayer) {
+                    return RuleResult.NOT_OWN_SHIP;
+                }
+
+                // Can only move ships that are in base if rolled a 6
+                if (ship.isInBase()) {
+                    return event.getValue() == 6 ? null : RuleResult.NEEDS_SIX;
+                }
+
+                // Can't move ships that have reached home
+                if (ship.hasReachedHome()) {
+                    return RuleResult.ALREADY_HOME;
+                }
+
+                // An exact count is needed to reach home
+                if (event.getValue() > board.getStepsToHome(ship.getColor(), ship.getPathPosition())) {
+                    return RuleResult.NEEDS_EXACT_COUNT;
+                }
+                return null;
+            }
+
+            case WORMHOLE:
+                if (ship.getOwner() != currentPlayer) {
+                    return RuleResult.NOT_OWN_SHIP;
+                }
+
+                // Can only move ships that are in flight
+                if (ship.isInBase() || ship.hasReachedHome()) {
+                    return RuleResult.NOT_IN_FLIGHT;
+                }
+                return null;
+
+            case METEOR_STRIKE:
+                if (ship.getOwner() == currentPlayer) {
+                    return RuleResult.NOT_OPPONENT_SHIP;
+                }
+
+                // Can't target ships in base, home, or safe zones
+                if (ship.isInBase() || ship.hasReachedHome() || board.isSafeZone(ship.getPosition())) {
+                    return RuleResult.INVALID_TARGET;
+                }
+                return null;
+
+            case ALIEN_INVASION:
+                if (ship.getOwner() == currentPlayer) {
+                    return RuleResult.NOT_OPPONENT_SHIP;
+                }
+
+                // Can't target ships in base or home
+                if (ship.isInBase() || ship.hasReachedHome()) {
+                    return RuleResult.INVALID_TARGET;
+                }
+                return null;
+
+            default:
+                return RuleResult.NOT_WAITING;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.super_ludo.engine;
+
+/**
+ * Outcome of applying an event or a selection through the {@link RulesEngine}.
+ */
+public enum RuleResult {
+    // Event outcomes
+    AWAITING_SHIP_SELECTION,    // Current player must select one of their spaceships
+    AWAITING_TARGET_SELECTION,  // Current player must select an opponent's spaceship
+    NO_VALID_MOVES,             // Nothing to move or target, turn passed
+    TURN_LOST,                  // Black Hole, turn passed
+    EXTRA_TURN,                 // Super Boost, same player goes again
+
+    // Rejected selections (the selection is still pending)
+    NOT_WAITING(true),
+    NOT_OWN_SHIP(true),
+    NEEDS_SIX(true),
+    ALREADY_HOME(true),
+    NOT_IN_FLIGHT(true),
+    NOT_OPPONENT_SHIP(true),
+    INVALID_TARGET(true),
+    NEEDS_EXACT_COUNT(true),
+
+    // Applied selections
+    LEFT_BASE,
+    MOVED,
+    REACHED_HOME,
+    JUMPED_TO_SAFE_ZONE,
+    NO_SAFE_ZONE_AHEAD,
+    SENT_TO_BASE,
+    TELEPORTED;
+
+    private final boolean rejected;
+
+    RuleResult() {
+        this(false);
+    }
+
+    RuleResult(boolean rejected) {
+        this.rejected = rejected;
+    }
+
+    /**
+     * Check if the selection was refused and nothing changed.
+     */
+    public boolean isRejected() {
+        return rejected;
+    }
+
+    /**
+     * Check if the game is still waiting for a selection after this result.
+     */
+    public boolean isAwaitingSelection() {
+        return (rejected && this != NOT_WAITING) || this == AWAITING_SHIP_SELECTION || this == AWAITING_TARGET_SELECTION;
+    }
+}
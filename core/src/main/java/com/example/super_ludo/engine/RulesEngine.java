@@ -0,0 +1,273 @@
+package com.example.super_ludo.engine;
+
+import com.example.super_ludo.models.BoardCell;
+import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.SelectionPhase;
+import com.example.super_ludo.models.Spaceship;
+
+import java.util.Random;
+
+/**
+ * Applies Crystal Ball events and spaceship selections to a {@link GameState}.
+ *
+ * The engine has no Android dependencies and never notifies observers; callers
+ * turn the returned {@link RuleResult} into UI updates themselves.
+ */
+public class RulesEngine {
+
+    private final Random random;
+
+    // Opponent spaceships captured by the last applied selection
+    private int lastCaptureCount;
+
+    // Path index the last Alien Invasion target was sent to
+    private int lastTeleportIndex = -1;
+
+    public RulesEngine() {
+        this(new Random());
+    }
+
+    public RulesEngine(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Get the number of opponent spaceships captured by the last applied selection.
+     */
+    public int getLastCaptureCount() {
+        return lastCaptureCount;
+    }
+
+    /**
+     * Get the path index the last Alien Invasion target was sent to, or -1 if there was none.
+     */
+    public int getLastTeleportIndex() {
+        return lastTeleportIndex;
+    }
+
+    /**
+     * Process a crystal ball roll event.
+     */
+    public RuleResult processRoll(GameState gameState, GameEvent event) {
+        // Record the event
+        gameState.setLastEvent(event);
+        gameState.setSelectionPhase(SelectionPhase.NONE);
+        lastCaptureCount = 0;
+
+        // Handle the event based on its type
+        switch (event.getType()) {
+            case NORMAL_ROLL:
+            case METEOR_STRIKE:
+            case WORMHOLE:
+            case ALIEN_INVASION:
+                return awaitSelection(gameState, event);
+
+            case BLACK_HOLE:
+                endTurn(gameState);
+                return RuleResult.TURN_LOST;
+
+            case SUPER_BOOST:
+                // End this turn, which will not change the player due to the extra turn flag
+                gameState.setExtraTurn();
+                endTurn(gameState);
+                return RuleResult.EXTRA_TURN;
+
+            default:
+                endTurn(gameState);
+                return RuleResult.NO_VALID_MOVES;
+        }
+    }
+
+    /**
+     * Wait for a selection if the event has a legal action, otherwise pass the turn.
+     */
+    private RuleResult awaitSelection(GameState gameState, GameEvent event) {
+        if (!MoveGenerator.hasLegalMove(gameState, event)) {
+            endTurn(gameState);
+            return RuleResult.NO_VALID_MOVES;
+        }
+
+        if (MoveGenerator.selectsOwnShip(event)) {
+            gameState.setSelectionPhase(SelectionPhase.SHIP);
+            return RuleResult.AWAITING_SHIP_SELECTION;
+        }
+
+        gameState.setSelectionPhase(SelectionPhase.TARGET);
+        return RuleResult.AWAITING_TARGET_SELECTION;
+    }
+
+    /**
+     * Handle a spaceship selection for the pending event.
+     */
+    public RuleResult selectSpaceship(GameState gameState, Spaceship ship) {
+        SelectionPhase phase = gameState.getSelectionPhase();
+        if (phase == SelectionPhase.NONE) {
+            return RuleResult.NOT_WAITING;
+        }
+
+        GameEvent currentEvent = gameState.getLastEvent();
+        RuleResult rejection = MoveGenerator.getRejection(gameState, currentEvent, ship);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        return apply(gameState, currentEvent, ship, -1);
+    }
+
+    /**
+     * Apply a move produced by {@link MoveGenerator} for the pending event.
+     *
+     * The move is trusted to be legal; search code uses this to skip re-validation.
+     */
+    public RuleResult applyMove(GameState gameState, int move) {
+        return apply(gameState, gameState.getLastEvent(), gameState.getShip(Move.getSlot(move)), -1);
+    }
+
+    /**
+     * Apply a move with a known Alien Invasion destination, for replaying a recorded game.
+     *
+     * @param teleportIndex Path index to send an Alien Invasion target to, ignored for other events
+     */
+    public RuleResult applyMove(GameState gameState, int move, int teleportIndex) {
+        return apply(gameState, gameState.getLastEvent(), gameState.getShip(Move.getSlot(move)), teleportIndex);
+    }
+
+    /**
+     * Apply a legal selection for an event and end the turn unless the game was won.
+     *
+     * @param teleportIndex Alien Invasion destination, or -1 to pick one at random
+     */
+    private RuleResult apply(GameState gameState, GameEvent event, Spaceship ship, int teleportIndex) {
+        lastCaptureCount = 0;
+        lastTeleportIndex = -1;
+        gameState.setSelectionPhase(SelectionPhase.NONE);
+
+        RuleResult result;
+        switch (event.getType()) {
+            case NORMAL_ROLL:
+                result = moveShip(gameState, ship, event.getValue());
+                break;
+            case WORMHOLE:
+                result = moveToNextSafeZone(gameState, ship);
+                break;
+            case METEOR_STRIKE:
+                sendToBase(gameState, ship);
+                result = RuleResult.SENT_TO_BASE;
+                break;
+            default:
+                result = sendToRandomLocation(gameState, ship, teleportIndex);
+                break;
+        }
+
+        // The winning move ends the game without passing the turn
+        if (gameState.checkWinCondition()) {
+            return result;
+        }
+
+        endTurn(gameState);
+        return result;
+    }
+
+    /**
+     * Move a ship by a number of steps.
+     */
+    private RuleResult moveShip(GameState gameState, Spaceship ship, int steps) {
+        RuleResult result;
+
+        if (ship.isInBase()) {
+            // Move ship from base to start position
+            gameState.moveShip(ship, 0);
+            result = RuleResult.LEFT_BASE;
+        } else {
+            int newPathPosition = ship.getPathPosition() + steps;
+            gameState.moveShip(ship, newPathPosition);
+            result = ship.hasReachedHome() ? RuleResult.REACHED_HOME : RuleResult.MOVED;
+        }
+
+        checkForCollisions(gameState, ship);
+        return result;
+    }
+
+    /**
+     * Move a ship to the next safe zone.
+     */
+    private RuleResult moveToNextSafeZone(GameState gameState, Spaceship ship) {
+        GameBoard board = gameState.getBoard();
+        int nextSafeZone = board.getNextSafeZoneIndex(ship.getColor(), ship.getPathPosition());
+
+        if (nextSafeZone < 0) {
+            return RuleResult.NO_SAFE_ZONE_AHEAD;
+        }
+
+        gameState.moveShip(ship, nextSafeZone);
+
+        checkForCollisions(gameState, ship);
+        return RuleResult.JUMPED_TO_SAFE_ZONE;
+    }
+
+    /**
+     * Send a ship back to its base.
+     */
+    private void sendToBase(GameState gameState, Spaceship ship) {
+        gameState.sendShipToBase(ship);
+    }
+
+    /**
+     * Send a ship to a random location on the board.
+     */
+    private RuleResult sendToRandomLocation(GameState gameState, Spaceship ship, int teleportIndex) {
+        // Get a random path position on the main track
+        int trackEnd = gameState.getBoard().getHomeEntranceIndex(ship.getColor());
+        int randomPathPosition = teleportIndex >= 0 ? teleportIndex : random.nextInt(trackEnd + 1);
+
+        gameState.moveShip(ship, randomPathPosition);
+        lastTeleportIndex = randomPathPosition;
+        return RuleResult.TELEPORTED;
+    }
+
+    /**
+     * Check for collisions with opponent ships and send them back to base.
+     *
+     * @return The number of opponent spaceships captured
+     */
+    public int checkForCollisions(GameState gameState, Spaceship movedShip) {
+        if (movedShip.isInBase() || movedShip.hasReachedHome() ||
+                gameState.getBoard().isSafeZone(movedShip.getPosition())) {
+            return 0; // No collisions possible
+        }
+
+        BoardCell currentPosition = movedShip.getPosition();
+        if (currentPosition == null) return 0;
+
+        // Only track cells can hold ships of different colors
+        GameBoard board = gameState.getBoard();
+        int trackIndex = board.getTrackIndex(currentPosition);
+        if (trackIndex < 0 || !board.hasOpponentAt(movedShip.getColor(), trackIndex)) {
+            return 0;
+        }
+
+        int captured = 0;
+        int shipCount = gameState.getShipCount();
+        for (int slot = 0; slot < shipCount; slot++) {
+            Spaceship otherShip = gameState.getShip(slot);
+            if (otherShip.getPosition() == currentPosition && otherShip.getColor() != movedShip.getColor()) {
+                // Collision with opponent ship
+                sendToBase(gameState, otherShip);
+                captured++;
+            }
+        }
+
+        lastCaptureCount += captured;
+        return captured;
+    }
+
+    /**
+     * End the current turn and move to the next player.
+     */
+    private void endTurn(GameState gameState) {
+        gameState.setSelectionPhase(SelectionPhase.NONE);
+        gameState.nextTurn();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.super_ludo.journal;
+
+import com.example.super_ludo.models.BoardTopology;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameHistory;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.PlayerColor;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of a game in progress, so it can be resumed after the app was killed.
+ *
+ * A checkpoint holds the game's {@link GameHistory} and the length and
+ * CRC-32 of the {@link GameJournal} prefix it stands for. Anything recorded
+ * in the journal after that prefix is the tail, which
+ * {@link JournalReplayer#resume} applies on top of the checkpoint.
+ *
+ * Layout, big-endian:
+ *  magic 'SLC1'              4 bytes
+ *  CRC-32                    4 bytes, over everything after this field
+ *  journal length            8 bytes
+ *  journal CRC-32            4 bytes
+ *  past count                4 bytes, positions that can be undone plus the current one
+ *  future count              4 bytes, positions that can be redone
+ *  reserved                  4 bytes
+ *  positions                 16 bytes each, as written by {@link GameHistory#writeTo}
+ *
+ * Every position is stored, so a checkpoint grows with the length of the
+ * game. Files are replaced by writing a temporary file and renaming it, so a
+ * crash leaves either the old checkpoint or the new one. Reading maps the
+ * file, verifies all of it and decodes older positions only when undo
+ * reaches them.
+ */
+public final class GameCheckpoint {
+
+    static final byte[] MAGIC = {'S', 'L', 'C', '1'};
+
+    private static final int HEADER_SIZE = 32;
+    private static final int CHECKED_OFFSET = 8; // Start of the bytes the CRC covers
+    private static final int POSITION_SIZE = 16;
+
+    private final GameHistory history;
+    private final long journalLength;
+    private final long journalChecksum;
+
+    /**
+     * @param journalChecksum CRC-32 of the first journalLength bytes of the journal
+     */
+    public GameCheckpoint(GameHistory history, long journalLength, long journalChecksum) {
+        this.history = history;
+        this.journalLength = journalLength;
+        this.journalChecksum = journalChecksum;
+    }
+
+    /**
+     * Take a checkpoint of a game and the journal recording it.
+     */
+    public static GameCheckpoint of(GameHistory history, GameJournal journal) {
+        return new GameCheckpoint(history, journal.getLength(), journal.getChecksum());
+    }
+
+    public GameHistory getHistory() {
+        return history;
+    }
+
+    public long getJournalLength() {
+        return journalLength;
+    }
+
+    public long getJournalChecksum() {
+        return journalChecksum;
+    }
+
+    /**
+     * Check if a journal file still starts with the prefix this checkpoint stands for.
+     */
+    public boolean matches(File journalFile) throws IOException {
+        return GameJournal.checksum(journalFile, journalLength) == journalChecksum;
+    }
+
+    /**
+     * Put the game into the checkpoint's current position.
+     */
+    public void restore(GameState gameState) {
+        history.restore(gameState);
+    }
+
+    /**
+     * Write the checkpoint to a file, atomically replacing any previous one.
+     */
+    public void writeTo(File file) throws IOException {
+        int pastCount = history.getUndoCount() + 1;
+        int futureCount = history.getRedoCount();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + (pastCount + futureCount) * POSITION_SIZE);
+
+        buffer.put(MAGIC);
+        buffer.putInt(0); // CRC, filled in below
+        buffer.putLong(journalLength);
+        buffer.putInt((int) journalChecksum);
+        buffer.putInt(pastCount);
+        buffer.putInt(futureCount);
+        buffer.putInt(0);
+        history.writeTo(buffer.asLongBuffer());
+        buffer.putInt(MAGIC.length, checksum(buffer));
+        buffer.rewind();
+
+        File temp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            FileChannel channel = out.getChannel();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        if (!temp.renameTo(file)) {
+            temp.delete();
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    /**
+     * Map a checkpoint file.
+     *
+     * The whole file is checksummed and every position is range-checked here;
+     * positions other than the current one are decoded from the mapping on demand.
+     *
+     * @throws IOException If the file is missing, truncated or damaged
+     */
+    public static GameCheckpoint read(File file) throws IOException {
+        MappedByteBuffer map;
+        try (FileInputStream in = new FileInputStream(file)) {
+            FileChannel channel = in.getChannel();
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid checkpoint size " + size);
+            }
+            // The mapping stays valid after the channel is closed
+            map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (map.get(i) != MAGIC[i]) {
+                throw new IOException("Not a game checkpoint");
+            }
+        }
+        long journalLength = map.getLong(8);
+        long journalChecksum = map.getInt(16) & 0xFFFFFFFFL;
+        int pastCount = map.getInt(20);
+        int futureCount = map.getInt(24);
+        if (pastCount < 1 || futureCount < 0 || journalLength < 0
+                || map.capacity() != HEADER_SIZE + ((long) pastCount + futureCount) * POSITION_SIZE) {
+            throw new IOException("Invalid checkpoint header");
+        }
+        if (map.getInt(MAGIC.length) != checksum(map)) {
+            throw new IOException("Checkpoint checksum mismatch");
+        }
+
+        map.position(HEADER_SIZE);
+        LongBuffer positions = map.slice().asLongBuffer();
+        int homeIndex = BoardTopology.standard().getHomeIndex(PlayerColor.values()[0]);
+        for (int i = 0; i < positions.limit(); i += 2) {
+            if (!CompactGameState.isValid(positions.get(i), positions.get(i + 1), homeIndex)) {
+                throw new IOException("Invalid checkpoint position " + i / 2);
+            }
+        }
+        GameHistory history = GameHistory.read(positions, pastCount, futureCount);
+        return new GameCheckpoint(history, journalLength, journalChecksum);
+    }
+
+    /**
+     * Get the CRC-32 of everything after the checksum field.
+     */
+    private static int checksum(ByteBuffer buffer) {
+        // CRC32.update(ByteBuffer) needs API 26, so copy through a chunk
+        ByteBuffer bytes = buffer.duplicate();
+        bytes.clear().position(CHECKED_OFFSET);
+        CRC32 checksum = new CRC32();
+        byte[] chunk = new byte[4096];
+        while (bytes.hasRemaining()) {
+            int length = Math.min(chunk.length, bytes.remaining());
+            bytes.get(chunk, 0, length);
+            checksum.update(chunk, 0, length);
+        }
+        return (int) checksum.getValue();
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.super_ludo.journal;
+
+import com.example.super_ludo.models.GameEvent;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary log of every roll and selection in a game.
+ *
+ * Replaying the records through the rules engine rebuilds the exact position,
+ * see {@link JournalReplayer}. The file starts with a 4-byte magic number;
+ * after that every value is an unsigned LEB128 varint, so a turn usually
+ * takes two or three bytes.
+ *
+ * Records:
+ *  0, playerCount            new game
+ *  1-11                      roll, the event code (see GameEvent.getCode())
+ *  12                        undo of the last roll or selection
+ *  13                        redo of the last undone roll or selection
+ *  16 + slot                 selection of the ship in a slot (see CompactGameState.getSlot)
+ *  16 + slot, pathIndex      Alien Invasion selection with the teleport destination
+ *
+ * Every record is flushed as soon as it is written, so a crash loses at most
+ * the record being written. Readers stop at a truncated record.
+ *
+ * The journal keeps count of its length and a CRC-32 of everything written so
+ * far, which lets a {@link GameCheckpoint} prove which prefix it covers.
+ */
+public class GameJournal implements Closeable {
+
+    static final byte[] MAGIC = {'S', 'L', 'J', '1'};
+
+    static final int TAG_NEW_GAME = 0;
+    static final int TAG_UNDO = 12;
+    static final int TAG_REDO = 13;
+    static final int TAG_SELECTION = 16;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[10];
+    private final CRC32 checksum;
+    private long length;
+
+    /**
+     * Wrap a stream that the magic number has already been written to, or will be by the caller.
+     *
+     * Length and checksum only cover what is written through this journal.
+     */
+    public GameJournal(OutputStream out) {
+        this(out, new CRC32(), 0);
+    }
+
+    private GameJournal(OutputStream out, CRC32 checksum, long length) {
+        this.out = out;
+        this.checksum = checksum;
+        this.length = length;
+    }
+
+    /**
+     * Open a journal file for appending, writing the magic number if the file is new.
+     */
+    public static GameJournal open(File file) throws IOException {
+        return open(file, file.exists() ? file.length() : 0);
+    }
+
+    /**
+     * Open a journal file for appending after its first bytes, dropping the rest,
+     * such as a record cut off by a crash.
+     *
+     * @param length Bytes to keep; the magic number is written if this is 0
+     */
+    public static GameJournal open(File file, long length) throws IOException {
+        CRC32 checksum = new CRC32();
+        if (length > 0 && checksum(file, length, checksum) < length) {
+            throw new IOException("Journal is shorter than " + length + " bytes");
+        }
+
+        FileOutputStream out = new FileOutputStream(file, true);
+        try {
+            out.getChannel().truncate(length);
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+
+        GameJournal journal = new GameJournal(out, checksum, length);
+        if (length == 0) {
+            journal.writeBytes(MAGIC, MAGIC.length);
+        }
+        return journal;
+    }
+
+    /**
+     * Get the CRC-32 of the first bytes of a journal file, to compare with {@link #getChecksum()}.
+     *
+     * @return The checksum, or -1 if the file is shorter than length
+     */
+    public static long checksum(File file, long length) throws IOException {
+        CRC32 checksum = new CRC32();
+        return checksum(file, length, checksum) == length ? checksum.getValue() : -1;
+    }
+
+    /**
+     * Get the number of bytes in the journal.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Get the CRC-32 of every byte in the journal.
+     */
+    public long getChecksum() {
+        return checksum.getValue();
+    }
+
+    /**
+     * Record the start of a new game; replay restarts from the last one.
+     */
+    public void recordNewGame(int playerCount) throws IOException {
+        write(TAG_NEW_GAME, playerCount);
+    }
+
+    /**
+     * Record a Crystal Ball roll.
+     */
+    public void recordRoll(GameEvent event) throws IOException {
+        write(event.getCode());
+    }
+
+    /**
+     * Record an applied selection.
+     */
+    public void recordSelection(int slot) throws IOException {
+        write(TAG_SELECTION + slot);
+    }
+
+    /**
+     * Record an applied Alien Invasion selection with the path index the ship was sent to.
+     */
+    public void recordTeleport(int slot, int pathIndex) throws IOException {
+        write(TAG_SELECTION + slot, pathIndex);
+    }
+
+    /**
+     * Record that the last roll or selection was undone.
+     */
+    public void recordUndo() throws IOException {
+        write(TAG_UNDO);
+    }
+
+    /**
+     * Record that the last undone roll or selection was redone.
+     */
+    public void recordRedo() throws IOException {
+        write(TAG_REDO);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void write(int value) throws IOException {
+        writeBytes(buffer, putVarint(buffer, 0, value));
+    }
+
+    private void write(int first, int second) throws IOException {
+        int length = putVarint(buffer, 0, first);
+        length = putVarint(buffer, length, second);
+        writeBytes(buffer, length);
+    }
+
+    private void writeBytes(byte[] bytes, int count) throws IOException {
+        out.write(bytes, 0, count);
+        out.flush();
+        checksum.update(bytes, 0, count);
+        length += count;
+    }
+
+    /**
+     * Add up to length bytes from the start of a file to a checksum.
+     *
+     * @return The number of bytes added
+     */
+    private static long checksum(File file, long length, CRC32 checksum) throws IOException {
+        byte[] chunk = new byte[8192];
+        long total = 0;
+        try (FileInputStream in = new FileInputStream(file)) {
+            while (total < length) {
+                int read = in.read(chunk, 0, (int) Math.min(chunk.length, length - total));
+                if (read < 0) {
+                    break;
+                }
+                checksum.update(chunk, 0, read);
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Write a non-negative int as a varint into a buffer.
+     *
+     * @return The offset after the varint
+     */
+    static int putVarint(byte[] buffer, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * Read a varint.
+     *
+     * @return The value, or -1 at the end of the stream
+     * @throws EOFException If the stream ends inside the varint
+     */
+    static int readVarint(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw new EOFException("Truncated varint");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.super_ludo.journal;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.EventType;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameHistory;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.SelectionPhase;
+import com.example.super_ludo.models.Spaceship;
+import com.example.super_ludo.utils.Constants;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Rebuilds a game by replaying a {@link GameJournal} through the rules engine.
+ *
+ * Undo and redo records are replayed through a {@link GameHistory}, which is
+ * left available so the restored game can keep undoing past the replay. A
+ * replay can also pick up from a {@link GameCheckpoint}, applying only the
+ * records written after it.
+ */
+public class JournalReplayer {
+
+    private final RulesEngine engine;
+    private GameHistory history;
+    private long length;
+
+    public JournalReplayer(RulesEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Get the history of the last game replayed, or null if the journal held none.
+     */
+    public GameHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Get the number of bytes the last replay read, up to the end of its last complete record.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Replay a whole journal into a game state.
+     *
+     * Replay stops quietly at a truncated last record, as left by a crash.
+     *
+     * @return The number of records applied
+     * @throws IOException If the stream is not a journal or a record breaks the rules
+     */
+    public int replay(InputStream in, GameState gameState) throws IOException {
+        length = 0;
+        for (byte expected : GameJournal.MAGIC) {
+            if (in.read() != expected) {
+                throw new IOException("Not a game journal");
+            }
+        }
+
+        history = null;
+        int records = replayRecords(new CountingInputStream(in), gameState);
+        length += GameJournal.MAGIC.length;
+        return records;
+    }
+
+    /**
+     * Replay the records that follow a position, continuing its history.
+     *
+     * @param in The journal, positioned after the records the history already covers
+     * @param gameState The game, already in the history's current position
+     * @return The number of records applied
+     * @throws IOException If a record breaks the rules
+     */
+    public int resume(InputStream in, GameState gameState, GameHistory history) throws IOException {
+        this.history = history;
+        return replayRecords(new CountingInputStream(in), gameState);
+    }
+
+    private int replayRecords(CountingInputStream in, GameState gameState) throws IOException {
+        length = 0;
+        int records = 0;
+        try {
+            int tag;
+            while ((tag = GameJournal.readVarint(in)) >= 0) {
+                if (tag == GameJournal.TAG_NEW_GAME) {
+                    int playerCount = GameJournal.readVarint(in);
+                    if (playerCount < 0) {
+                        throw new EOFException("Missing player count");
+                    }
+                    if (playerCount < Constants.MIN_PLAYERS || playerCount > Constants.MAX_PLAYERS) {
+                        throw new IOException("Invalid player count " + playerCount);
+                    }
+                    gameState.initialize(playerCount);
+                    history = GameHistory.start(gameState);
+                } else if (tag == GameJournal.TAG_UNDO || tag == GameJournal.TAG_REDO) {
+                    boolean undo = tag == GameJournal.TAG_UNDO;
+                    if (history == null || (undo ? !history.canUndo() : !history.canRedo())) {
+                        throw new IOException("Nothing to " + (undo ? "undo" : "redo"));
+                    }
+                    history = undo ? history.undo() : history.redo();
+                    history.restore(gameState);
+                } else if (tag <= GameEvent.OUTCOME_COUNT) {
+                    if (history == null || gameState.isGameOver()) {
+                        throw new IOException("Roll recorded outside a game");
+                    }
+                    engine.processRoll(gameState, GameEvent.fromCode(tag));
+                    history = history.record(gameState);
+                } else {
+                    applySelection(in, gameState, tag - GameJournal.TAG_SELECTION);
+                    history = history.record(gameState);
+                }
+                records++;
+                length = in.count;
+            }
+        } catch (EOFException e) {
+            // Truncated last record, keep everything before it
+        }
+        return records;
+    }
+
+    private void applySelection(InputStream in, GameState gameState, int slot) throws IOException {
+        if (history == null || slot < 0 || slot >= gameState.getShipCount() || gameState.getSelectionPhase() == SelectionPhase.NONE) {
+            throw new IOException("Unexpected selection record");
+        }
+
+        GameEvent event = gameState.getLastEvent();
+        Spaceship ship = gameState.getShip(slot);
+        if (MoveGenerator.getRejection(gameState, event, ship) != null) {
+            throw new IOException("Illegal selection of slot " + slot);
+        }
+
+        int move = Move.create(MoveGenerator.getMoveType(event), slot);
+        if (event.getType() != EventType.ALIEN_INVASION) {
+            engine.applyMove(gameState, move);
+            return;
+        }
+
+        int pathIndex = GameJournal.readVarint(in);
+        if (pathIndex < 0) {
+            throw new EOFException("Missing teleport destination");
+        }
+        if (pathIndex > gameState.getBoard().getHomeEntranceIndex(ship.getColor())) {
+            throw new IOException("Invalid teleport destination " + pathIndex);
+        }
+        engine.applyMove(gameState, move, pathIndex);
+    }
+
+    /**
+     * Counts the bytes read one at a time, the only way records are read.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+    }
+}
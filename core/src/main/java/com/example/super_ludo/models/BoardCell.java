@@ -0,0 +1,70 @@
+package com.example.super_ludo.models;
+
+/**
+ * Represents a cell on the game board.
+ *
+ * Cells belong to the shared {@link BoardTopology} and never change; ask the
+ * game's {@link GameBoard} which spaceships are on one.
+ */
+public final class BoardCell {
+    private final int x;
+    private final int y;
+    private final CellType type;
+    private final PlayerColor color; // For colored paths
+
+    public BoardCell(int x, int y, CellType type) {
+        this(x, y, type, null); // Default to no color
+    }
+
+    public BoardCell(int x, int y, CellType type, PlayerColor color) {
+        this.x = x;
+        this.y = y;
+        this.type = type;
+        this.color = color;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public CellType getType() {
+        return type;
+    }
+
+    public PlayerColor getColor() {
+        return color;
+    }
+
+    public boolean isSafeZone() {
+        return type == CellType.SAFE_ZONE;
+    }
+
+    public boolean isBase() {
+        return type == CellType.BASE;
+    }
+
+    public boolean isHome() {
+        return type == CellType.HOME;
+    }
+
+    public boolean isStart() {
+        return type == CellType.START;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof BoardCell)) return false;
+        BoardCell other = (BoardCell) obj;
+        return x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * x + y;
+    }
+}
@@ -0,0 +1,451 @@
+package com.example.super_ludo.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The fixed layout of the board: cells, paths, bases, homes and safe zones.
+ *
+ * A topology is immutable and shared by every {@link GameBoard} playing the
+ * same rules, so it is built once per process; see {@link #standard()}.
+ * Which ships stand where is kept per game by GameBoard.
+ */
+public final class BoardTopology {
+    public static final int BOARD_SIZE = 11; // 11x11 grid
+    public static final int TRACK_LENGTH = 40; // Cells on the main track around the board
+
+    private static final BoardTopology STANDARD = new BoardTopology();
+
+    private final BoardCell[] cellsByIndex; // Indexed by y * BOARD_SIZE + x
+    private final BoardCell[][] baseCells; // Color ordinal -> base cells
+    private final BoardCell[] startPositions; // Color ordinal -> start cell
+    private final BoardCell[] homePositions; // Color ordinal -> home cell
+    private final int[][] homePaths; // Color ordinal -> cell indices of the home path, towards home
+
+    // Lookup tables; per-color tables are indexed by PlayerColor.ordinal()
+    private final int[] trackCells = new int[TRACK_LENGTH]; // Track index -> cell index
+    private final int[] trackIndexByCell;    // Cell index -> track index, or -1 if not on the track
+    private final int[][] pathCells;         // Path index -> cell index (track, then home path, then home)
+    private final int[][] pathIndexByCell;   // Cell index -> path index, or -1 if not on the color's path
+    private final int[][] nextSafeZoneIndex; // Path index -> path index of the next safe zone ahead, or -1
+    private final int[] homeEntranceIndex;   // Path index of the last track cell before the home path
+    private final int[] homeIndex;           // Path index of the home cell
+    private final long safeZoneMask;         // Bitset of track indices that are safe zones
+
+    private BoardTopology() {
+        int colorCount = PlayerColor.values().length;
+        Layout layout = new Layout();
+
+        int[][] bases = new int[colorCount][];
+        int[] starts = new int[colorCount];
+        homePaths = new int[colorCount][];
+
+        createMainPath(layout);
+        createPlayerArea(layout, PlayerColor.BLUE, BOARD_SIZE - 3, BOARD_SIZE - 3, BOARD_SIZE - 2, BOARD_SIZE - 1, 0, -1, bases, starts);
+        createPlayerArea(layout, PlayerColor.GREEN, BOARD_SIZE - 3, 0, BOARD_SIZE - 2, 0, -1, 0, bases, starts);
+        createPlayerArea(layout, PlayerColor.RED, 0, 0, 1, 0, 0, 1, bases, starts);
+        createPlayerArea(layout, PlayerColor.YELLOW, 0, BOARD_SIZE - 3, 1, BOARD_SIZE - 1, 1, 0, bases, starts);
+        markSafeZones(layout);
+
+        // Only blue's home cell carries a color, all homes share the center
+        int home = layout.mark(BOARD_SIZE / 2, BOARD_SIZE / 2, CellType.HOME, PlayerColor.BLUE);
+
+        // The layout is final, create the cells
+        cellsByIndex = new BoardCell[BOARD_SIZE * BOARD_SIZE];
+        for (int i = 0; i < cellsByIndex.length; i++) {
+            cellsByIndex[i] = new BoardCell(i % BOARD_SIZE, i / BOARD_SIZE, layout.types[i], layout.colors[i]);
+        }
+
+        baseCells = new BoardCell[colorCount][];
+        startPositions = new BoardCell[colorCount];
+        homePositions = new BoardCell[colorCount];
+        for (int c = 0; c < colorCount; c++) {
+            baseCells[c] = new BoardCell[bases[c].length];
+            for (int i = 0; i < bases[c].length; i++) {
+                baseCells[c][i] = cellsByIndex[bases[c][i]];
+            }
+            startPositions[c] = cellsByIndex[starts[c]];
+            homePositions[c] = cellsByIndex[home];
+        }
+
+        trackIndexByCell = new int[BOARD_SIZE * BOARD_SIZE];
+        pathCells = new int[colorCount][];
+        pathIndexByCell = new int[colorCount][];
+        nextSafeZoneIndex = new int[colorCount][];
+        homeEntranceIndex = new int[colorCount];
+        homeIndex = new int[colorCount];
+        safeZoneMask = buildPathTables();
+    }
+
+    /**
+     * Get the topology of the standard board.
+     */
+    public static BoardTopology standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Create the main path that goes around the board.
+     */
+    private void createMainPath(Layout layout) {
+        // The track runs counterclockwise around the edge of the board;
+        // cells are recorded in the order ships travel over them
+        int trackIndex = 0;
+
+        // Bottom row (left to right)
+        for (int x = 0; x < BOARD_SIZE; x++) {
+            trackCells[trackIndex++] = layout.mark(x, BOARD_SIZE-1, CellType.PATH, null);
+        }
+
+        // Right column (bottom to top)
+        for (int y = BOARD_SIZE-2; y >= 0; y--) {
+            trackCells[trackIndex++] = layout.mark(BOARD_SIZE-1, y, CellType.PATH, null);
+        }
+
+        // Top row (right to left)
+        for (int x = BOARD_SIZE-2; x >= 0; x--) {
+            trackCells[trackIndex++] = layout.mark(x, 0, CellType.PATH, null);
+        }
+
+        // Left column (top to bottom)
+        for (int y = 1; y < BOARD_SIZE-1; y++) {
+            trackCells[trackIndex++] = layout.mark(0, y, CellType.PATH, null);
+        }
+    }
+
+    /**
+     * Create a player's base, start cell and home path.
+     *
+     * @param baseX Left column of the 3x3 base corner; its board corner cell stays on the track
+     * @param baseY Top row of the base corner
+     * @param startX Column of the start cell
+     * @param startY Row of the start cell
+     * @param dx Step along the home path, which leads from the board edge to the center
+     * @param dy Step along the home path
+     */
+    private void createPlayerArea(Layout layout, PlayerColor color, int baseX, int baseY, int startX, int startY,
+                                  int dx, int dy, int[][] bases, int[] starts) {
+        // Base cells, in rows from the top
+        int[] base = new int[8];
+        int count = 0;
+        for (int y = baseY; y < baseY + 3; y++) {
+            for (int x = baseX; x < baseX + 3; x++) {
+                if ((x == 0 || x == BOARD_SIZE-1) && (y == 0 || y == BOARD_SIZE-1)) continue; // Skip the corner cell (part of main path)
+                base[count++] = layout.mark(x, y, CellType.BASE, color);
+            }
+        }
+        bases[color.ordinal()] = base;
+
+        starts[color.ordinal()] = layout.mark(startX, startY, CellType.START, color);
+
+        // Home path, from the cell next to the track towards the center
+        int[] homePath = new int[BOARD_SIZE / 2 - 1];
+        int x = BOARD_SIZE / 2 - (BOARD_SIZE / 2 - 1) * dx;
+        int y = BOARD_SIZE / 2 - (BOARD_SIZE / 2 - 1) * dy;
+        for (int i = 0; i < homePath.length; i++) {
+            homePath[i] = layout.mark(x, y, CellType.HOME_PATH, color);
+            x += dx;
+            y += dy;
+        }
+        homePaths[color.ordinal()] = homePath;
+    }
+
+    /**
+     * Mark safe zones on the board, one in the middle of every side.
+     */
+    private static void markSafeZones(Layout layout) {
+        layout.mark(BOARD_SIZE/2, BOARD_SIZE-1, CellType.SAFE_ZONE, null); // Bottom row
+        layout.mark(BOARD_SIZE-1, BOARD_SIZE/2, CellType.SAFE_ZONE, null); // Right column
+        layout.mark(BOARD_SIZE/2, 0, CellType.SAFE_ZONE, null);            // Top row
+        layout.mark(0, BOARD_SIZE/2, CellType.SAFE_ZONE, null);            // Left column
+    }
+
+    /**
+     * Build the path lookup tables used for movement.
+     *
+     * Each color's path starts on its start cell, goes once around the track
+     * to the cell before its start cell, then runs up the home path to home,
+     * so every color travels the same number of steps.
+     *
+     * @return The safe zone bitset of the track
+     */
+    private long buildPathTables() {
+        int cellCount = BOARD_SIZE * BOARD_SIZE;
+
+        long safeZones = 0;
+        Arrays.fill(trackIndexByCell, -1);
+        for (int i = 0; i < TRACK_LENGTH; i++) {
+            trackIndexByCell[trackCells[i]] = i;
+            if (cellsByIndex[trackCells[i]].isSafeZone()) {
+                safeZones |= 1L << i;
+            }
+        }
+
+        for (PlayerColor color : PlayerColor.values()) {
+            int c = color.ordinal();
+            int[] homePath = homePaths[c];
+
+            int startTrackIndex = trackIndexByCell[cellIndex(startPositions[c])];
+            int entranceTrackIndex = (startTrackIndex + TRACK_LENGTH - 1) % TRACK_LENGTH;
+            int entrance = (entranceTrackIndex - startTrackIndex + TRACK_LENGTH) % TRACK_LENGTH;
+
+            homeEntranceIndex[c] = entrance;
+            homeIndex[c] = entrance + homePath.length + 1;
+            if (homeIndex[c] != homeIndex[0]) {
+                throw new IllegalStateException(color + " path has " + homeIndex[c]
+                        + " steps to home, " + PlayerColor.values()[0] + " has " + homeIndex[0]);
+            }
+
+            int[] path = new int[homeIndex[c] + 1];
+            for (int i = 0; i <= entrance; i++) {
+                path[i] = trackCells[(startTrackIndex + i) % TRACK_LENGTH];
+            }
+            System.arraycopy(homePath, 0, path, entrance + 1, homePath.length);
+            path[homeIndex[c]] = cellIndex(homePositions[c]);
+            pathCells[c] = path;
+
+            int[] byCell = new int[cellCount];
+            Arrays.fill(byCell, -1);
+            for (int i = 0; i < path.length; i++) {
+                byCell[path[i]] = i;
+            }
+            pathIndexByCell[c] = byCell;
+
+            // Walk the path backwards so each entry knows the next safe zone ahead
+            int[] nextSafe = new int[path.length];
+            int next = -1;
+            for (int i = path.length - 1; i >= 0; i--) {
+                nextSafe[i] = next;
+                if (cellsByIndex[path[i]].isSafeZone()) {
+                    next = i;
+                }
+            }
+            nextSafeZoneIndex[c] = nextSafe;
+        }
+        return safeZones;
+    }
+
+    /**
+     * Cell types and colors while the board is being built, indexed by cell index.
+     *
+     * Only the constructor holds one; the finished topology keeps the cells instead.
+     */
+    private static final class Layout {
+        final CellType[] types = new CellType[BOARD_SIZE * BOARD_SIZE];
+        final PlayerColor[] colors = new PlayerColor[BOARD_SIZE * BOARD_SIZE];
+
+        Layout() {
+            Arrays.fill(types, CellType.EMPTY);
+        }
+
+        int mark(int x, int y, CellType type, PlayerColor color) {
+            int index = cellIndex(x, y);
+            types[index] = type;
+            colors[index] = color;
+            return index;
+        }
+    }
+
+    private static int cellIndex(int x, int y) {
+        return y * BOARD_SIZE + x;
+    }
+
+    static int cellIndex(BoardCell cell) {
+        return cellIndex(cell.getX(), cell.getY());
+    }
+
+    /**
+     * Get a cell at specified coordinates.
+     */
+    public BoardCell getCell(int x, int y) {
+        if (x >= 0 && x < BOARD_SIZE && y >= 0 && y < BOARD_SIZE) {
+            return cellsByIndex[cellIndex(x, y)];
+        }
+        return null;
+    }
+
+    /**
+     * Get the start position for a player.
+     */
+    public BoardCell getStartPosition(PlayerColor color) {
+        return startPositions[color.ordinal()];
+    }
+
+    /**
+     * Get the home position for a player.
+     */
+    public BoardCell getHomePosition(PlayerColor color) {
+        return homePositions[color.ordinal()];
+    }
+
+    /**
+     * Get a base position for a player's spaceship.
+     */
+    public BoardCell getBasePosition(PlayerColor color, int shipIndex) {
+        BoardCell[] bases = baseCells[color.ordinal()];
+        if (shipIndex >= 0 && shipIndex < bases.length) {
+            return bases[shipIndex];
+        }
+        return bases[0]; // Default to first base if index out of bounds
+    }
+
+    /**
+     * Get the cell at a path index for a player color.
+     */
+    public BoardCell getPathCell(PlayerColor color, int pathIndex) {
+        int[] path = pathCells[color.ordinal()];
+        if (pathIndex < 0 || pathIndex >= path.length) {
+            return null;
+        }
+        return cellsByIndex[path[pathIndex]];
+    }
+
+    /**
+     * Get the path index of a cell for a player color, or -1 if the cell is not on its path.
+     */
+    public int getPathIndex(PlayerColor color, BoardCell cell) {
+        if (cell == null) {
+            return -1;
+        }
+        return pathIndexByCell[color.ordinal()][cellIndex(cell)];
+    }
+
+    /**
+     * Get the path index of the last track cell before a color's home path.
+     */
+    public int getHomeEntranceIndex(PlayerColor color) {
+        return homeEntranceIndex[color.ordinal()];
+    }
+
+    /**
+     * Get the path index of a color's home cell.
+     */
+    public int getHomeIndex(PlayerColor color) {
+        return homeIndex[color.ordinal()];
+    }
+
+    /**
+     * Get the number of steps from a path index to home.
+     */
+    public int getStepsToHome(PlayerColor color, int pathIndex) {
+        return homeIndex[color.ordinal()] - pathIndex;
+    }
+
+    /**
+     * Get the path index of the next safe zone ahead of a path index, or -1 if there is none.
+     */
+    public int getNextSafeZoneIndex(PlayerColor color, int pathIndex) {
+        int[] nextSafe = nextSafeZoneIndex[color.ordinal()];
+        if (pathIndex < 0 || pathIndex >= nextSafe.length) {
+            return -1;
+        }
+        return nextSafe[pathIndex];
+    }
+
+    /**
+     * Get the track index of a cell, or -1 if the cell is not on the main track.
+     */
+    public int getTrackIndex(BoardCell cell) {
+        return trackIndexByCell[cellIndex(cell)];
+    }
+
+    /**
+     * Get the track indices that are safe zones, as a bitset.
+     */
+    public long getSafeZoneMask() {
+        return safeZoneMask;
+    }
+
+    /**
+     * Get the cells of every safe zone, in track order.
+     */
+    public List<BoardCell> getSafeZones() {
+        List<BoardCell> safeZones = new ArrayList<>();
+        for (int i = 0; i < TRACK_LENGTH; i++) {
+            if ((safeZoneMask & (1L << i)) != 0) {
+                safeZones.add(cellsByIndex[trackCells[i]]);
+            }
+        }
+        return safeZones;
+    }
+
+    /**
+     * Calculate the new position after moving a certain number of steps.
+     *
+     * @return The new cell, or null if the move is not possible
+     */
+    public BoardCell calculateNewPosition(BoardCell currentPosition, PlayerColor color, int steps) {
+        // Ships in base can only leave with a 6
+        if (currentPosition == null) {
+            return steps == 6 ? getStartPosition(color) : null;
+        }
+
+        int pathIndex = getPathIndex(color, currentPosition);
+        if (pathIndex < 0) {
+            return null;
+        }
+
+        // Moves past home are not allowed, an exact count is needed
+        return getPathCell(color, pathIndex + steps);
+    }
+
+    /**
+     * Get the next safe zone on the track ahead of a position.
+     */
+    public BoardCell getNextSafeZone(BoardCell currentPosition) {
+        if (currentPosition == null) {
+            return null;
+        }
+
+        int trackIndex = getTrackIndex(currentPosition);
+        if (trackIndex < 0) {
+            return null;
+        }
+
+        for (int i = 1; i <= TRACK_LENGTH; i++) {
+            BoardCell cell = cellsByIndex[trackCells[(trackIndex + i) % TRACK_LENGTH]];
+            if (cell.isSafeZone()) {
+                return cell;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get a random cell on the board.
+     */
+    public BoardCell getRandomCell(Random random) {
+        return cellsByIndex[random.nextInt(cellsByIndex.length)];
+    }
+
+    /**
+     * Check if moving from one position to another requires entering home.
+     */
+    public boolean isPathToHome(BoardCell fromPosition, BoardCell toPosition, PlayerColor color) {
+        if (fromPosition == null || toPosition == null) {
+            return false;
+        }
+
+        return getPathIndex(color, toPosition) > getHomeEntranceIndex(color);
+    }
+
+    /**
+     * Get the number of steps required to reach home from the current position.
+     */
+    public int getStepsToHome(BoardCell currentPosition, PlayerColor color) {
+        int pathIndex = getPathIndex(color, currentPosition);
+        if (pathIndex < 0) {
+            return -1; // Can't calculate from base
+        }
+        return getStepsToHome(color, pathIndex);
+    }
+
+    /**
+     * Check if a cell is a safe zone.
+     */
+    public boolean isSafeZone(BoardCell cell) {
+        return cell != null && cell.isSafeZone();
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.utils.Constants;
+
+/**
+ * Immutable bit-packed encoding of a {@link GameState} in two longs.
+ *
+ * Every ship is stored as a 6-bit code: 0 while in base, otherwise its path
+ * index + 1. Ships are numbered by slot, color ordinal * ships per player +
+ * ship number - 1, which matches player order since players take colors in order.
+ *
+ * Layout of the low word:
+ *  bits 0-59   ship codes for slots 0-9
+ *  bits 60-61  current player index
+ *  bit  62     extra turn flag
+ *
+ * Layout of the high word:
+ *  bits 0-11   ship codes for slots 10-11
+ *  bits 12-13  pending selection phase (SelectionPhase ordinal)
+ *  bits 14-16  player count
+ *  bits 17-20  last event code (see GameEvent.getCode(), 0 for none)
+ *
+ * The static accessors work directly on the raw words so search code can
+ * read and update positions without allocating.
+ */
+public final class CompactGameState {
+
+    public static final int SHIP_COUNT = Constants.MAX_PLAYERS * Constants.SHIPS_PER_PLAYER;
+    public static final int BASE_CODE = 0;
+
+    private static final int SHIP_BITS = 6;
+    private static final long SHIP_MASK = (1L << SHIP_BITS) - 1;
+    private static final int SHIPS_IN_LOW = 10;
+
+    private static final int PLAYER_SHIFT = 60;
+    private static final int EXTRA_TURN_SHIFT = 62;
+
+    private static final int PHASE_SHIFT = 12;
+    private static final int PLAYER_COUNT_SHIFT = 14;
+    private static final int EVENT_SHIFT = 17;
+
+    private final long low;
+    private final long high;
+
+    public CompactGameState(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Get the ship slot used by this encoding for a spaceship.
+     */
+    public static int getSlot(Spaceship ship) {
+        return ship.getColor().ordinal() * Constants.SHIPS_PER_PLAYER + ship.getShipNumber() - 1;
+    }
+
+    /**
+     * Get the code of a spaceship's current position.
+     */
+    public static int getShipCode(Spaceship ship) {
+        return ship.isInBase() ? BASE_CODE : ship.getPathPosition() + 1;
+    }
+
+    /**
+     * Encode a game state.
+     */
+    public static CompactGameState encode(GameState gameState) {
+        long low = 0;
+        long high = 0;
+
+        for (Player player : gameState.getPlayers()) {
+            for (Spaceship ship : player.getSpaceships()) {
+                int slot = getSlot(ship);
+                int code = getShipCode(ship);
+                if (isInLow(slot)) {
+                    low = withShipCode(low, slot, code);
+                } else {
+                    high = withShipCode(high, slot, code);
+                }
+            }
+        }
+
+        low |= (long) gameState.getCurrentPlayerIndex() << PLAYER_SHIFT;
+        if (gameState.hasExtraTurn()) {
+            low |= 1L << EXTRA_TURN_SHIFT;
+        }
+
+        GameEvent lastEvent = gameState.getLastEvent();
+        high |= (long) gameState.getSelectionPhase().ordinal() << PHASE_SHIFT;
+        high |= (long) gameState.getPlayers().size() << PLAYER_COUNT_SHIFT;
+        high |= (long) (lastEvent != null ? lastEvent.getCode() : 0) << EVENT_SHIFT;
+
+        return new CompactGameState(low, high);
+    }
+
+    /**
+     * Write this encoding back into a game state, replacing its positions and turn.
+     *
+     * Players are recreated only if the player count differs.
+     */
+    public void decodeInto(GameState gameState) {
+        int playerCount = getPlayerCount();
+        if (gameState.getPlayers().size() != playerCount) {
+            gameState.initialize(playerCount);
+        }
+
+        for (Player player : gameState.getPlayers()) {
+            for (Spaceship ship : player.getSpaceships()) {
+                int code = getShipCode(getSlot(ship));
+                if (code == BASE_CODE) {
+                    gameState.sendShipToBase(ship);
+                } else {
+                    gameState.moveShip(ship, code - 1);
+                }
+            }
+        }
+
+        gameState.setLastEvent(GameEvent.fromCode(getEventCode()));
+        gameState.setSelectionPhase(getSelectionPhase());
+        gameState.restoreTurn(getCurrentPlayerIndex(), isExtraTurn());
+    }
+
+    public int getShipCode(int slot) {
+        return getShipCode(low, high, slot);
+    }
+
+    public int getCurrentPlayerIndex() {
+        return getCurrentPlayerIndex(low);
+    }
+
+    public boolean isExtraTurn() {
+        return isExtraTurn(low);
+    }
+
+    public SelectionPhase getSelectionPhase() {
+        return SelectionPhase.values()[(int) ((high >>> PHASE_SHIFT) & 0x3)];
+    }
+
+    public int getPlayerCount() {
+        return getPlayerCount(high);
+    }
+
+    public int getEventCode() {
+        return getEventCode(high);
+    }
+
+    /**
+     * Check if raw words describe a position a game can be in.
+     *
+     * Meant for encodings read back from storage: the player count, turn,
+     * phase and event must be in range, every used slot's code must be at
+     * most homeIndex + 1 and unused slots and bits must be zero.
+     *
+     * @param homeIndex Path index of the home cell
+     */
+    public static boolean isValid(long low, long high, int homeIndex) {
+        int playerCount = getPlayerCount(high);
+        if (playerCount < Constants.MIN_PLAYERS || playerCount > Constants.MAX_PLAYERS
+                || getCurrentPlayerIndex(low) >= playerCount
+                || ((high >>> PHASE_SHIFT) & 0x3) >= SelectionPhase.values().length
+                || getEventCode(high) > GameEvent.OUTCOME_COUNT
+                || low >>> (EXTRA_TURN_SHIFT + 1) != 0
+                || high >>> (EVENT_SHIFT + 4) != 0) {
+            return false;
+        }
+
+        int usedSlots = playerCount * Constants.SHIPS_PER_PLAYER;
+        for (int slot = 0; slot < SHIP_COUNT; slot++) {
+            int maxCode = slot < usedSlots ? homeIndex + 1 : BASE_CODE;
+            if (getShipCode(low, high, slot) > maxCode) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read a ship code from raw words.
+     */
+    public static int getShipCode(long low, long high, int slot) {
+        if (slot < SHIPS_IN_LOW) {
+            return (int) ((low >>> (slot * SHIP_BITS)) & SHIP_MASK);
+        }
+        return (int) ((high >>> ((slot - SHIPS_IN_LOW) * SHIP_BITS)) & SHIP_MASK);
+    }
+
+    /**
+     * Replace a ship code in the raw word the slot lives in, see {@link #isInLow(int)}.
+     */
+    public static long withShipCode(long word, int slot, int code) {
+        int shift = (isInLow(slot) ? slot : slot - SHIPS_IN_LOW) * SHIP_BITS;
+        return (word & ~(SHIP_MASK << shift)) | ((long) code << shift);
+    }
+
+    /**
+     * Check whether a ship slot is stored in the low word.
+     */
+    public static boolean isInLow(int slot) {
+        return slot < SHIPS_IN_LOW;
+    }
+
+    public static int getCurrentPlayerIndex(long low) {
+        return (int) ((low >>> PLAYER_SHIFT) & 0x3);
+    }
+
+    public static boolean isExtraTurn(long low) {
+        return ((low >>> EXTRA_TURN_SHIFT) & 1L) != 0;
+    }
+
+    public static int getPlayerCount(long high) {
+        return (int) ((high >>> PLAYER_COUNT_SHIFT) & 0x7);
+    }
+
+    public static int getEventCode(long high) {
+        return (int) ((high >>> EVENT_SHIFT) & 0xF);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof CompactGameState)) return false;
+        CompactGameState other = (CompactGameState) obj;
+        return low == other.low && high == other.high;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = low * 31 + high;
+        return (int) (h ^ (h >>> 32));
+    }
+}
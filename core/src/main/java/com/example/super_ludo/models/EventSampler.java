@@ -0,0 +1,152 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.utils.Constants;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws Crystal Ball outcomes from a probability table.
+ *
+ * Uses Walker's alias method: every outcome code gets a bucket holding a
+ * threshold and an alias, so a draw is one random number and one comparison
+ * regardless of the table. The sampler is immutable and can be shared between
+ * threads; each caller passes its own {@link SplittableRandom}, so seeded runs
+ * are reproducible and simulation workers can split their streams.
+ */
+public class EventSampler {
+
+    private static final int BUCKETS = GameEvent.OUTCOME_COUNT;
+
+    // Probability per event code, index 0 unused
+    private final double[] probabilities = new double[GameEvent.OUTCOME_COUNT + 1];
+    // Chance of keeping bucket i's own code (i + 1) rather than its alias
+    private final double[] thresholds = new double[BUCKETS];
+    private final int[] aliases = new int[BUCKETS];
+
+    /**
+     * @param weights Relative weight per event code (index 0 unused), see {@link GameEvent#getCode()}
+     */
+    public EventSampler(double[] weights) {
+        if (weights.length != GameEvent.OUTCOME_COUNT + 1) {
+            throw new IllegalArgumentException("Expected a weight for every event code");
+        }
+
+        double total = 0;
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            if (!(weights[code] >= 0) || Double.isInfinite(weights[code])) {
+                throw new IllegalArgumentException("Weights must be finite and not negative");
+            }
+            total += weights[code];
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        // Scale so the average bucket holds exactly 1, then pair each
+        // underfull bucket with an overfull one that tops it up
+        double[] scaled = new double[BUCKETS];
+        int[] small = new int[BUCKETS];
+        int[] large = new int[BUCKETS];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            probabilities[i + 1] = weights[i + 1] / total;
+            scaled[i] = probabilities[i + 1] * BUCKETS;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int under = small[--smallCount];
+            int over = large[--largeCount];
+            thresholds[under] = scaled[under];
+            aliases[under] = over + 1;
+
+            scaled[over] -= 1 - scaled[under];
+            if (scaled[over] < 1) {
+                small[smallCount++] = over;
+            } else {
+                large[largeCount++] = over;
+            }
+        }
+
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            int bucket = large[--largeCount];
+            thresholds[bucket] = 1;
+            aliases[bucket] = bucket + 1;
+        }
+        while (smallCount > 0) {
+            int bucket = small[--smallCount];
+            thresholds[bucket] = 1;
+            aliases[bucket] = bucket + 1;
+        }
+    }
+
+    /**
+     * Build a sampler from weights per {@link EventType}, in ordinal order.
+     *
+     * The normal roll weight is split evenly across the six values.
+     */
+    public static EventSampler fromTypeWeights(int[] weightsByType) {
+        if (weightsByType.length != EventType.values().length) {
+            throw new IllegalArgumentException("Expected " + EventType.values().length + " weights");
+        }
+
+        double[] weights = new double[GameEvent.OUTCOME_COUNT + 1];
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            EventType type = GameEvent.fromCode(code).getType();
+            double weight = weightsByType[type.ordinal()];
+            weights[code] = type == EventType.NORMAL_ROLL ? weight / 6 : weight;
+        }
+        return new EventSampler(weights);
+    }
+
+    /**
+     * Build the sampler for the game's Constants.PROB_* weights.
+     */
+    public static EventSampler fromConstants() {
+        return fromTypeWeights(new int[] {
+                Constants.PROB_NORMAL_ROLL,
+                Constants.PROB_BLACK_HOLE,
+                Constants.PROB_METEOR_STRIKE,
+                Constants.PROB_WORMHOLE,
+                Constants.PROB_SUPER_BOOST,
+                Constants.PROB_ALIEN_INVASION
+        });
+    }
+
+    /**
+     * Draw an event code, see {@link GameEvent#getCode()}.
+     */
+    public int sampleCode(SplittableRandom random) {
+        // One draw picks both the bucket and the point within it
+        double x = random.nextDouble() * BUCKETS;
+        int bucket = (int) x;
+        return x - bucket < thresholds[bucket] ? bucket + 1 : aliases[bucket];
+    }
+
+    /**
+     * Draw an event.
+     */
+    public GameEvent sample(SplittableRandom random) {
+        return GameEvent.fromCode(sampleCode(random));
+    }
+
+    /**
+     * Get the probability of an event code.
+     */
+    public double getProbability(int code) {
+        return probabilities[code];
+    }
+
+    /**
+     * Get the probability of every event code, index 0 unused.
+     */
+    public double[] getProbabilities() {
+        return probabilities.clone();
+    }
+}
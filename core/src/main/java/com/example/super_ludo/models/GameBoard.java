@@ -0,0 +1,299 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The board of one game: a shared {@link BoardTopology} plus which ships stand where.
+ *
+ * Only occupancy is stored per game, a few bitsets and one ship reference per
+ * slot, so creating a game costs bytes rather than a fresh copy of the layout.
+ * Layout queries are forwarded to the topology.
+ */
+public class GameBoard {
+    public static final int TRACK_LENGTH = BoardTopology.TRACK_LENGTH; // Cells on the main track around the board
+
+    private final BoardTopology topology;
+
+    // Track occupancy, one bit per track index; updated by GameState as ships move
+    private final long[] occupancy;        // Color ordinal -> bitset of track indices holding its ships
+    private final byte[][] occupantCounts; // Color ordinal -> track index -> number of its ships there
+    // Ships on the board, indexed by CompactGameState slot; null while in base
+    private final Spaceship[] occupants = new Spaceship[CompactGameState.SHIP_COUNT];
+
+    public GameBoard() {
+        this(BoardTopology.standard());
+    }
+
+    public GameBoard(BoardTopology topology) {
+        int colorCount = PlayerColor.values().length;
+        this.topology = topology;
+        this.occupancy = new long[colorCount];
+        this.occupantCounts = new byte[colorCount][TRACK_LENGTH];
+    }
+
+    /**
+     * Get the layout this board is played on.
+     */
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Get a cell at specified coordinates.
+     */
+    public BoardCell getCell(int x, int y) {
+        return topology.getCell(x, y);
+    }
+
+    /**
+     * Get the start position for a player.
+     */
+    public BoardCell getStartPosition(PlayerColor color) {
+        return topology.getStartPosition(color);
+    }
+
+    /**
+     * Get the home position for a player.
+     */
+    public BoardCell getHomePosition(PlayerColor color) {
+        return topology.getHomePosition(color);
+    }
+
+    /**
+     * Get a base position for a player's spaceship.
+     */
+    public BoardCell getBasePosition(PlayerColor color, int shipIndex) {
+        return topology.getBasePosition(color, shipIndex);
+    }
+
+    /**
+     * Get the cell at a path index for a player color.
+     */
+    public BoardCell getPathCell(PlayerColor color, int pathIndex) {
+        return topology.getPathCell(color, pathIndex);
+    }
+
+    /**
+     * Get the path index of a cell for a player color, or -1 if the cell is not on its path.
+     */
+    public int getPathIndex(PlayerColor color, BoardCell cell) {
+        return topology.getPathIndex(color, cell);
+    }
+
+    /**
+     * Get the path index of the last track cell before a color's home path.
+     */
+    public int getHomeEntranceIndex(PlayerColor color) {
+        return topology.getHomeEntranceIndex(color);
+    }
+
+    /**
+     * Get the path index of a color's home cell.
+     */
+    public int getHomeIndex(PlayerColor color) {
+        return topology.getHomeIndex(color);
+    }
+
+    /**
+     * Get the number of steps from a path index to home.
+     */
+    public int getStepsToHome(PlayerColor color, int pathIndex) {
+        return topology.getStepsToHome(color, pathIndex);
+    }
+
+    /**
+     * Get the path index of the next safe zone ahead of a path index, or -1 if there is none.
+     */
+    public int getNextSafeZoneIndex(PlayerColor color, int pathIndex) {
+        return topology.getNextSafeZoneIndex(color, pathIndex);
+    }
+
+    /**
+     * Get the track index of a cell, or -1 if the cell is not on the main track.
+     */
+    public int getTrackIndex(BoardCell cell) {
+        return topology.getTrackIndex(cell);
+    }
+
+    /**
+     * Record a ship arriving on a cell.
+     */
+    void addOccupant(Spaceship ship, BoardCell cell) {
+        occupants[CompactGameState.getSlot(ship)] = ship;
+        int c = ship.getColor().ordinal();
+        int trackIndex = topology.getTrackIndex(cell);
+        if (trackIndex >= 0 && occupantCounts[c][trackIndex]++ == 0) {
+            occupancy[c] |= 1L << trackIndex;
+        }
+    }
+
+    /**
+     * Record a ship leaving a cell.
+     */
+    void removeOccupant(Spaceship ship, BoardCell cell) {
+        occupants[CompactGameState.getSlot(ship)] = null;
+        int c = ship.getColor().ordinal();
+        int trackIndex = topology.getTrackIndex(cell);
+        if (trackIndex >= 0 && --occupantCounts[c][trackIndex] == 0) {
+            occupancy[c] &= ~(1L << trackIndex);
+        }
+    }
+
+    /**
+     * Get the spaceships on a cell, in slot order.
+     */
+    public List<Spaceship> getSpaceships(BoardCell cell) {
+        Spaceship[] found = new Spaceship[CompactGameState.SHIP_COUNT];
+        int count = getSpaceships(cell, found);
+        List<Spaceship> ships = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ships.add(found[i]);
+        }
+        return ships;
+    }
+
+    /**
+     * Copy the spaceships on a cell into a buffer without allocating.
+     *
+     * On the track only colors whose occupancy bit is set are looked at.
+     *
+     * @param out Buffer of at least {@link CompactGameState#SHIP_COUNT} entries
+     * @return The number of ships written
+     */
+    public int getSpaceships(BoardCell cell, Spaceship[] out) {
+        int trackIndex = topology.getTrackIndex(cell);
+        int count = 0;
+        for (int c = 0; c < occupancy.length; c++) {
+            if (trackIndex >= 0 && (occupancy[c] & 1L << trackIndex) == 0) {
+                continue;
+            }
+            int end = (c + 1) * Constants.SHIPS_PER_PLAYER;
+            for (int slot = c * Constants.SHIPS_PER_PLAYER; slot < end; slot++) {
+                Spaceship ship = occupants[slot];
+                if (ship != null && ship.getPosition() == cell) {
+                    out[count++] = ship;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Check if a cell holds no ships.
+     */
+    public boolean isEmpty(BoardCell cell) {
+        int trackIndex = topology.getTrackIndex(cell);
+        if (trackIndex >= 0) {
+            return isTrackCellEmpty(trackIndex);
+        }
+        // Home paths are not in the bitsets
+        for (Spaceship ship : occupants) {
+            if (ship != null && ship.getPosition() == cell) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the track indices holding ships of a color, as a bitset.
+     */
+    public long getOccupancy(PlayerColor color) {
+        return occupancy[color.ordinal()];
+    }
+
+    /**
+     * Get the track indices holding ships of any other color, as a bitset.
+     */
+    public long getOpponentOccupancy(PlayerColor color) {
+        long mask = 0;
+        for (int c = 0; c < occupancy.length; c++) {
+            if (c != color.ordinal()) {
+                mask |= occupancy[c];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Get the track indices where a color could capture an opponent, as a bitset.
+     */
+    public long getCapturableOpponents(PlayerColor color) {
+        return getOpponentOccupancy(color) & ~topology.getSafeZoneMask();
+    }
+
+    /**
+     * Get the track indices that are safe zones, as a bitset.
+     */
+    public long getSafeZoneMask() {
+        return topology.getSafeZoneMask();
+    }
+
+    /**
+     * Check if a track index holds a ship of any color other than the given one.
+     */
+    public boolean hasOpponentAt(PlayerColor color, int trackIndex) {
+        return (getOpponentOccupancy(color) & (1L << trackIndex)) != 0;
+    }
+
+    /**
+     * Check if a track index holds no ships.
+     */
+    public boolean isTrackCellEmpty(int trackIndex) {
+        long mask = 0;
+        for (long colorMask : occupancy) {
+            mask |= colorMask;
+        }
+        return (mask & (1L << trackIndex)) == 0;
+    }
+
+    /**
+     * Calculate the new position after moving a certain number of steps.
+     *
+     * @return The new cell, or null if the move is not possible
+     */
+    public BoardCell calculateNewPosition(BoardCell currentPosition, PlayerColor color, int steps) {
+        return topology.calculateNewPosition(currentPosition, color, steps);
+    }
+
+    /**
+     * Get the next safe zone on the track ahead of a position.
+     */
+    public BoardCell getNextSafeZone(BoardCell currentPosition) {
+        return topology.getNextSafeZone(currentPosition);
+    }
+
+    /**
+     * Get a random cell on the board.
+     *
+     * @param random The caller's random source, so results are reproducible from its seed
+     */
+    public BoardCell getRandomCell(Random random) {
+        return topology.getRandomCell(random);
+    }
+
+    /**
+     * Check if moving from one position to another requires entering home.
+     */
+    public boolean isPathToHome(BoardCell fromPosition, BoardCell toPosition, PlayerColor color) {
+        return topology.isPathToHome(fromPosition, toPosition, color);
+    }
+
+    /**
+     * Get the number of steps required to reach home from the current position.
+     */
+    public int getStepsToHome(BoardCell currentPosition, PlayerColor color) {
+        return topology.getStepsToHome(currentPosition, color);
+    }
+
+    /**
+     * Check if a cell is a safe zone.
+     */
+    public boolean isSafeZone(BoardCell cell) {
+        return topology.isSafeZone(cell);
+    }
+}
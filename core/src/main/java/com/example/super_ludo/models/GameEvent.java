@@ -0,0 +1,65 @@
+package com.example.super_ludo.models;
+
+/**
+ * Represents an event triggered by the Crystal Ball.
+ */
+public class GameEvent {
+    /**
+     * Number of distinct Crystal Ball outcomes (six roll values plus five special events).
+     */
+    public static final int OUTCOME_COUNT = 11;
+
+    // Shared instances for every outcome code, so decoding never allocates
+    private static final GameEvent[] EVENTS_BY_CODE = new GameEvent[OUTCOME_COUNT + 1];
+
+    static {
+        for (int value = 1; value <= 6; value++) {
+            EVENTS_BY_CODE[value] = new GameEvent(EventType.NORMAL_ROLL, value);
+        }
+        EventType[] types = EventType.values();
+        for (int i = 1; i < types.length; i++) {
+            EVENTS_BY_CODE[6 + i] = new GameEvent(types[i]);
+        }
+    }
+
+    private EventType type;
+    private int value; // For normal roll (1-6)
+
+    public GameEvent(EventType type) {
+        this.type = type;
+        this.value = 0;
+    }
+
+    public GameEvent(EventType type, int value) {
+        this.type = type;
+        this.value = value;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Get a compact code for this event: 1-6 for normal rolls, 7-11 for special events.
+     */
+    public int getCode() {
+        if (type == EventType.NORMAL_ROLL) {
+            return value;
+        }
+        return 6 + type.ordinal();
+    }
+
+    /**
+     * Get the event for a code returned by {@link #getCode()}, or null for code 0.
+     */
+    public static GameEvent fromCode(int code) {
+        if (code <= 0 || code > OUTCOME_COUNT) {
+            return null;
+        }
+        return EVENTS_BY_CODE[code];
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.super_ludo.models;
+
+import java.nio.LongBuffer;
+
+/**
+ * Immutable undo/redo history of a game.
+ *
+ * Positions are stored as {@link CompactGameState} snapshots in two persistent
+ * linked stacks: the past, headed by the current position, and the undone
+ * future. Every operation returns a new history that shares all older
+ * entries with this one, so record, undo and redo are constant time and
+ * memory grows by one small node per recorded position.
+ *
+ * Old histories stay valid, which makes branching cheap: search code or a
+ * "what-if" preview can record moves onto a history without disturbing the
+ * one the game is using.
+ *
+ * A history can be written to a buffer of longs and read back with
+ * {@link #read}, which decodes older positions only as undo reaches them.
+ */
+public final class GameHistory {
+
+    private static class Entry {
+        final CompactGameState state;
+        final int size;
+        Entry next;
+
+        Entry(CompactGameState state, Entry next) {
+            this(state, next, next == null ? 1 : next.size + 1);
+        }
+
+        Entry(CompactGameState state, Entry next, int size) {
+            this.state = state;
+            this.next = next;
+            this.size = size;
+        }
+
+        Entry next() {
+            return next;
+        }
+    }
+
+    /**
+     * Entry read from a buffer; the entries below it are decoded on first use.
+     */
+    private static final class StoredEntry extends Entry {
+        private final LongBuffer states;
+        private final int offset;
+
+        /**
+         * @param offset Index of the bottom entry's first long
+         * @param size Number of entries from the bottom up to this one
+         */
+        StoredEntry(LongBuffer states, int offset, int size) {
+            super(new CompactGameState(states.get(offset + 2 * size - 2), states.get(offset + 2 * size - 1)),
+                    null, size);
+            this.states = states;
+            this.offset = offset;
+        }
+
+        @Override
+        Entry next() {
+            // Racing threads may both decode the entry, which is harmless
+            if (next == null && size > 1) {
+                next = new StoredEntry(states, offset, size - 1);
+            }
+            return next;
+        }
+    }
+
+    private final Entry past; // Never null, the head is the current position
+    private final Entry future; // Null when there is nothing to redo
+
+    private GameHistory(Entry past, Entry future) {
+        this.past = past;
+        this.future = future;
+    }
+
+    /**
+     * Start a history at the given position.
+     */
+    public static GameHistory start(GameState gameState) {
+        return new GameHistory(new Entry(CompactGameState.encode(gameState), null), null);
+    }
+
+    /**
+     * Read a history written by {@link #writeTo}.
+     *
+     * Only the current position is decoded here, so this is constant time
+     * however long the history is. The buffer must not change afterwards.
+     *
+     * @param pastCount The number of positions that can be undone, plus one for the current position
+     * @param futureCount The number of positions that can be redone
+     */
+    public static GameHistory read(LongBuffer states, int pastCount, int futureCount) {
+        if (pastCount < 1 || futureCount < 0 || states.limit() < 2 * (pastCount + futureCount)) {
+            throw new IllegalArgumentException("Invalid history size");
+        }
+        Entry past = new StoredEntry(states, 0, pastCount);
+        Entry future = futureCount == 0 ? null : new StoredEntry(states, 2 * pastCount, futureCount);
+        return new GameHistory(past, future);
+    }
+
+    /**
+     * Add a new current position, discarding anything that could be redone.
+     */
+    public GameHistory record(GameState gameState) {
+        return record(CompactGameState.encode(gameState));
+    }
+
+    /**
+     * Add a new current position, discarding anything that could be redone.
+     */
+    public GameHistory record(CompactGameState state) {
+        return new GameHistory(new Entry(state, past), null);
+    }
+
+    public CompactGameState getCurrent() {
+        return past.state;
+    }
+
+    public boolean canUndo() {
+        return past.next() != null;
+    }
+
+    public boolean canRedo() {
+        return future != null;
+    }
+
+    /**
+     * Get the number of positions that can be undone.
+     */
+    public int getUndoCount() {
+        return past.size - 1;
+    }
+
+    /**
+     * Get the number of positions that can be redone.
+     */
+    public int getRedoCount() {
+        return future == null ? 0 : future.size;
+    }
+
+    /**
+     * Step back to the previous position.
+     *
+     * @throws IllegalStateException If there is nothing to undo
+     */
+    public GameHistory undo() {
+        if (past.next() == null) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        return new GameHistory(past.next(), new Entry(past.state, future));
+    }
+
+    /**
+     * Step forward to the last undone position.
+     *
+     * @throws IllegalStateException If there is nothing to redo
+     */
+    public GameHistory redo() {
+        if (future == null) {
+            throw new IllegalStateException("Nothing to redo");
+        }
+        return new GameHistory(new Entry(future.state, past), future.next());
+    }
+
+    /**
+     * Write the current position into a game state.
+     */
+    public void restore(GameState gameState) {
+        past.state.decodeInto(gameState);
+    }
+
+    /**
+     * Write every position as a pair of longs (see {@link CompactGameState#getLow()}),
+     * the past from the oldest to the current one, then the future from the
+     * last to the next one to redo.
+     *
+     * Writes {@code 2 * (getUndoCount() + 1 + getRedoCount())} longs from the buffer's position and advances it.
+     */
+    public void writeTo(LongBuffer out) {
+        int start = out.position();
+        writeStack(out, start, past);
+        writeStack(out, start + 2 * past.size, future);
+        out.position(start + 2 * (past.size + getRedoCount()));
+    }
+
+    /**
+     * Write a stack from the bottom up, starting at an index.
+     */
+    private static void writeStack(LongBuffer out, int offset, Entry top) {
+        for (Entry entry = top; entry != null; entry = entry.next()) {
+            int index = offset + 2 * (entry.size - 1);
+            out.put(index, entry.state.getLow());
+            out.put(index + 1, entry.state.getHigh());
+        }
+    }
+}
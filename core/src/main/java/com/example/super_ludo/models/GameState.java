@@ -0,0 +1,301 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the current state of the game.
+ */
+public class GameState {
+    private List<Player> players;
+    private Spaceship[] ships; // Indexed by CompactGameState slot
+    private GameBoard board;
+    private int currentPlayerIndex;
+    private Player currentPlayer;
+    private GameEvent lastEvent;
+    private boolean gameOver;
+    private Player winner;
+    private boolean extraTurn;
+    private SelectionPhase selectionPhase;
+    private long zobristHash; // Kept up to date by every ship move and turn change
+
+    public GameState() {
+        this.players = new ArrayList<>();
+        this.ships = new Spaceship[CompactGameState.SHIP_COUNT];
+        this.board = new GameBoard();
+        this.currentPlayerIndex = 0;
+        this.gameOver = false;
+        this.extraTurn = false;
+        this.selectionPhase = SelectionPhase.NONE;
+    }
+
+    public void initialize(int playerCount) {
+        // Clear any existing players
+        for (Player player : players) {
+            for (Spaceship ship : player.getSpaceships()) {
+                sendShipToBase(ship);
+            }
+        }
+        players.clear();
+        Arrays.fill(ships, null);
+
+        // Create players with default names
+        PlayerColor[] colors = PlayerColor.values();
+        for (int i = 0; i < playerCount && i < colors.length; i++) {
+            Player player = new Player("Player " + (i + 1), colors[i]);
+            players.add(player);
+            for (Spaceship ship : player.getSpaceships()) {
+                ships[CompactGameState.getSlot(ship)] = ship;
+            }
+        }
+
+        // Set first player as current
+        currentPlayerIndex = 0;
+        currentPlayer = players.get(0);
+        currentPlayer.setActive(true);
+
+        // Reset game state
+        gameOver = false;
+        winner = null;
+        extraTurn = false;
+        selectionPhase = SelectionPhase.NONE;
+        zobristHash = computeZobristHash();
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Get the spaceship in a slot (see {@link CompactGameState#getSlot}), or null if unused.
+     */
+    public Spaceship getShip(int slot) {
+        return ships[slot];
+    }
+
+    /**
+     * Get the number of ship slots in use.
+     */
+    public int getShipCount() {
+        return players.size() * Constants.SHIPS_PER_PLAYER;
+    }
+
+    public GameBoard getBoard() {
+        return board;
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public Player getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public GameEvent getLastEvent() {
+        return lastEvent;
+    }
+
+    public void setLastEvent(GameEvent lastEvent) {
+        this.lastEvent = lastEvent;
+    }
+
+    public SelectionPhase getSelectionPhase() {
+        return selectionPhase;
+    }
+
+    public void setSelectionPhase(SelectionPhase selectionPhase) {
+        this.selectionPhase = selectionPhase;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    /**
+     * Get the Zobrist hash of the current position (ship positions, player to move, extra turn).
+     */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * Compute the Zobrist hash from scratch, ignoring the incrementally maintained value.
+     */
+    public long computeZobristHash() {
+        long hash = 0;
+        for (Player player : players) {
+            for (Spaceship ship : player.getSpaceships()) {
+                hash ^= ZobristKeys.ship(CompactGameState.getSlot(ship), CompactGameState.getShipCode(ship));
+            }
+        }
+        if (!players.isEmpty()) {
+            hash ^= ZobristKeys.player(currentPlayerIndex);
+        }
+        if (extraTurn) {
+            hash ^= ZobristKeys.extraTurn();
+        }
+        return hash;
+    }
+
+    /**
+     * Move a spaceship to a path index, keeping the board occupancy and hash in sync.
+     *
+     * A ship moved to its home index is marked as having reached home.
+     */
+    public void moveShip(Spaceship ship, int pathIndex) {
+        int slot = CompactGameState.getSlot(ship);
+        zobristHash ^= ZobristKeys.ship(slot, CompactGameState.getShipCode(ship));
+
+        if (ship.getPosition() != null) {
+            board.removeOccupant(ship, ship.getPosition());
+        }
+
+        BoardCell cell = board.getPathCell(ship.getColor(), pathIndex);
+        ship.setPosition(cell);
+        board.addOccupant(ship, cell);
+        ship.setPathPosition(pathIndex);
+        ship.setReachedHome(pathIndex == board.getHomeIndex(ship.getColor()));
+
+        zobristHash ^= ZobristKeys.ship(slot, CompactGameState.getShipCode(ship));
+    }
+
+    /**
+     * Send a spaceship back to its base, keeping the board occupancy and hash in sync.
+     */
+    public void sendShipToBase(Spaceship ship) {
+        int slot = CompactGameState.getSlot(ship);
+        zobristHash ^= ZobristKeys.ship(slot, CompactGameState.getShipCode(ship));
+
+        if (ship.getPosition() != null) {
+            board.removeOccupant(ship, ship.getPosition());
+        }
+        ship.returnToBase();
+        ship.setReachedHome(false);
+
+        zobristHash ^= ZobristKeys.ship(slot, CompactGameState.BASE_CODE);
+    }
+
+    /**
+     * Move to the next player's turn.
+     */
+    public void nextTurn() {
+        if (gameOver) return;
+
+        // If player gets an extra turn, don't change players
+        if (extraTurn) {
+            extraTurn = false;
+            zobristHash ^= ZobristKeys.extraTurn();
+            return;
+        }
+
+        // Set current player as inactive
+        currentPlayer.setActive(false);
+        zobristHash ^= ZobristKeys.player(currentPlayerIndex);
+
+        // Move to next player
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        currentPlayer = players.get(currentPlayerIndex);
+        currentPlayer.setActive(true);
+        zobristHash ^= ZobristKeys.player(currentPlayerIndex);
+    }
+
+    /**
+     * Set that the current player gets an extra turn.
+     */
+    public void setExtraTurn() {
+        if (!extraTurn) {
+            extraTurn = true;
+            zobristHash ^= ZobristKeys.extraTurn();
+        }
+    }
+
+    /**
+     * Check if the current player keeps the turn when it ends.
+     */
+    public boolean hasExtraTurn() {
+        return extraTurn;
+    }
+
+    /**
+     * Restore whose turn it is, as recorded by {@link CompactGameState}.
+     */
+    void restoreTurn(int currentPlayerIndex, boolean extraTurn) {
+        if (currentPlayer != null) {
+            currentPlayer.setActive(false);
+        }
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.currentPlayer = players.get(currentPlayerIndex);
+        this.currentPlayer.setActive(true);
+        this.extraTurn = extraTurn;
+
+        // Game over is derived from the ship positions
+        gameOver = false;
+        winner = null;
+        checkWinCondition();
+
+        zobristHash = computeZobristHash();
+    }
+
+    /**
+     * Create an independent copy of this state, including player names and
+     * which players the computer plays.
+     */
+    public GameState copy() {
+        GameState copy = new GameState();
+        CompactGameState.encode(this).decodeInto(copy);
+        for (int i = 0; i < players.size(); i++) {
+            copy.players.get(i).setName(players.get(i).getName());
+            copy.players.get(i).setComputer(players.get(i).isComputer());
+        }
+        return copy;
+    }
+
+    /**
+     * Check if any player has won and update game state.
+     */
+    public boolean checkWinCondition() {
+        for (Player player : players) {
+            if (player.hasWon()) {
+                gameOver = true;
+                winner = player;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reset the game state for a new game.
+     */
+    public void resetGame() {
+        // Keep the same players but reset their state
+        for (Player player : players) {
+            // Reset spaceships to base
+            for (Spaceship ship : player.getSpaceships()) {
+                sendShipToBase(ship);
+            }
+            player.setActive(false);
+        }
+
+        // Set first player as current again
+        currentPlayerIndex = 0;
+        currentPlayer = players.get(0);
+        currentPlayer.setActive(true);
+
+        // Reset game state
+        gameOver = false;
+        winner = null;
+        extraTurn = false;
+        lastEvent = null;
+        selectionPhase = SelectionPhase.NONE;
+        zobristHash = computeZobristHash();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a player in the game with their spaceships and color.
+ *
+ * Which ships are in base and which have reached home is kept as bit masks,
+ * bit i standing for ship number i + 1. The ships update them whenever their
+ * status changes, so status questions never loop over the ships.
+ */
+public class Player {
+
+    /**
+     * Mask with a bit set for every ship.
+     */
+    public static final int ALL_SHIPS = (1 << Constants.SHIPS_PER_PLAYER) - 1;
+
+    private String name;
+    private PlayerColor color;
+    private List<Spaceship> spaceships;
+    private boolean isActive;
+    private boolean computer;
+    private int baseMask;
+    private int homeMask;
+
+    public Player(String name, PlayerColor color) {
+        this.name = name;
+        this.color = color;
+        this.spaceships = new ArrayList<>(Constants.SHIPS_PER_PLAYER);
+        this.isActive = false;
+
+        // Create the player's spaceships, which start in base
+        for (int i = 0; i < Constants.SHIPS_PER_PLAYER; i++) {
+            Spaceship ship = new Spaceship(this, i + 1);
+            spaceships.add(ship);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public PlayerColor getColor() {
+        return color;
+    }
+
+    public List<Spaceship> getSpaceships() {
+        return spaceships;
+    }
+
+    public boolean isActive() {
+        return isActive;
+    }
+
+    public void setActive(boolean active) {
+        isActive = active;
+    }
+
+    /**
+     * Check if the computer plays for this player.
+     */
+    public boolean isComputer() {
+        return computer;
+    }
+
+    public void setComputer(boolean computer) {
+        this.computer = computer;
+    }
+
+    /**
+     * Check if all spaceships have reached home.
+     */
+    public boolean hasWon() {
+        return homeMask == ALL_SHIPS;
+    }
+
+    /**
+     * Get the number of spaceships that have reached home.
+     */
+    public int getHomeCount() {
+        return Integer.bitCount(homeMask);
+    }
+
+    /**
+     * Get the number of spaceships in base.
+     */
+    public int getBaseCount() {
+        return Integer.bitCount(baseMask);
+    }
+
+    /**
+     * Get the number of spaceships on the board that have not reached home yet.
+     */
+    public int getInFlightCount() {
+        return Integer.bitCount(getInFlightMask());
+    }
+
+    /**
+     * Get the spaceships that have reached home, as a mask.
+     */
+    public int getHomeMask() {
+        return homeMask;
+    }
+
+    /**
+     * Get the spaceships in base, as a mask.
+     */
+    public int getBaseMask() {
+        return baseMask;
+    }
+
+    /**
+     * Get the spaceships on the board that have not reached home yet, as a mask.
+     */
+    public int getInFlightMask() {
+        return ALL_SHIPS & ~(baseMask | homeMask);
+    }
+
+    /**
+     * Record a ship's current status in the masks.
+     */
+    void updateShipStatus(Spaceship ship) {
+        int bit = 1 << (ship.getShipNumber() - 1);
+        baseMask = ship.isInBase() ? baseMask | bit : baseMask & ~bit;
+        homeMask = ship.hasReachedHome() ? homeMask | bit : homeMask & ~bit;
+    }
+}
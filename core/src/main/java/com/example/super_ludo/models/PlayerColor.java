@@ -0,0 +1,24 @@
+package com.example.super_ludo.models;
+
+/**
+ * Represents the available player colors.
+ */
+public enum PlayerColor {
+    BLUE(0xFF0066CC),
+    GREEN(0xFF00CC66),
+    RED(0xFFCC0000),
+    YELLOW(0xFFFFCC00);
+
+    private final int colorValue;
+
+    PlayerColor(int colorValue) {
+        this.colorValue = colorValue;
+    }
+
+    /**
+     * Get the ARGB color value for this player color.
+     */
+    public int getColorValue() {
+        return colorValue;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.super_ludo.models;
+
+/**
+ * Selection the current player still has to make after a Crystal Ball event.
+ */
+public enum SelectionPhase {
+    NONE,   // No selection pending
+    SHIP,   // Select one of your own spaceships
+    TARGET  // Select an opponent's spaceship
+}
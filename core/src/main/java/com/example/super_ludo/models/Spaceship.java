@@ -17,6 +17,7 @@ public class Spaceship {
         this.inBase = true;
         this.reachedHome = false;
         this.pathPosition = -1; // -1 means in base
+        owner.updateShipStatus(this);
     }
 
     public Player getOwner() {
@@ -34,6 +35,7 @@ public class Spaceship {
     public void setPosition(BoardCell position) {
         this.position = position;
         this.inBase = false;
+        owner.updateShipStatus(this);
     }
 
     public boolean isInBase() {
@@ -44,6 +46,7 @@ public class Spaceship {
         this.inBase = true;
         this.position = null;
         this.pathPosition = -1;
+        owner.updateShipStatus(this);
     }
 
     public boolean hasReachedHome() {
@@ -55,6 +58,7 @@ public class Spaceship {
         if (reachedHome) {
             this.inBase = false; // Can't be in base if reached home
         }
+        owner.updateShipStatus(this);
     }
 
     public int getPathPosition() {
@@ -0,0 +1,159 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.utils.Constants;
+
+/**
+ * One published change of a game: an immutable snapshot of the new position
+ * and what changed since the previous update.
+ *
+ * Observers use the diff to refresh only what is affected, and get exactly
+ * one update per user action no matter how many ship moves, captures and
+ * turn changes the rules engine made on the way. Ships are identified by
+ * slot, see {@link CompactGameState#getSlot(Spaceship)}, and ship sets are
+ * bitmasks with one bit per slot.
+ */
+public final class StateUpdate {
+
+    /**
+     * Bitmask with the bit of every ship slot set.
+     */
+    public static final int ALL_SHIPS = (1 << CompactGameState.SHIP_COUNT) - 1;
+
+    private final CompactGameState snapshot;
+    private final boolean gameOver;
+    private final boolean newGame;
+    private final int movedShips;
+    private final int capturedShips;
+    private final boolean playerChanged;
+    private final boolean gameEnded;
+
+    private StateUpdate(CompactGameState snapshot, boolean gameOver, boolean newGame,
+                        int movedShips, int capturedShips, boolean playerChanged, boolean gameEnded) {
+        this.snapshot = snapshot;
+        this.gameOver = gameOver;
+        this.newGame = newGame;
+        this.movedShips = movedShips;
+        this.capturedShips = capturedShips;
+        this.playerChanged = playerChanged;
+        this.gameEnded = gameEnded;
+    }
+
+    /**
+     * Create the first update of a new or reset game, in which everything has changed.
+     */
+    public static StateUpdate newGame(GameState gameState) {
+        boolean gameOver = gameState.isGameOver();
+        return new StateUpdate(CompactGameState.encode(gameState), gameOver, true,
+                ALL_SHIPS, 0, true, gameOver);
+    }
+
+    /**
+     * Create the update for a move made in the game since this update.
+     *
+     * Ships that were sent back to base by an opponent count as captured.
+     */
+    public StateUpdate next(GameState gameState) {
+        return diff(gameState, true);
+    }
+
+    /**
+     * Create the update for a position restored by undo or redo.
+     *
+     * Ships going back to base are only moved, never captured, and redoing
+     * into a finished game does not count as ending it again.
+     */
+    public StateUpdate restore(GameState gameState) {
+        return diff(gameState, false);
+    }
+
+    /**
+     * @param move True for a move made in the game, false for a restored position
+     */
+    private StateUpdate diff(GameState gameState, boolean move) {
+        CompactGameState after = CompactGameState.encode(gameState);
+        int mover = snapshot.getCurrentPlayerIndex();
+
+        int moved = 0;
+        int captured = 0;
+        for (int slot = 0; slot < CompactGameState.SHIP_COUNT; slot++) {
+            int from = snapshot.getShipCode(slot);
+            int to = after.getShipCode(slot);
+            if (from == to) {
+                continue;
+            }
+            moved |= 1 << slot;
+            if (move && to == CompactGameState.BASE_CODE
+                    && slot / Constants.SHIPS_PER_PLAYER != mover) {
+                captured |= 1 << slot;
+            }
+        }
+
+        boolean over = gameState.isGameOver();
+        return new StateUpdate(after, over, false, moved, captured,
+                after.getCurrentPlayerIndex() != mover, move && over && !gameOver);
+    }
+
+    /**
+     * Get the position after this update.
+     */
+    public CompactGameState getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Check if the game is over in the position after this update.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Check if this update starts a new game, so everything should be redrawn.
+     */
+    public boolean isNewGame() {
+        return newGame;
+    }
+
+    /**
+     * Get the slots of the ships whose position changed, including captured ones.
+     */
+    public int getMovedShips() {
+        return movedShips;
+    }
+
+    public boolean isMoved(int slot) {
+        return (movedShips & (1 << slot)) != 0;
+    }
+
+    /**
+     * Get the slots of the ships an opponent sent back to base.
+     */
+    public int getCapturedShips() {
+        return capturedShips;
+    }
+
+    public boolean isCaptured(int slot) {
+        return (capturedShips & (1 << slot)) != 0;
+    }
+
+    /**
+     * Check if it is now a different player's turn.
+     */
+    public boolean isPlayerChanged() {
+        return playerChanged;
+    }
+
+    /**
+     * Check if this update ended the game.
+     */
+    public boolean isGameEnded() {
+        return gameEnded;
+    }
+
+    /**
+     * Check if anything a player can see changed, apart from the pending selection.
+     */
+    public boolean hasChanges() {
+        return newGame || movedShips != 0 || playerChanged || gameEnded;
+    }
+}
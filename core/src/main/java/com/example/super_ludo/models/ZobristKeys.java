@@ -0,0 +1,96 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.utils.Constants;
+
+/**
+ * Random keys for 64-bit Zobrist hashing of game positions.
+ *
+ * A position hash is the XOR of one key per ship slot and ship code (see
+ * {@link CompactGameState}), one key for the player to move and one key if
+ * an extra turn is pending, so moving a ship only needs two XORs.
+ *
+ * Searches can extend a position hash with the rolled event and with the
+ * player they evaluate for, which have their own keys.
+ *
+ * Keys come from a fixed seed so hashes match across runs and devices.
+ */
+public final class ZobristKeys {
+
+    private static final int CODE_COUNT = 64; // 6-bit ship codes
+    private static final long SEED = 0x5EED1DC0FFEEL;
+
+    private static final long[] SHIP_KEYS = new long[CompactGameState.SHIP_COUNT * CODE_COUNT];
+    private static final long[] PLAYER_KEYS = new long[Constants.MAX_PLAYERS];
+    private static final long EXTRA_TURN_KEY;
+    private static final long[] EVENT_KEYS = new long[GameEvent.OUTCOME_COUNT + 1];
+    private static final long[] PERSPECTIVE_KEYS = new long[Constants.MAX_PLAYERS];
+
+    static {
+        long state = SEED;
+        for (int i = 0; i < SHIP_KEYS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            SHIP_KEYS[i] = mix(state);
+        }
+        for (int i = 0; i < PLAYER_KEYS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            PLAYER_KEYS[i] = mix(state);
+        }
+        state += 0x9E3779B97F4A7C15L;
+        EXTRA_TURN_KEY = mix(state);
+        for (int i = 0; i < EVENT_KEYS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            EVENT_KEYS[i] = mix(state);
+        }
+        for (int i = 0; i < PERSPECTIVE_KEYS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            PERSPECTIVE_KEYS[i] = mix(state);
+        }
+    }
+
+    private ZobristKeys() {
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Get the key for a ship slot at a ship code.
+     */
+    public static long ship(int slot, int code) {
+        return SHIP_KEYS[slot * CODE_COUNT + code];
+    }
+
+    /**
+     * Get the key for the player to move.
+     */
+    public static long player(int playerIndex) {
+        return PLAYER_KEYS[playerIndex];
+    }
+
+    /**
+     * Get the key for a pending extra turn.
+     */
+    public static long extraTurn() {
+        return EXTRA_TURN_KEY;
+    }
+
+    /**
+     * Get the key for a rolled event code, see {@link GameEvent#getCode()}.
+     */
+    public static long event(int code) {
+        return EVENT_KEYS[code];
+    }
+
+    /**
+     * Get the key for the player a search evaluates positions for.
+     */
+    public static long perspective(int playerIndex) {
+        return PERSPECTIVE_KEYS[playerIndex];
+    }
+}
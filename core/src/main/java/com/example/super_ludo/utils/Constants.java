@@ -7,20 +7,20 @@ public class Constants {
 
     // Board dimensions
     public static final int BOARD_SIZE = 11;
-    public static final int TOTAL_PATH_LENGTH = 52;
+    public static final int TOTAL_PATH_LENGTH = 40; // Cells on the main track
 
     // Game constants
     public static final int MIN_PLAYERS = 2;
     public static final int MAX_PLAYERS = 4;
     public static final int SHIPS_PER_PLAYER = 3;
 
-    // Event probabilities (percentages)
-    public static final int PROB_NORMAL_ROLL = 65;
-    public static final int PROB_BLACK_HOLE = 10;
-    public static final int PROB_METEOR_STRIKE = 7;
-    public static final int PROB_WORMHOLE = 8;
-    public static final int PROB_SUPER_BOOST = 5;
-    public static final int PROB_ALIEN_INVASION = 5;
+    // Event probabilities (per mille), sampled by EventSampler
+    public static final int PROB_NORMAL_ROLL = 650;
+    public static final int PROB_BLACK_HOLE = 100;
+    public static final int PROB_METEOR_STRIKE = 75;
+    public static final int PROB_WORMHOLE = 75;
+    public static final int PROB_SUPER_BOOST = 50;
+    public static final int PROB_ALIEN_INVASION = 50;
 
     // Animation durations
     public static final int ANIM_DURATION_ROLL = 1000; // ms
@@ -0,0 +1,69 @@
+package com.example.super_ludo.utils;
+
+import com.example.super_ludo.models.BoardCell;
+import com.example.super_ludo.models.GameBoard;
+import com.example.super_ludo.models.PlayerColor;
+import com.example.super_ludo.models.Spaceship;
+
+/**
+ * Utility class for game logic operations.
+ *
+ * Path positions are resolved through the lookup tables built by {@link GameBoard}.
+ */
+public class GameLogic {
+
+    /**
+     * Check if moving a ship will take it towards or into home.
+     */
+    public boolean isPathToHome(Spaceship ship, int newPathPosition, GameBoard board) {
+        int homeEntrancePosition = board.getHomeEntranceIndex(ship.getColor());
+
+        // If current position is at or before home entrance and new position is past it
+        return ship.getPathPosition() <= homeEntrancePosition && newPathPosition > homeEntrancePosition;
+    }
+
+    /**
+     * Get the number of steps needed to reach home from current position.
+     */
+    public int getStepsToHome(Spaceship ship, GameBoard board) {
+        // If ship is in base, calculate from start
+        if (ship.isInBase()) {
+            return board.getHomeIndex(ship.getColor());
+        }
+
+        return board.getStepsToHome(ship.getColor(), ship.getPathPosition());
+    }
+
+    /**
+     * Check if a ship is on its home path.
+     */
+    public boolean isOnHomePath(Spaceship ship, GameBoard board) {
+        int pathPosition = ship.getPathPosition();
+        PlayerColor color = ship.getColor();
+        return !ship.isInBase() && pathPosition > board.getHomeEntranceIndex(color) &&
+                pathPosition < board.getHomeIndex(color);
+    }
+
+    /**
+     * Get a ship's position on its home path (0 = entrance, higher = closer to home).
+     */
+    public int getHomePathPosition(Spaceship ship, GameBoard board) {
+        if (!isOnHomePath(ship, board)) {
+            return -1;
+        }
+        return ship.getPathPosition() - board.getHomeEntranceIndex(ship.getColor()) - 1;
+    }
+
+    /**
+     * Get the board cell from a path index.
+     */
+    public BoardCell getPositionFromPathIndex(int pathIndex, PlayerColor color, GameBoard board) {
+        if (pathIndex < 0) {
+            // In base
+            return board.getBasePosition(color, 0);
+        }
+
+        // Null past home
+        return board.getPathCell(color, pathIndex);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.RandomGames;
+import com.example.super_ludo.models.SelectionPhase;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ComputerPlayerTest {
+
+    private final ComputerPlayer computerPlayer = new ComputerPlayer();
+
+    @After
+    public void shutdown() {
+        computerPlayer.shutdown();
+    }
+
+    @Test
+    public void listenerReceivesALegalMove() throws Exception {
+        RandomGames games = new RandomGames(8);
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        int searched = 0;
+        while (searched < 20 && !gameState.isGameOver()) {
+            games.step(gameState);
+            if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+                continue;
+            }
+
+            final CountDownLatch done = new CountDownLatch(1);
+            final AtomicInteger chosen = new AtomicInteger(-1);
+            computerPlayer.chooseMove(gameState, 20, move -> {
+                chosen.set(move);
+                done.countDown();
+            });
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+
+            int count = MoveGenerator.generate(gameState, gameState.getLastEvent(), moves);
+            boolean legal = false;
+            for (int i = 0; i < count; i++) {
+                legal |= moves[i] == chosen.get();
+            }
+            assertTrue("move " + chosen.get() + " is not legal", legal);
+            searched++;
+        }
+        assertEquals(20, searched);
+    }
+
+    @Test
+    public void copyKeepsComputerPlayers() {
+        GameState gameState = new GameState();
+        gameState.initialize(3);
+        gameState.getPlayers().get(1).setComputer(true);
+
+        GameState copy = gameState.copy();
+        assertFalse(copy.getPlayers().get(0).isComputer());
+        assertTrue(copy.getPlayers().get(1).isComputer());
+        assertFalse(copy.getPlayers().get(2).isComputer());
+    }
+}
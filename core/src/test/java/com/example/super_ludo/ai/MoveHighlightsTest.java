@@ -0,0 +1,90 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.RandomGames;
+import com.example.super_ludo.models.SelectionPhase;
+import com.example.super_ludo.models.Spaceship;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MoveHighlightsTest {
+
+    @Test
+    public void capturesLeaveOutTheMovesOwnShip() {
+        RandomGames games = new RandomGames(23);
+        Policy policy = new GreedyPolicy();
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+
+        int meteorTargets = 0;
+        int captures = 0;
+        for (int step = 0; step < 20000; step++) {
+            if (gameState.isGameOver()) {
+                gameState.resetGame();
+            }
+            games.step(gameState);
+            if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+                continue;
+            }
+
+            TurnOutcomes.Outcome outcome = TurnOutcomes.forPendingSelection(gameState, policy);
+            MoveHighlights highlights = MoveHighlights.of(gameState, outcome);
+            assertTrue(highlights.isFor(gameState));
+            assertEquals(outcome.getMoveCount(), highlights.getCount());
+
+            for (int i = 0; i < highlights.getCount(); i++) {
+                int move = outcome.getMove(i);
+                int slot = Move.getSlot(move);
+                assertSame(gameState.getShip(slot), highlights.getShip(i));
+                assertEquals((outcome.getCapturedShips(i) & ~(1 << slot)) != 0, highlights.isCapture(i));
+                if (Move.getType(move) == Move.METEOR_TARGET) {
+                    assertFalse(highlights.isCapture(i));
+                    meteorTargets++;
+                }
+                if (highlights.isCapture(i)) {
+                    captures++;
+                }
+            }
+        }
+        assertTrue(meteorTargets > 100);
+        assertTrue(captures > 100);
+    }
+
+    @Test
+    public void tapOnASourceCellSelectsALegalShip() {
+        RandomGames games = new RandomGames(24);
+        GameState gameState = new GameState();
+        gameState.initialize(2);
+        RulesEngine engine = new RulesEngine(new Random(0));
+
+        int checked = 0;
+        while (checked < 500) {
+            if (gameState.isGameOver()) {
+                gameState.resetGame();
+            }
+            games.step(gameState);
+            if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+                continue;
+            }
+
+            MoveHighlights highlights = MoveHighlights.of(gameState,
+                    TurnOutcomes.forPendingSelection(gameState, new RandomPolicy(new Random(0))));
+            for (int i = 0; i < highlights.getCount(); i++) {
+                Spaceship ship = highlights.findShip(highlights.getSource(i));
+                GameState copy = gameState.copy();
+                assertFalse(engine.selectSpaceship(copy, copy.getShip(CompactGameState.getSlot(ship))).isRejected());
+            }
+            checked++;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.super_ludo.ai;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TranspositionTableTest {
+
+    // Keys for a 4-entry table, which is a single bucket
+    private static final long A = 0x9E3779B97F4A7C15L;
+    private static final long B = 0xBF58476D1CE4E5B9L;
+    private static final long C = 0x94D049BB133111EBL;
+    private static final long D = 0x2545F4914F6CDD1DL;
+    private static final long E = 0x7FB5D329728EA185L;
+
+    @Test
+    public void storeProbeRoundTrip() {
+        TranspositionTable table = new TranspositionTable(10);
+        table.newSearch();
+        table.store(A, -0.75, 3, TranspositionTable.BOUND_LOWER, 17);
+        table.store(B, 0.5, 0, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+
+        long data = table.probe(A);
+        assertEquals(-0.75, TranspositionTable.getValue(data), 0);
+        assertEquals(3, TranspositionTable.getDepth(data));
+        assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.getBound(data));
+        assertEquals(17, TranspositionTable.getBestMove(data));
+        assertEquals(1, TranspositionTable.getAge(data));
+
+        data = table.probe(B);
+        assertEquals(0.5, TranspositionTable.getValue(data), 0);
+        assertEquals(TranspositionTable.NO_MOVE, TranspositionTable.getBestMove(data));
+        assertEquals(0, table.probe(C));
+
+        // Storing a key again replaces its entry
+        table.store(A, 0.25, 5, TranspositionTable.BOUND_UPPER, 2);
+        data = table.probe(A);
+        assertEquals(0.25, TranspositionTable.getValue(data), 0);
+        assertEquals(5, TranspositionTable.getDepth(data));
+        assertEquals(TranspositionTable.BOUND_UPPER, TranspositionTable.getBound(data));
+
+        table.clear();
+        assertEquals(0, table.probe(A));
+        assertEquals(0, table.probe(B));
+    }
+
+    @Test
+    public void entryFailingTheXorCheckIsAMiss() throws ReflectiveOperationException {
+        TranspositionTable table = new TranspositionTable(2);
+        table.store(A, 0.5, 2, TranspositionTable.BOUND_EXACT, 1);
+
+        // Same bucket, different key
+        assertEquals(0, table.probe(A ^ 1));
+
+        // A torn write: A's key half next to the data half of a different store
+        long[] entries = getEntries(table);
+        entries[1] ^= 1L << 40;
+        assertEquals(0, table.probe(A));
+    }
+
+    @Test
+    public void fullBucketReplacesTheShallowestEntryAfterAging() {
+        TranspositionTable table = new TranspositionTable(2);
+        table.store(A, 0, 6, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+        table.newSearch();
+        table.store(B, 0, 3, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+        table.store(C, 0, 4, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+        table.store(D, 0, 5, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+
+        // A is the deepest entry, but one generation old it scores 6 - 4 = 2, below B's 3
+        table.store(E, 0, 1, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+        assertEquals(0, table.probe(A));
+        assertEquals(3, TranspositionTable.getDepth(table.probe(B)));
+        assertEquals(1, TranspositionTable.getDepth(table.probe(E)));
+
+        // Within one generation the shallowest entry goes
+        table.store(A, 0, 6, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+        assertEquals(0, table.probe(E));
+        assertEquals(6, TranspositionTable.getDepth(table.probe(A)));
+        assertEquals(4, TranspositionTable.getDepth(table.probe(C)));
+        assertEquals(5, TranspositionTable.getDepth(table.probe(D)));
+    }
+
+    @Test
+    public void valuesAreStoredAsFloats() {
+        TranspositionTable table = new TranspositionTable(2);
+        double value = 1.0 / 3;
+        table.store(A, value, 1, TranspositionTable.BOUND_EXACT, 0);
+
+        double stored = TranspositionTable.getValue(table.probe(A));
+        assertEquals((float) value, stored, 0);
+        assertTrue(stored != value);
+        assertEquals(value, stored, 1e-7);
+    }
+
+    @Test
+    public void sizeOutOfRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(1));
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(27));
+    }
+
+    private static long[] getEntries(TranspositionTable table) throws ReflectiveOperationException {
+        Field field = TranspositionTable.class.getDeclaredField("table");
+        field.setAccessible(true);
+        return (long[]) field.get(table);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.super_ludo.ai;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RuleResult;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.RandomGames;
+import com.example.super_ludo.models.SelectionPhase;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TurnOutcomesTest {
+
+    private static final int POSITIONS = 2000;
+
+    @Test
+    public void outcomesMatchApplyingEveryMove() {
+        RandomGames games = new RandomGames(22);
+        Policy policy = new GreedyPolicy();
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        int checked = 0;
+        int captures = 0;
+        while (checked < POSITIONS) {
+            if (gameState.isGameOver()) {
+                gameState.resetGame();
+            }
+            games.step(gameState);
+            if (gameState.getSelectionPhase() != SelectionPhase.NONE || gameState.isGameOver()) {
+                continue;
+            }
+
+            TurnOutcomes outcomes = TurnOutcomes.compute(gameState, policy);
+            assertTrue(outcomes.isFor(gameState));
+            for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+                GameEvent event = GameEvent.fromCode(code);
+                TurnOutcomes.Outcome outcome = outcomes.get(event);
+                assertSame(event, outcome.getEvent());
+
+                GameState rolled = gameState.copy();
+                RulesEngine engine = new RulesEngine(new Random(0));
+                RuleResult result = engine.processRoll(rolled, event);
+                assertEquals(result, outcome.getResult());
+                if (rolled.getSelectionPhase() == SelectionPhase.NONE) {
+                    assertEquals(0, outcome.getMoveCount());
+                    continue;
+                }
+
+                int count = MoveGenerator.generate(rolled, event, moves);
+                assertEquals(count, outcome.getMoveCount());
+                CompactGameState before = CompactGameState.encode(rolled);
+                for (int i = 0; i < count; i++) {
+                    assertEquals(moves[i], outcome.getMove(i));
+                    if (Move.getType(moves[i]) == Move.ALIEN_TARGET) {
+                        assertEquals(TurnOutcomes.UNKNOWN_DESTINATION, outcome.getDestinationCode(i));
+                        continue;
+                    }
+
+                    before.decodeInto(rolled);
+                    engine.applyMove(rolled, moves[i]);
+                    CompactGameState after = CompactGameState.encode(rolled);
+                    assertEquals(after.getShipCode(Move.getSlot(moves[i])), outcome.getDestinationCode(i));
+                    assertEquals(getCaptured(before, after), outcome.getCapturedShips(i));
+                    if (outcome.getCapturedShips(i) != 0) {
+                        captures++;
+                    }
+                }
+            }
+            checked++;
+        }
+        assertTrue(captures > 100);
+    }
+
+    @Test
+    public void pendingSelectionMatchesTheComputedOutcome() {
+        RandomGames games = new RandomGames(23);
+        Policy policy = new GreedyPolicy();
+        GameState gameState = new GameState();
+        gameState.initialize(3);
+
+        int checked = 0;
+        while (checked < 500) {
+            if (gameState.isGameOver()) {
+                gameState.resetGame();
+            }
+            TurnOutcomes outcomes = gameState.getSelectionPhase() == SelectionPhase.NONE
+                    ? TurnOutcomes.compute(gameState, policy) : null;
+            games.step(gameState);
+            if (outcomes == null || gameState.getSelectionPhase() == SelectionPhase.NONE) {
+                continue;
+            }
+
+            TurnOutcomes.Outcome expected = outcomes.get(gameState.getLastEvent());
+            TurnOutcomes.Outcome pending = TurnOutcomes.forPendingSelection(gameState, policy);
+            assertEquals(expected.getMoveCount(), pending.getMoveCount());
+            for (int i = 0; i < expected.getMoveCount(); i++) {
+                assertEquals(expected.getMove(i), pending.getMove(i));
+                assertEquals(expected.getDestinationCode(i), pending.getDestinationCode(i));
+                assertEquals(expected.getCapturedShips(i), pending.getCapturedShips(i));
+            }
+            assertEquals(expected.getRecommendedMove(), pending.getRecommendedMove());
+            checked++;
+        }
+    }
+
+    private static int getCaptured(CompactGameState before, CompactGameState after) {
+        int captured = 0;
+        for (int slot = 0; slot < CompactGameState.SHIP_COUNT; slot++) {
+            if (after.getShipCode(slot) == CompactGameState.BASE_CODE
+                    && before.getShipCode(slot) != CompactGameState.BASE_CODE) {
+                captured |= 1 << slot;
+            }
+        }
+        return captured;
+    }
+}
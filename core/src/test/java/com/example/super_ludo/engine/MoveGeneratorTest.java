@@ -0,0 +1,91 @@
+package com.example.super_ludo.engine;
+
+import com.example.super_ludo.models.EventType;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.RandomGames;
+import com.example.super_ludo.models.SelectionPhase;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MoveGeneratorTest {
+
+    private static final int POSITIONS = 2000;
+
+    @Test
+    public void generatedMovesMatchTheRulesOnRandomPositions() {
+        RulesEngine engine = new RulesEngine(new Random(0));
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int playerCount = 2; playerCount <= 4; playerCount++) {
+            RandomGames games = new RandomGames(40 + playerCount);
+            GameState gameState = new GameState();
+            gameState.initialize(playerCount);
+
+            int checked = 0;
+            int[] legalByType = new int[4];
+            while (checked < POSITIONS) {
+                if (gameState.isGameOver()) {
+                    gameState.resetGame();
+                }
+                games.step(gameState);
+                if (gameState.getSelectionPhase() != SelectionPhase.NONE || gameState.isGameOver()) {
+                    continue;
+                }
+
+                for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+                    GameEvent event = GameEvent.fromCode(code);
+                    int count = MoveGenerator.generate(gameState, event, moves);
+                    assertEquals(count > 0, MoveGenerator.hasLegalMove(gameState, event));
+
+                    int moveType = MoveGenerator.getMoveType(event);
+                    if (moveType < 0) {
+                        assertEquals(0, count);
+                        continue;
+                    }
+
+                    // Offer every ship to the rules engine as a pending selection
+                    GameState pending = gameState.copy();
+                    pending.setLastEvent(event);
+                    pending.setSelectionPhase(MoveGenerator.selectsOwnShip(event)
+                            ? SelectionPhase.SHIP : SelectionPhase.TARGET);
+                    int expected = 0;
+                    for (int slot = 0; slot < pending.getShipCount(); slot++) {
+                        GameState copy = pending.copy();
+                        if (!engine.selectSpaceship(copy, copy.getShip(slot)).isRejected()) {
+                            assertTrue(expected < count);
+                            assertEquals(Move.create(moveType, slot), moves[expected++]);
+                        }
+                    }
+                    assertEquals(expected, count);
+                    legalByType[moveType] += count;
+                }
+                checked++;
+            }
+
+            for (int type = 0; type < legalByType.length; type++) {
+                assertTrue(legalByType[type] > 100);
+            }
+        }
+    }
+
+    @Test
+    public void onlyASixMovesFromTheStart() {
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            GameEvent event = GameEvent.fromCode(code);
+            // At the start only a 6 can move, and there is nothing in flight to target
+            boolean six = event.getType() == EventType.NORMAL_ROLL && event.getValue() == 6;
+            assertEquals(six ? 3 : 0, MoveGenerator.generate(gameState, event, moves));
+            assertEquals(six, MoveGenerator.hasLegalMove(gameState, event));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.super_ludo.journal;
+
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameHistory;
+import com.example.super_ludo.models.GameState;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class GameCheckpointTest {
+
+    private static final int HEADER_SIZE = 32;
+    private static final int POSITION_SIZE = 16;
+
+    private File journalFile;
+    private File checkpointFile;
+    private JournalRecorder recorder;
+
+    @Before
+    public void recordGame() throws IOException {
+        journalFile = File.createTempFile("game", ".journal");
+        checkpointFile = File.createTempFile("game", ".save");
+        journalFile.delete();
+
+        recorder = new JournalRecorder(25, GameJournal.open(journalFile));
+        recorder.newGame(4);
+        for (int i = 0; i < 2000; i++) {
+            recorder.step();
+        }
+        // Leave something to redo
+        GameHistory history = recorder.getHistory();
+        while (history.getRedoCount() < 3) {
+            recorder.step();
+            history = recorder.getHistory();
+        }
+    }
+
+    @After
+    public void deleteFiles() throws IOException {
+        recorder.getJournal().close();
+        journalFile.delete();
+        checkpointFile.delete();
+        new File(checkpointFile.getPath() + ".tmp").delete();
+    }
+
+    @Test
+    public void writeReadRoundTripKeepsUndoAndRedo() throws IOException {
+        GameHistory history = recorder.getHistory();
+        assertTrue(history.getUndoCount() > 0);
+        assertTrue(history.getRedoCount() > 0);
+
+        GameCheckpoint.of(history, recorder.getJournal()).writeTo(checkpointFile);
+        assertEquals(HEADER_SIZE + POSITION_SIZE * (history.getUndoCount() + 1 + history.getRedoCount()),
+                checkpointFile.length());
+        GameCheckpoint read = GameCheckpoint.read(checkpointFile);
+
+        assertEquals(recorder.getJournal().getLength(), read.getJournalLength());
+        assertEquals(recorder.getJournal().getChecksum(), read.getJournalChecksum());
+        GameHistory restored = read.getHistory();
+        assertSameHistory(history, restored);
+
+        GameState gameState = new GameState();
+        read.restore(gameState);
+        assertEquals(CompactGameState.encode(recorder.getGameState()), CompactGameState.encode(gameState));
+
+        GameHistory expected = history;
+        while (restored.canUndo()) {
+            expected = expected.undo();
+            restored = restored.undo();
+            assertSameHistory(expected, restored);
+        }
+        while (restored.canRedo()) {
+            expected = expected.redo();
+            restored = restored.redo();
+            assertSameHistory(expected, restored);
+        }
+    }
+
+    @Test
+    public void corruptedHeaderIsRejected() throws IOException {
+        GameCheckpoint.of(recorder.getHistory(), recorder.getJournal()).writeTo(checkpointFile);
+
+        // Magic, journal length, journal checksum and the stored header checksum
+        for (int offset : new int[] {0, 8, 16, 4}) {
+            flipByte(offset);
+            assertThrows(IOException.class, () -> GameCheckpoint.read(checkpointFile));
+            flipByte(offset);
+        }
+        GameCheckpoint.read(checkpointFile);
+    }
+
+    @Test
+    public void corruptedCurrentPositionIsRejected() throws IOException {
+        GameHistory history = recorder.getHistory();
+        GameCheckpoint.of(history, recorder.getJournal()).writeTo(checkpointFile);
+
+        flipByte(HEADER_SIZE + POSITION_SIZE * history.getUndoCount() + 5);
+        assertThrows(IOException.class, () -> GameCheckpoint.read(checkpointFile));
+    }
+
+    @Test
+    public void corruptedHistoryEntryIsRejected() throws IOException {
+        GameHistory history = recorder.getHistory();
+        GameCheckpoint.of(history, recorder.getJournal()).writeTo(checkpointFile);
+
+        // The oldest position and the last one that can be redone
+        long last = HEADER_SIZE + POSITION_SIZE * (history.getUndoCount() + history.getRedoCount()) + 5;
+        for (long offset : new long[] {HEADER_SIZE + 5, last}) {
+            flipByte(offset);
+            assertThrows(IOException.class, () -> GameCheckpoint.read(checkpointFile));
+            flipByte(offset);
+        }
+        GameCheckpoint.read(checkpointFile);
+    }
+
+    @Test
+    public void shipCodeOffTheBoardIsRejected() throws IOException {
+        CompactGameState current = recorder.getHistory().getCurrent();
+        long low = CompactGameState.withShipCode(current.getLow(), 0, CompactGameState.BASE_CODE);
+        GameHistory history = recorder.getHistory()
+                .record(new CompactGameState(CompactGameState.withShipCode(low, 0, 46), current.getHigh()))
+                .record(current);
+        new GameCheckpoint(history, 0, 0).writeTo(checkpointFile);
+        assertThrows(IOException.class, () -> GameCheckpoint.read(checkpointFile));
+
+        history = history.undo().undo().record(new CompactGameState(low, current.getHigh()));
+        new GameCheckpoint(history, 0, 0).writeTo(checkpointFile);
+        GameCheckpoint.read(checkpointFile);
+    }
+
+    @Test
+    public void sizeMismatchIsRejected() throws IOException {
+        GameCheckpoint.of(recorder.getHistory(), recorder.getJournal()).writeTo(checkpointFile);
+        long length = checkpointFile.length();
+
+        try (RandomAccessFile file = new RandomAccessFile(checkpointFile, "rw")) {
+            file.setLength(length + POSITION_SIZE);
+            assertThrows(IOException.class, () -> GameCheckpoint.read(checkpointFile));
+            file.setLength(length - POSITION_SIZE);
+            assertThrows(IOException.class, () -> GameCheckpoint.read(checkpointFile));
+            file.setLength(HEADER_SIZE - 1);
+            assertThrows(IOException.class, () -> GameCheckpoint.read(checkpointFile));
+        }
+    }
+
+    @Test
+    public void matchesFailsOnceTheJournalIsRewritten() throws IOException {
+        GameCheckpoint checkpoint = GameCheckpoint.of(recorder.getHistory(), recorder.getJournal());
+        assertTrue(checkpoint.matches(journalFile));
+
+        // Appending keeps the prefix the checkpoint covers
+        recorder.step();
+        assertTrue(checkpoint.matches(journalFile));
+
+        // A new game over the old journal does not
+        recorder.getJournal().close();
+        journalFile.delete();
+        recorder.setJournal(GameJournal.open(journalFile));
+        recorder.newGame(4);
+        while (recorder.getJournal().getLength() < checkpoint.getJournalLength()) {
+            recorder.getJournal().recordRoll(GameEvent.fromCode(1));
+        }
+        assertFalse(checkpoint.matches(journalFile));
+    }
+
+    @Test
+    public void resumeFromCheckpointMatchesAFullReplay() throws IOException {
+        GameCheckpoint.of(recorder.getHistory(), recorder.getJournal()).writeTo(checkpointFile);
+        for (int i = 0; i < 500; i++) {
+            recorder.step();
+        }
+
+        GameState replayed = new GameState();
+        JournalReplayer full = new JournalReplayer(new RulesEngine());
+        try (FileInputStream in = new FileInputStream(journalFile)) {
+            full.replay(new BufferedInputStream(in), replayed);
+        }
+
+        GameCheckpoint checkpoint = GameCheckpoint.read(checkpointFile);
+        assertTrue(checkpoint.matches(journalFile));
+        GameState resumed = new GameState();
+        checkpoint.restore(resumed);
+        JournalReplayer tail = new JournalReplayer(new RulesEngine());
+        try (FileInputStream in = new FileInputStream(journalFile)) {
+            in.getChannel().position(checkpoint.getJournalLength());
+            tail.resume(new BufferedInputStream(in), resumed, checkpoint.getHistory());
+        }
+
+        assertEquals(CompactGameState.encode(recorder.getGameState()), CompactGameState.encode(resumed));
+        assertEquals(CompactGameState.encode(replayed), CompactGameState.encode(resumed));
+        assertSameHistory(full.getHistory(), tail.getHistory());
+        assertEquals(full.getLength(), checkpoint.getJournalLength() + tail.getLength());
+        assertEquals(journalFile.length(), full.getLength());
+    }
+
+    private void flipByte(long offset) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(checkpointFile, "rw")) {
+            file.seek(offset);
+            int b = file.read();
+            file.seek(offset);
+            file.write(b ^ 0x40);
+        }
+    }
+
+    private static void assertSameHistory(GameHistory expected, GameHistory actual) {
+        assertEquals(expected.getCurrent(), actual.getCurrent());
+        assertEquals(expected.getUndoCount(), actual.getUndoCount());
+        assertEquals(expected.getRedoCount(), actual.getRedoCount());
+    }
+}
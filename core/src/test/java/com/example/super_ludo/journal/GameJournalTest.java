@@ -0,0 +1,110 @@
+package com.example.super_ludo.journal;
+
+import com.example.super_ludo.models.GameEvent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class GameJournalTest {
+
+    private File file;
+
+    @Before
+    public void createFile() throws IOException {
+        file = File.createTempFile("game", ".journal");
+        file.delete();
+    }
+
+    @After
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void varintRoundTrip() throws IOException {
+        int[] values = {0, 1, 127, 128, 300, 16383, 16384, 2097151, 2097152, 268435456, Integer.MAX_VALUE};
+        int[] sizes = {1, 1, 1, 2, 2, 2, 3, 3, 4, 5, 5};
+        byte[] buffer = new byte[5 * values.length];
+
+        int offset = 0;
+        for (int i = 0; i < values.length; i++) {
+            int end = GameJournal.putVarint(buffer, offset, values[i]);
+            assertEquals("size of " + values[i], sizes[i], end - offset);
+            offset = end;
+        }
+
+        InputStream in = new ByteArrayInputStream(buffer, 0, offset);
+        for (int value : values) {
+            assertEquals(value, GameJournal.readVarint(in));
+        }
+        assertEquals(-1, GameJournal.readVarint(in));
+    }
+
+    @Test
+    public void varintCutOffInsideIsTruncated() {
+        byte[] buffer = new byte[5];
+        int length = GameJournal.putVarint(buffer, 0, 300);
+        InputStream in = new ByteArrayInputStream(buffer, 0, length - 1);
+
+        assertThrows(EOFException.class, () -> GameJournal.readVarint(in));
+    }
+
+    @Test
+    public void openWritesMagicToANewFile() throws IOException {
+        try (GameJournal journal = GameJournal.open(file)) {
+            assertEquals(GameJournal.MAGIC.length, journal.getLength());
+            assertEquals(GameJournal.checksum(file, file.length()), journal.getChecksum());
+        }
+    }
+
+    @Test
+    public void openWithLengthTruncatesAndContinuesTheChecksum() throws IOException {
+        long keptLength;
+        long keptChecksum;
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.recordNewGame(4);
+            journal.recordRoll(GameEvent.fromCode(6));
+            journal.recordSelection(0);
+            keptLength = journal.getLength();
+            keptChecksum = journal.getChecksum();
+
+            journal.recordRoll(GameEvent.fromCode(3));
+            journal.recordTeleport(5, 300);
+        }
+
+        try (GameJournal journal = GameJournal.open(file, keptLength)) {
+            assertEquals(keptLength, file.length());
+            assertEquals(keptLength, journal.getLength());
+            assertEquals(keptChecksum, journal.getChecksum());
+
+            journal.recordRoll(GameEvent.fromCode(2));
+            journal.recordUndo();
+            journal.recordRedo();
+            assertEquals(file.length(), journal.getLength());
+            assertEquals(GameJournal.checksum(file, file.length()), journal.getChecksum());
+        }
+        assertEquals(keptChecksum, GameJournal.checksum(file, keptLength));
+    }
+
+    @Test
+    public void openPastTheEndIsRejected() throws IOException {
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.recordNewGame(2);
+        }
+        long length = file.length();
+
+        assertThrows(IOException.class, () -> GameJournal.open(file, length + 1));
+        assertEquals(length, file.length());
+        assertEquals(-1, GameJournal.checksum(file, length + 1));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.super_ludo.journal;
+
+import com.example.super_ludo.engine.Move;
+import com.example.super_ludo.engine.RuleResult;
+import com.example.super_ludo.models.GameHistory;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.RandomGames;
+import com.example.super_ludo.models.SelectionPhase;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Plays random games and journals every action the way the app does,
+ * keeping the history the app would have, undo and redo included.
+ */
+final class JournalRecorder {
+
+    private final RandomGames games;
+    private final Random random;
+    private final GameState gameState = new GameState();
+    private GameJournal journal;
+    private GameHistory history;
+    private RuleResult lastResult;
+
+    JournalRecorder(long seed, GameJournal journal) {
+        this.games = new RandomGames(seed);
+        this.random = games.getRandom();
+        this.journal = journal;
+    }
+
+    GameState getGameState() {
+        return gameState;
+    }
+
+    GameHistory getHistory() {
+        return history;
+    }
+
+    GameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Carry on recording into another journal, such as one reopened after a crash.
+     */
+    void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Get the result of the last roll or selection, or null if the last action was not one.
+     */
+    RuleResult getLastResult() {
+        return lastResult;
+    }
+
+    void newGame(int playerCount) throws IOException {
+        gameState.initialize(playerCount);
+        journal.recordNewGame(playerCount);
+        history = GameHistory.start(gameState);
+        lastResult = null;
+    }
+
+    /**
+     * Undo or redo now and then, otherwise roll or select; a finished game is followed by a new one.
+     */
+    void step() throws IOException {
+        lastResult = null;
+        if (history.canUndo() && random.nextInt(10) == 0) {
+            history = history.undo();
+            history.restore(gameState);
+            journal.recordUndo();
+            return;
+        }
+        if (history.canRedo() && random.nextInt(3) == 0) {
+            history = history.redo();
+            history.restore(gameState);
+            journal.recordRedo();
+            return;
+        }
+        if (gameState.isGameOver()) {
+            newGame(gameState.getPlayers().size());
+            return;
+        }
+
+        boolean roll = gameState.getSelectionPhase() == SelectionPhase.NONE;
+        lastResult = games.step(gameState);
+        if (roll) {
+            journal.recordRoll(gameState.getLastEvent());
+        } else if (lastResult == RuleResult.TELEPORTED) {
+            journal.recordTeleport(Move.getSlot(games.getLastMove()), games.getEngine().getLastTeleportIndex());
+        } else {
+            journal.recordSelection(Move.getSlot(games.getLastMove()));
+        }
+        history = history.record(gameState);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.super_ludo.journal;
+
+import com.example.super_ludo.engine.RuleResult;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.CompactGameState;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.Spaceship;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class JournalReplayerTest {
+
+    private static final int ACTIONS = 5000;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final GameJournal journal = new GameJournal(out);
+
+    @Before
+    public void writeMagic() {
+        out.write(GameJournal.MAGIC, 0, GameJournal.MAGIC.length);
+    }
+
+    @Test
+    public void replayRebuildsTheRecordedGame() throws IOException {
+        for (int playerCount = 2; playerCount <= 4; playerCount++) {
+            out.reset();
+            out.write(GameJournal.MAGIC, 0, GameJournal.MAGIC.length);
+            JournalRecorder recorder = new JournalRecorder(playerCount, journal);
+            recorder.newGame(playerCount);
+            for (int i = 0; i < ACTIONS; i++) {
+                recorder.step();
+            }
+
+            GameState replayed = new GameState();
+            JournalReplayer replayer = new JournalReplayer(new RulesEngine());
+            replayer.replay(new ByteArrayInputStream(out.toByteArray()), replayed);
+
+            assertEquals(CompactGameState.encode(recorder.getGameState()), CompactGameState.encode(replayed));
+            assertEquals(recorder.getHistory().getCurrent(), replayer.getHistory().getCurrent());
+            assertEquals(recorder.getHistory().getUndoCount(), replayer.getHistory().getUndoCount());
+            assertEquals(recorder.getHistory().getRedoCount(), replayer.getHistory().getRedoCount());
+            assertEquals(out.size(), replayer.getLength());
+        }
+    }
+
+    @Test
+    public void truncatedTeleportIsDropped() throws IOException {
+        JournalRecorder recorder = new JournalRecorder(11, journal);
+        recorder.newGame(4);
+
+        int lengthBefore;
+        CompactGameState before;
+        do {
+            lengthBefore = out.size();
+            before = CompactGameState.encode(recorder.getGameState());
+            recorder.step();
+        } while (recorder.getLastResult() != RuleResult.TELEPORTED);
+
+        // Keep the selection tag, lose the destination
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), lengthBefore + 1);
+        GameState replayed = new GameState();
+        JournalReplayer replayer = new JournalReplayer(new RulesEngine());
+        replayer.replay(new ByteArrayInputStream(truncated), replayed);
+
+        assertEquals(before, CompactGameState.encode(replayed));
+        assertEquals(lengthBefore, replayer.getLength());
+    }
+
+    @Test
+    public void truncatedNewGameIsDropped() throws IOException {
+        JournalRecorder recorder = new JournalRecorder(12, journal);
+        recorder.newGame(3);
+        for (int i = 0; i < 200; i++) {
+            recorder.step();
+        }
+        int length = out.size();
+
+        // A new game record without its player count
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), length + 1);
+        truncated[length] = GameJournal.TAG_NEW_GAME;
+        GameState replayed = new GameState();
+        JournalReplayer replayer = new JournalReplayer(new RulesEngine());
+        replayer.replay(new ByteArrayInputStream(truncated), replayed);
+
+        assertEquals(CompactGameState.encode(recorder.getGameState()), CompactGameState.encode(replayed));
+        assertEquals(length, replayer.getLength());
+    }
+
+    @Test
+    public void selectionWithNothingPendingIsRejected() throws IOException {
+        journal.recordNewGame(2);
+        journal.recordSelection(0);
+
+        assertRejected();
+    }
+
+    @Test
+    public void selectionOfAnOpponentsShipIsRejected() throws IOException {
+        GameState gameState = new GameState();
+        gameState.initialize(2);
+        Spaceship opponentShip = gameState.getPlayers().get(1).getSpaceships().get(0);
+
+        journal.recordNewGame(2);
+        journal.recordRoll(GameEvent.fromCode(6));
+        journal.recordSelection(CompactGameState.getSlot(opponentShip));
+
+        assertRejected();
+    }
+
+    @Test
+    public void selectionOfAnUnusedSlotIsRejected() throws IOException {
+        GameState gameState = new GameState();
+        gameState.initialize(2);
+        assertTrue(gameState.getShipCount() < CompactGameState.SHIP_COUNT);
+
+        journal.recordNewGame(2);
+        journal.recordRoll(GameEvent.fromCode(6));
+        journal.recordSelection(CompactGameState.SHIP_COUNT - 1);
+
+        assertRejected();
+    }
+
+    @Test
+    public void streamWithoutMagicIsRejected() {
+        byte[] bytes = {'S', 'L', 'C', '1', 0, 2};
+
+        assertThrows(IOException.class,
+                () -> new JournalReplayer(new RulesEngine()).replay(new ByteArrayInputStream(bytes), new GameState()));
+    }
+
+    private void assertRejected() {
+        byte[] bytes = out.toByteArray();
+        assertThrows(IOException.class,
+                () -> new JournalReplayer(new RulesEngine()).replay(new ByteArrayInputStream(bytes), new GameState()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.super_ludo.models;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BoardTopologyTest {
+
+    private final BoardTopology topology = BoardTopology.standard();
+
+    @Test
+    public void everyColorIsTheSameDistanceFromHome() {
+        for (PlayerColor color : PlayerColor.values()) {
+            assertEquals(44, topology.getHomeIndex(color));
+            assertEquals(BoardTopology.TRACK_LENGTH - 1, topology.getHomeEntranceIndex(color));
+            assertEquals(44, topology.getStepsToHome(color, 0));
+            assertSame(topology.getHomePosition(color), topology.getPathCell(color, 44));
+        }
+    }
+
+    @Test
+    public void pathsStartOnTheColorsStartCell() {
+        int[][] expected = {{9, 10}, {9, 0}, {1, 0}, {1, 10}};
+        PlayerColor[] colors = {PlayerColor.BLUE, PlayerColor.GREEN, PlayerColor.RED, PlayerColor.YELLOW};
+
+        for (int i = 0; i < colors.length; i++) {
+            PlayerColor color = colors[i];
+            BoardCell start = topology.getStartPosition(color);
+            assertSame(topology.getCell(expected[i][0], expected[i][1]), start);
+            assertEquals(CellType.START, start.getType());
+            assertSame(color, start.getColor());
+            assertSame(start, topology.getPathCell(color, 0));
+            assertEquals(0, topology.getPathIndex(color, start));
+
+            // The path goes once around the track and leaves it just before the start cell
+            int startTrackIndex = topology.getTrackIndex(start);
+            assertTrue(startTrackIndex >= 0);
+            BoardCell entrance = topology.getPathCell(color, topology.getHomeEntranceIndex(color));
+            assertEquals((startTrackIndex + BoardTopology.TRACK_LENGTH - 1) % BoardTopology.TRACK_LENGTH,
+                    topology.getTrackIndex(entrance));
+
+            Set<BoardCell> cells = new HashSet<>();
+            for (int pathIndex = 0; pathIndex <= topology.getHomeIndex(color); pathIndex++) {
+                assertTrue(cells.add(topology.getPathCell(color, pathIndex)));
+            }
+        }
+    }
+
+    @Test
+    public void homeCodeFitsTheCompactEncoding() {
+        for (PlayerColor color : PlayerColor.values()) {
+            // A ship at home is stored as its path index + 1 in a 6-bit field
+            int homeCode = topology.getHomeIndex(color) + 1;
+            assertTrue(homeCode < 1 << 6);
+
+            for (int slot = 0; slot < CompactGameState.SHIP_COUNT; slot++) {
+                long low = CompactGameState.withShipCode(-1L, slot, homeCode);
+                long high = CompactGameState.withShipCode(-1L, slot, homeCode);
+                assertEquals(homeCode, CompactGameState.getShipCode(low, high, slot));
+            }
+        }
+    }
+}
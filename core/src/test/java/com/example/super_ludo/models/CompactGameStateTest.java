@@ -0,0 +1,89 @@
+package com.example.super_ludo.models;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class CompactGameStateTest {
+
+    private static final int ACTIONS = 20000;
+
+    @Test
+    public void encodeDecodeIsLosslessAfterEveryAction() {
+        for (int playerCount = 2; playerCount <= 4; playerCount++) {
+            RandomGames games = new RandomGames(playerCount);
+            GameState gameState = new GameState();
+            gameState.initialize(playerCount);
+            GameState decoded = new GameState();
+
+            for (int i = 0; i < ACTIONS; i++) {
+                if (gameState.isGameOver()) {
+                    gameState.resetGame();
+                } else {
+                    games.step(gameState);
+                }
+
+                CompactGameState encoded = CompactGameState.encode(gameState);
+                encoded.decodeInto(decoded);
+                assertSameGame(gameState, decoded);
+                assertEquals(encoded, CompactGameState.encode(decoded));
+            }
+        }
+    }
+
+    @Test
+    public void decodeReplacesAGameWithADifferentPlayerCount() {
+        GameState source = new GameState();
+        source.initialize(3);
+        GameState target = new GameState();
+        target.initialize(4);
+
+        CompactGameState.encode(source).decodeInto(target);
+
+        assertEquals(3, target.getPlayers().size());
+        assertSameGame(source, target);
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        RandomGames games = new RandomGames(7);
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+        for (int i = 0; i < 200; i++) {
+            games.step(gameState);
+        }
+
+        GameState copy = gameState.copy();
+        CompactGameState before = CompactGameState.encode(gameState);
+        for (int i = 0; i < 200 && !copy.isGameOver(); i++) {
+            games.step(copy);
+        }
+
+        assertEquals(before, CompactGameState.encode(gameState));
+    }
+
+    private static void assertSameGame(GameState expected, GameState actual) {
+        assertEquals(expected.getPlayers().size(), actual.getPlayers().size());
+        assertEquals(expected.getCurrentPlayerIndex(), actual.getCurrentPlayerIndex());
+        assertEquals(expected.hasExtraTurn(), actual.hasExtraTurn());
+        assertEquals(expected.getSelectionPhase(), actual.getSelectionPhase());
+        assertSame(expected.getLastEvent(), actual.getLastEvent());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+
+        for (int slot = 0; slot < expected.getShipCount(); slot++) {
+            Spaceship ship = expected.getShip(slot);
+            Spaceship other = actual.getShip(slot);
+            String name = "slot " + slot;
+            assertEquals(name, ship.isInBase(), other.isInBase());
+            assertEquals(name, ship.hasReachedHome(), other.hasReachedHome());
+            assertEquals(name, ship.getPathPosition(), other.getPathPosition());
+            if (ship.getPosition() == null) {
+                assertEquals(name, null, other.getPosition());
+            } else {
+                assertEquals(name, ship.getPosition().getX(), other.getPosition().getX());
+                assertEquals(name, ship.getPosition().getY(), other.getPosition().getY());
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.super_ludo.models;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class EventSamplerTest {
+
+    private static final int DRAWS = 1_000_000;
+    // Chi-square critical value for 10 degrees of freedom at p = 0.001
+    private static final double CHI_SQUARE_LIMIT = 29.59;
+
+    @Test
+    public void drawsMatchTheGameWeights() {
+        EventSampler sampler = EventSampler.fromConstants();
+        int[] counts = draw(sampler, new SplittableRandom(1));
+
+        double probabilityTotal = 0;
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            probabilityTotal += sampler.getProbability(code);
+        }
+        assertEquals(1, probabilityTotal, 1e-12);
+        assertTrue(chiSquare(sampler, counts) < CHI_SQUARE_LIMIT);
+    }
+
+    @Test
+    public void drawsMatchUnevenWeights() {
+        double[] weights = new double[GameEvent.OUTCOME_COUNT + 1];
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            weights[code] = code * code;
+        }
+        EventSampler sampler = new EventSampler(weights);
+        int[] counts = draw(sampler, new SplittableRandom(2));
+
+        assertEquals(121.0 / 506, sampler.getProbability(11), 1e-12);
+        assertTrue(chiSquare(sampler, counts) < CHI_SQUARE_LIMIT);
+    }
+
+    @Test
+    public void zeroWeightIsNeverDrawn() {
+        double[] weights = new double[GameEvent.OUTCOME_COUNT + 1];
+        weights[2] = 1;
+        weights[5] = 3;
+        weights[11] = 0.5;
+        EventSampler sampler = new EventSampler(weights);
+        int[] counts = draw(sampler, new SplittableRandom(3));
+
+        int drawn = 0;
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            if (weights[code] == 0) {
+                assertEquals(0, sampler.getProbability(code), 0);
+                assertEquals(0, counts[code]);
+            }
+            drawn += counts[code];
+        }
+        assertEquals(DRAWS, drawn);
+        assertEquals(3 / 4.5, counts[5] / (double) DRAWS, 0.005);
+
+        // A type with no weight drops all of its codes
+        EventSampler rollsOnly = EventSampler.fromTypeWeights(new int[] {1, 0, 0, 0, 0, 0});
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(EventType.NORMAL_ROLL, rollsOnly.sample(new SplittableRandom(i)).getType());
+        }
+    }
+
+    @Test
+    public void invalidWeightsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EventSampler(new double[GameEvent.OUTCOME_COUNT]));
+        assertThrows(IllegalArgumentException.class, () -> new EventSampler(new double[GameEvent.OUTCOME_COUNT + 1]));
+        for (double weight : new double[] {-1, Double.NaN, Double.POSITIVE_INFINITY}) {
+            double[] weights = new double[GameEvent.OUTCOME_COUNT + 1];
+            weights[1] = 1;
+            weights[4] = weight;
+            assertThrows(IllegalArgumentException.class, () -> new EventSampler(weights));
+        }
+    }
+
+    private static int[] draw(EventSampler sampler, SplittableRandom random) {
+        int[] counts = new int[GameEvent.OUTCOME_COUNT + 1];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[sampler.sampleCode(random)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Get Pearson's chi-square statistic of draw counts against the sampler's probabilities.
+     */
+    private static double chiSquare(EventSampler sampler, int[] counts) {
+        double statistic = 0;
+        for (int code = 1; code <= GameEvent.OUTCOME_COUNT; code++) {
+            double expected = sampler.getProbability(code) * DRAWS;
+            statistic += (counts[code] - expected) * (counts[code] - expected) / expected;
+        }
+        return statistic;
+    }
+}
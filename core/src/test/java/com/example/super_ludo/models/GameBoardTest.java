@@ -0,0 +1,91 @@
+package com.example.super_ludo.models;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GameBoardTest {
+
+    @Test
+    public void occupancyFollowsMovesCapturesAndResets() {
+        RandomGames games = new RandomGames(31);
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+        assertMatchesShips(gameState);
+
+        int captures = 0;
+        int resets = 0;
+        for (int step = 0; step < 20000; step++) {
+            if (gameState.isGameOver()) {
+                gameState.resetGame();
+                assertMatchesShips(gameState);
+                resets++;
+            }
+            games.step(gameState);
+            if (games.getEngine().getLastCaptureCount() > 0) {
+                captures++;
+            }
+            assertMatchesShips(gameState);
+        }
+        assertTrue(captures > 50);
+        assertTrue(resets > 0);
+
+        // Decoding a position rebuilds the board as well
+        GameState decoded = new GameState();
+        CompactGameState.encode(gameState).decodeInto(decoded);
+        assertMatchesShips(decoded);
+    }
+
+    /**
+     * Check every cell and bitset of the board against the ships' own positions.
+     */
+    private static void assertMatchesShips(GameState gameState) {
+        GameBoard board = gameState.getBoard();
+        long[] expectedOccupancy = new long[PlayerColor.values().length];
+        for (Player player : gameState.getPlayers()) {
+            for (Spaceship ship : player.getSpaceships()) {
+                int trackIndex = ship.isInBase() ? -1 : board.getTrackIndex(ship.getPosition());
+                if (trackIndex >= 0) {
+                    expectedOccupancy[ship.getColor().ordinal()] |= 1L << trackIndex;
+                }
+            }
+        }
+        for (PlayerColor color : PlayerColor.values()) {
+            assertEquals(expectedOccupancy[color.ordinal()], board.getOccupancy(color));
+        }
+
+        Spaceship[] buffer = new Spaceship[CompactGameState.SHIP_COUNT];
+        for (int x = 0; x < BoardTopology.BOARD_SIZE; x++) {
+            for (int y = 0; y < BoardTopology.BOARD_SIZE; y++) {
+                BoardCell cell = board.getCell(x, y);
+                if (cell == null) {
+                    continue;
+                }
+                List<Spaceship> expected = new ArrayList<>();
+                for (int slot = 0; slot < gameState.getShipCount(); slot++) {
+                    Spaceship ship = gameState.getShip(slot);
+                    if (!ship.isInBase() && ship.getPosition() == cell) {
+                        expected.add(ship);
+                    }
+                }
+
+                assertEquals(expected, board.getSpaceships(cell));
+                int count = board.getSpaceships(cell, buffer);
+                assertEquals(expected.size(), count);
+                for (int i = 0; i < count; i++) {
+                    assertEquals(expected.get(i), buffer[i]);
+                }
+                assertEquals(expected.isEmpty(), board.isEmpty(cell));
+
+                int trackIndex = board.getTrackIndex(cell);
+                if (trackIndex >= 0) {
+                    assertEquals(expected.isEmpty(), board.isTrackCellEmpty(trackIndex));
+                }
+            }
+        }
+    }
+}
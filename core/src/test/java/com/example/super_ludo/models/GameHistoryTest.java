@@ -0,0 +1,159 @@
+package com.example.super_ludo.models;
+
+import org.junit.Test;
+
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class GameHistoryTest {
+
+    private static final int ACTIONS = 3000;
+
+    @Test
+    public void undoAndRedoFollowTheRecordedPositions() {
+        RandomGames games = new RandomGames(14);
+        Random random = games.getRandom();
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+        GameHistory history = GameHistory.start(gameState);
+        List<CompactGameState> past = new ArrayList<>();
+        List<CompactGameState> future = new ArrayList<>();
+        past.add(CompactGameState.encode(gameState));
+
+        for (int i = 0; i < ACTIONS; i++) {
+            int action = random.nextInt(4);
+            if (action == 0 && history.canUndo()) {
+                history = history.undo();
+                future.add(past.remove(past.size() - 1));
+            } else if (action == 1 && history.canRedo()) {
+                history = history.redo();
+                past.add(future.remove(future.size() - 1));
+            } else {
+                history.restore(gameState);
+                if (gameState.isGameOver()) {
+                    gameState.resetGame();
+                } else {
+                    games.step(gameState);
+                }
+                history = history.record(gameState);
+                past.add(CompactGameState.encode(gameState));
+                future.clear();
+            }
+            assertMatches(past, future, history);
+        }
+    }
+
+    @Test
+    public void recordClearsRedo() {
+        GameState gameState = new GameState();
+        gameState.initialize(2);
+        RandomGames games = new RandomGames(15);
+        GameHistory history = GameHistory.start(gameState);
+        for (int i = 0; i < 5; i++) {
+            games.step(gameState);
+            history = history.record(gameState);
+        }
+
+        history = history.undo().undo();
+        assertEquals(2, history.getRedoCount());
+        history.restore(gameState);
+        games.step(gameState);
+        history = history.record(gameState);
+
+        assertFalse(history.canRedo());
+        assertEquals(0, history.getRedoCount());
+        assertEquals(4, history.getUndoCount());
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void writeReadRoundTripKeepsUndoAndRedo() {
+        RandomGames games = new RandomGames(16);
+        GameState gameState = new GameState();
+        gameState.initialize(3);
+        GameHistory history = GameHistory.start(gameState);
+        for (int i = 0; i < 400; i++) {
+            games.step(gameState);
+            history = history.record(gameState);
+        }
+        for (int i = 0; i < 150; i++) {
+            history = history.undo();
+        }
+        assertEquals(250, history.getUndoCount());
+        assertEquals(150, history.getRedoCount());
+
+        // Written after other data, as a checkpoint does behind its header
+        int count = history.getUndoCount() + 1 + history.getRedoCount();
+        LongBuffer buffer = LongBuffer.allocate(3 + 2 * count);
+        buffer.position(3);
+        history.writeTo(buffer);
+        assertEquals(buffer.capacity(), buffer.position());
+        buffer.position(3);
+        GameHistory read = GameHistory.read(buffer.slice(), history.getUndoCount() + 1, history.getRedoCount());
+
+        assertSameHistory(history, read);
+        while (read.canUndo()) {
+            history = history.undo();
+            read = read.undo();
+            assertSameHistory(history, read);
+        }
+        while (read.canRedo()) {
+            history = history.redo();
+            read = read.redo();
+            assertSameHistory(history, read);
+        }
+
+        // The history read back can be recorded onto and undone past the stored part
+        games.step(gameState);
+        read = read.record(gameState).undo().undo();
+        assertEquals(399, read.getUndoCount());
+        assertEquals(2, read.getRedoCount());
+    }
+
+    @Test
+    public void oldHistoriesStayValid() {
+        GameState gameState = new GameState();
+        gameState.initialize(2);
+        RandomGames games = new RandomGames(17);
+        GameHistory start = GameHistory.start(gameState);
+        CompactGameState first = start.getCurrent();
+
+        games.step(gameState);
+        GameHistory branch = start.record(gameState);
+
+        assertFalse(start.canUndo());
+        assertEquals(first, start.getCurrent());
+        assertTrue(branch.canUndo());
+        assertEquals(first, branch.undo().getCurrent());
+    }
+
+    @Test
+    public void readRejectsInvalidSizes() {
+        LongBuffer buffer = LongBuffer.allocate(4);
+
+        assertThrows(IllegalArgumentException.class, () -> GameHistory.read(buffer, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> GameHistory.read(buffer, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> GameHistory.read(buffer, 2, 1));
+    }
+
+    private static void assertMatches(List<CompactGameState> past, List<CompactGameState> future, GameHistory history) {
+        assertEquals(past.get(past.size() - 1), history.getCurrent());
+        assertEquals(past.size() - 1, history.getUndoCount());
+        assertEquals(future.size(), history.getRedoCount());
+        assertEquals(past.size() > 1, history.canUndo());
+        assertEquals(!future.isEmpty(), history.canRedo());
+    }
+
+    private static void assertSameHistory(GameHistory expected, GameHistory actual) {
+        assertEquals(expected.getCurrent(), actual.getCurrent());
+        assertEquals(expected.getUndoCount(), actual.getUndoCount());
+        assertEquals(expected.getRedoCount(), actual.getRedoCount());
+    }
+}
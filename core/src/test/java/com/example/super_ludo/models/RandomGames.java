@@ -0,0 +1,54 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RuleResult;
+import com.example.super_ludo.engine.RulesEngine;
+
+import java.util.Random;
+
+/**
+ * Plays random legal actions, for tests that check invariants after every step.
+ *
+ * Every event is equally likely, so captures and teleports come up far more
+ * often than with the Crystal Ball's real odds.
+ */
+public final class RandomGames {
+
+    private final RulesEngine engine;
+    private final Random random;
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private int lastMove = -1;
+
+    public RandomGames(long seed) {
+        this.random = new Random(seed);
+        this.engine = new RulesEngine(new Random(seed + 1));
+    }
+
+    public RulesEngine getEngine() {
+        return engine;
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Get the move the last step applied, or -1 if it was a roll.
+     */
+    public int getLastMove() {
+        return lastMove;
+    }
+
+    /**
+     * Roll if nothing is pending, otherwise apply a random legal selection.
+     */
+    public RuleResult step(GameState gameState) {
+        if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+            lastMove = -1;
+            return engine.processRoll(gameState, GameEvent.fromCode(1 + random.nextInt(GameEvent.OUTCOME_COUNT)));
+        }
+        int count = MoveGenerator.generate(gameState, gameState.getLastEvent(), moves);
+        lastMove = moves[random.nextInt(count)];
+        return engine.applyMove(gameState, lastMove);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.super_ludo.models;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StateUpdateTest {
+
+    @Test
+    public void onlyTheWinningMoveEndsTheGame() {
+        RandomGames games = new RandomGames(19);
+        GameState gameState = new GameState();
+        gameState.initialize(2);
+        GameHistory history = GameHistory.start(gameState);
+        StateUpdate update = StateUpdate.newGame(gameState);
+
+        while (!gameState.isGameOver()) {
+            games.step(gameState);
+            history = history.record(gameState);
+            update = update.next(gameState);
+            assertEquals(gameState.isGameOver(), update.isGameEnded());
+        }
+        assertTrue(update.isGameOver());
+
+        // Undo out of the finished game and redo back into it
+        history = history.undo();
+        history.restore(gameState);
+        update = update.restore(gameState);
+        assertFalse(update.isGameOver());
+        assertFalse(update.isGameEnded());
+
+        history = history.redo();
+        history.restore(gameState);
+        update = update.restore(gameState);
+        assertTrue(update.isGameOver());
+        assertFalse(update.isGameEnded());
+        assertTrue(update.hasChanges());
+    }
+
+    @Test
+    public void restoreNeverCountsCaptures() {
+        RandomGames games = new RandomGames(20);
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+        GameHistory history = GameHistory.start(gameState);
+        StateUpdate update = StateUpdate.newGame(gameState);
+
+        int captures = 0;
+        for (int i = 0; i < 5000 && !gameState.isGameOver(); i++) {
+            games.step(gameState);
+            history = history.record(gameState);
+            StateUpdate next = update.next(gameState);
+            if (next.getCapturedShips() != 0) {
+                captures++;
+                // Undoing the capture and redoing it only moves the ships
+                history = history.undo();
+                history.restore(gameState);
+                StateUpdate undone = next.restore(gameState);
+                assertEquals(0, undone.getCapturedShips());
+                assertEquals(next.getMovedShips(), undone.getMovedShips());
+
+                history = history.redo();
+                history.restore(gameState);
+                next = undone.restore(gameState);
+                assertEquals(0, next.getCapturedShips());
+            }
+            update = next;
+        }
+        assertTrue(captures > 0);
+    }
+}
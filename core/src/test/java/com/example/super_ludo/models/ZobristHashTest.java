@@ -0,0 +1,79 @@
+package com.example.super_ludo.models;
+
+import com.example.super_ludo.engine.RuleResult;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ZobristHashTest {
+
+    private static final int ACTIONS = 20000;
+
+    @Test
+    public void incrementalHashMatchesRecomputedHashAfterEveryAction() {
+        int teleports = 0;
+        int captures = 0;
+        for (int playerCount = 2; playerCount <= 4; playerCount++) {
+            RandomGames games = new RandomGames(100 + playerCount);
+            GameState gameState = new GameState();
+            gameState.initialize(playerCount);
+            assertEquals(gameState.computeZobristHash(), gameState.getZobristHash());
+
+            for (int i = 0; i < ACTIONS; i++) {
+                if (gameState.isGameOver()) {
+                    gameState.resetGame();
+                } else {
+                    RuleResult result = games.step(gameState);
+                    if (result == RuleResult.TELEPORTED) {
+                        teleports++;
+                    }
+                    captures += games.getEngine().getLastCaptureCount();
+                    if (result == RuleResult.SENT_TO_BASE) {
+                        captures++;
+                    }
+                }
+                assertEquals("action " + i, gameState.computeZobristHash(), gameState.getZobristHash());
+            }
+        }
+
+        // The playouts must have exercised the moves that jump ships around
+        assertTrue(teleports > 100);
+        assertTrue(captures > 100);
+    }
+
+    @Test
+    public void decodedStateHasTheSameHash() {
+        RandomGames games = new RandomGames(3);
+        GameState gameState = new GameState();
+        gameState.initialize(4);
+        GameState decoded = new GameState();
+
+        for (int i = 0; i < 5000 && !gameState.isGameOver(); i++) {
+            games.step(gameState);
+            CompactGameState.encode(gameState).decodeInto(decoded);
+            assertEquals(gameState.getZobristHash(), decoded.getZobristHash());
+            assertEquals(decoded.computeZobristHash(), decoded.getZobristHash());
+        }
+    }
+
+    @Test
+    public void hashDependsOnTurnAndExtraTurn() {
+        GameState gameState = new GameState();
+        gameState.initialize(2);
+        long start = gameState.getZobristHash();
+
+        gameState.setExtraTurn();
+        long extraTurn = gameState.getZobristHash();
+        assertNotEquals(start, extraTurn);
+
+        gameState.nextTurn();
+        assertEquals(start, gameState.getZobristHash());
+
+        gameState.nextTurn();
+        assertNotEquals(start, gameState.getZobristHash());
+        assertEquals(gameState.computeZobristHash(), gameState.getZobristHash());
+    }
+}
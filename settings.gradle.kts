@@ -15,4 +15,7 @@ dependencyResolutionManagement {
 }
 
 rootProject.name = "super_ludo"
-include(":app")
\ No newline at end of file
+include(":app")
+include(":core")
+include(":benchmarks")
+include(":simulator")
\ No newline at end of file
@@ -0,0 +1,36 @@
+// Simulator module build.gradle.kts
+// Headless self-play simulator for balancing the Crystal Ball events.
+// Run with: ./gradlew :simulator:run --args="--games 1000000 --players 4"
+// Bot tournaments: ./gradlew :simulator:tournament --args="--bots random,greedy,expectimax:2 --players 4"
+// AI check, which must pass before the computer player's search or evaluation changes:
+// ./gradlew :simulator:aiCheck
+plugins {
+    id("application")
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+application {
+    mainClass.set("com.example.super_ludo.simulator.Simulator")
+}
+
+dependencies {
+    implementation(project(":core"))
+}
+
+tasks.register<JavaExec>("tournament") {
+    description = "Plays bots against each other and prints an Elo ladder."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.super_ludo.simulator.Tournament")
+}
+
+tasks.register<JavaExec>("aiCheck") {
+    description = "Fails unless the app's expectimax player clearly beats the greedy bot."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.super_ludo.simulator.Tournament")
+    args("--bots", "greedy,expectimax:2", "--games", "4000", "--seed", "1",
+            "--expect-winner", "expectimax:2")
+}
@@ -0,0 +1,141 @@
+package com.example.super_ludo.simulator;
+
+import com.example.super_ludo.ai.ExpectimaxSearch;
+import com.example.super_ludo.ai.GreedyPolicy;
+import com.example.super_ludo.ai.MctsSearch;
+import com.example.super_ludo.ai.Policy;
+import com.example.super_ludo.ai.RandomPolicy;
+import com.example.super_ludo.ai.TranspositionTable;
+
+import java.lang.reflect.Constructor;
+import java.util.Random;
+
+/**
+ * A tournament entrant, parsed from a command line spec such as "expectimax:2".
+ *
+ * Built-in bots are random, greedy, expectimax[:depth] and mcts[:millis per
+ * move]. Any other name is loaded as a {@link Policy} class with a public
+ * constructor taking a {@link Random} or no arguments.
+ */
+final class BotSpec {
+
+    enum Kind {
+        RANDOM,
+        GREEDY,
+        EXPECTIMAX,
+        MCTS,
+        CUSTOM
+    }
+
+    static final int DEFAULT_EXPECTIMAX_DEPTH = 1;
+    static final int DEFAULT_MCTS_MILLIS = 2;
+
+    // 2^12 entries per worker, enough for shallow searches
+    private static final int TABLE_BITS = 12;
+
+    final String label;
+    final Kind kind;
+    final int parameter;
+    private final Class<? extends Policy> policyClass;
+
+    private BotSpec(String label, Kind kind, int parameter, Class<? extends Policy> policyClass) {
+        this.label = label;
+        this.kind = kind;
+        this.parameter = parameter;
+        this.policyClass = policyClass;
+    }
+
+    /**
+     * Parse a bot spec.
+     *
+     * @throws IllegalArgumentException If the spec names no known bot or Policy class
+     */
+    static BotSpec parse(String spec) {
+        int colon = spec.indexOf(':');
+        String name = colon < 0 ? spec : spec.substring(0, colon);
+        String argument = colon < 0 ? null : spec.substring(colon + 1);
+
+        switch (name) {
+            case "random":
+                return new BotSpec(spec, Kind.RANDOM, 0, null);
+            case "greedy":
+                return new BotSpec(spec, Kind.GREEDY, 0, null);
+            case "expectimax": {
+                int depth = argument == null ? DEFAULT_EXPECTIMAX_DEPTH : Integer.parseInt(argument);
+                if (depth < 1 || depth > ExpectimaxSearch.MAX_DEPTH) {
+                    throw new IllegalArgumentException("Expectimax depth must be between 1 and "
+                            + ExpectimaxSearch.MAX_DEPTH);
+                }
+                return new BotSpec(spec, Kind.EXPECTIMAX, depth, null);
+            }
+            case "mcts": {
+                int millis = argument == null ? DEFAULT_MCTS_MILLIS : Integer.parseInt(argument);
+                if (millis <= 0) {
+                    throw new IllegalArgumentException("MCTS time per move must be positive");
+                }
+                return new BotSpec(spec, Kind.MCTS, millis, null);
+            }
+            default:
+                return new BotSpec(spec, Kind.CUSTOM, 0, loadPolicyClass(name));
+        }
+    }
+
+    /**
+     * Create an instance for one worker thread.
+     *
+     * @param random The worker's random stream
+     * @param seed Seed for bots that keep their own streams
+     */
+    Policy create(Random random, long seed) {
+        switch (kind) {
+            case RANDOM:
+                return new RandomPolicy(random);
+            case GREEDY:
+                return new GreedyPolicy();
+            case EXPECTIMAX: {
+                final ExpectimaxSearch search = new ExpectimaxSearch(ExpectimaxSearch.DEFAULT_PROBABILITIES,
+                        new TranspositionTable(TABLE_BITS));
+                final int depth = parameter;
+                return (gameState, event, moves, moveCount) ->
+                        moveCount == 1 ? moves[0] : search.search(gameState, depth);
+            }
+            case MCTS:
+                // Workers already use every core, so each search gets one thread
+                return new SearchPolicy(new MctsSearch(1, ExpectimaxSearch.DEFAULT_PROBABILITIES, seed),
+                        parameter * 1000000L);
+            default:
+                return instantiate(random);
+        }
+    }
+
+    private Policy instantiate(Random random) {
+        try {
+            try {
+                Constructor<? extends Policy> constructor = policyClass.getConstructor(Random.class);
+                return constructor.newInstance(random);
+            } catch (NoSuchMethodException e) {
+                return policyClass.getConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + policyClass.getName(), e);
+        }
+    }
+
+    private static Class<? extends Policy> loadPolicyClass(String name) {
+        Class<?> type;
+        try {
+            type = Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown bot " + name);
+        }
+        if (!Policy.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(name + " does not implement " + Policy.class.getName());
+        }
+        return type.asSubclass(Policy.class);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
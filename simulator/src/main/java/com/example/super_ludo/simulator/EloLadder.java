@@ -0,0 +1,259 @@
+package com.example.super_ludo.simulator;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Elo-scale ratings fitted to tournament results, with confidence intervals.
+ *
+ * Only the winner of a game is known, so results are modelled with Luce's
+ * choice rule: a bot of strength g wins a table with probability g divided
+ * by the table's total strength, which is the Elo formula for two players.
+ * Strengths are the maximum likelihood fit, found with Hunter's MM
+ * iteration, so unlike incremental Elo the ratings do not depend on the
+ * order games finished in. Every bot also gets one virtual win and one loss
+ * against a 1500 rated opponent, which keeps ratings finite and anchors the
+ * scale. Confidence intervals come from the inverse Fisher information and
+ * measure a rating against the average of the field.
+ */
+class EloLadder {
+
+    private static final double BASE_RATING = 1500;
+    private static final double ELO_PER_NAT = 400 / Math.log(10);
+    private static final double Z_95 = 1.96;
+    private static final int MAX_ITERATIONS = 100000;
+    private static final double TOLERANCE = 1e-10;
+
+    private final List<BotSpec> bots;
+    private final List<int[]> tables = new ArrayList<>();
+    private final List<long[]> tableWins = new ArrayList<>();
+    private final long[] games;
+    private final long[] wins;
+
+    private double[] strengths;
+    private double[] errors; // Standard error of each rating, in Elo
+
+    EloLadder(List<BotSpec> bots) {
+        this.bots = bots;
+        this.games = new long[bots.size()];
+        this.wins = new long[bots.size()];
+    }
+
+    /**
+     * Add the finished games of a schedule.
+     */
+    void add(TournamentResults results) {
+        for (int t = 0; t < results.tables.length; t++) {
+            int[] table = results.tables[t];
+            long[] tableWin = results.wins[t];
+            long total = 0;
+            for (int i = 0; i < table.length; i++) {
+                total += tableWin[i];
+                wins[table[i]] += tableWin[i];
+            }
+            for (int entrant : table) {
+                games[entrant] += total;
+            }
+            if (total > 0) {
+                tables.add(table);
+                tableWins.add(tableWin.clone());
+            }
+        }
+        strengths = null;
+    }
+
+    /**
+     * Get the current rating of an entrant.
+     */
+    double getRating(int entrant) {
+        fit();
+        return BASE_RATING + ELO_PER_NAT * Math.log(strengths[entrant]);
+    }
+
+    /**
+     * Get the half-width of the 95% confidence interval of an entrant's rating.
+     */
+    double getConfidence(int entrant) {
+        fit();
+        return Z_95 * errors[entrant];
+    }
+
+    /**
+     * Get entrant indices from the highest rated to the lowest.
+     */
+    Integer[] getRanking() {
+        fit();
+        Integer[] order = new Integer[bots.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(strengths[b], strengths[a]);
+            }
+        });
+        return order;
+    }
+
+    void print(PrintStream out) {
+        Integer[] ranking = getRanking();
+        int width = 8;
+        for (BotSpec bot : bots) {
+            width = Math.max(width, bot.label.length());
+        }
+
+        out.printf(Locale.US, "Rank  %-" + width + "s     Elo   95%% CI     Games     Wins    Win%%%n", "Bot");
+        for (int rank = 0; rank < ranking.length; rank++) {
+            int entrant = ranking[rank];
+            out.printf(Locale.US, "%4d  %-" + width + "s  %6.0f  %6.0f  %8d %8d  %6.2f%%%n",
+                    rank + 1, bots.get(entrant).label, getRating(entrant), getConfidence(entrant),
+                    games[entrant], wins[entrant],
+                    games[entrant] == 0 ? 0 : 100.0 * wins[entrant] / games[entrant]);
+        }
+    }
+
+    private void fit() {
+        if (strengths != null) {
+            return;
+        }
+
+        int n = bots.size();
+        double[] strength = new double[n];
+        Arrays.fill(strength, 1);
+        double[] denominator = new double[n];
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            // The virtual games against a strength 1 opponent
+            for (int i = 0; i < n; i++) {
+                denominator[i] = 2 / (strength[i] + 1);
+            }
+            for (int t = 0; t < tables.size(); t++) {
+                int[] table = tables.get(t);
+                double tableStrength = 0;
+                for (int entrant : table) {
+                    tableStrength += strength[entrant];
+                }
+                double gamesPerStrength = sum(tableWins.get(t)) / tableStrength;
+                for (int entrant : table) {
+                    denominator[entrant] += gamesPerStrength;
+                }
+            }
+
+            double change = 0;
+            for (int i = 0; i < n; i++) {
+                double updated = (wins[i] + 1) / denominator[i];
+                change = Math.max(change, Math.abs(Math.log(updated / strength[i])));
+                strength[i] = updated;
+            }
+            if (change < TOLERANCE) {
+                break;
+            }
+        }
+
+        strengths = strength;
+        errors = standardErrors(strength);
+    }
+
+    /**
+     * Invert the Fisher information of the log strengths.
+     */
+    private double[] standardErrors(double[] strength) {
+        int n = strength.length;
+        double[][] information = new double[n][n];
+
+        for (int i = 0; i < n; i++) {
+            double p = strength[i] / (strength[i] + 1);
+            information[i][i] += 2 * p * (1 - p);
+        }
+        for (int t = 0; t < tables.size(); t++) {
+            int[] table = tables.get(t);
+            double tableStrength = 0;
+            for (int entrant : table) {
+                tableStrength += strength[entrant];
+            }
+            long count = sum(tableWins.get(t));
+            for (int a : table) {
+                double pa = strength[a] / tableStrength;
+                information[a][a] += count * pa;
+                for (int b : table) {
+                    information[a][b] -= count * pa * strength[b] / tableStrength;
+                }
+            }
+        }
+
+        // The virtual games barely pin down the level of the whole field, so
+        // report the error of each rating relative to the field's average
+        double[][] covariance = invert(information);
+        double[] rowMeans = new double[n];
+        double mean = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                rowMeans[i] += covariance[i][j] / n;
+            }
+            mean += rowMeans[i] / n;
+        }
+
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            double variance = covariance[i][i] - 2 * rowMeans[i] + mean;
+            result[i] = ELO_PER_NAT * Math.sqrt(Math.max(0, variance));
+        }
+        return result;
+    }
+
+    /**
+     * Invert a symmetric positive definite matrix by Gauss-Jordan elimination.
+     */
+    private static double[][] invert(double[][] matrix) {
+        int n = matrix.length;
+        double[][] a = new double[n][2 * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(matrix[i], 0, a[i], 0, n);
+            a[i][n + i] = 1;
+        }
+
+        for (int column = 0; column < n; column++) {
+            int pivot = column;
+            for (int row = column + 1; row < n; row++) {
+                if (Math.abs(a[row][column]) > Math.abs(a[pivot][column])) {
+                    pivot = row;
+                }
+            }
+            double[] swap = a[column];
+            a[column] = a[pivot];
+            a[pivot] = swap;
+
+            double scale = a[column][column];
+            for (int k = 0; k < 2 * n; k++) {
+                a[column][k] /= scale;
+            }
+            for (int row = 0; row < n; row++) {
+                if (row != column && a[row][column] != 0) {
+                    double factor = a[row][column];
+                    for (int k = 0; k < 2 * n; k++) {
+                        a[row][k] -= factor * a[column][k];
+                    }
+                }
+            }
+        }
+
+        double[][] inverse = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(a[i], n, inverse[i], 0, n);
+        }
+        return inverse;
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.super_ludo.simulator;
+
+import com.example.super_ludo.ai.MctsSearch;
+import com.example.super_ludo.ai.MoveSearch;
+import com.example.super_ludo.ai.Policy;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+
+/**
+ * Plays a {@link MoveSearch} as a {@link Policy}, giving it a fixed time per move.
+ */
+class SearchPolicy implements Policy {
+
+    private final MoveSearch search;
+    private final long budgetNanos;
+
+    SearchPolicy(MoveSearch search, long budgetNanos) {
+        this.search = search;
+        this.budgetNanos = budgetNanos;
+    }
+
+    @Override
+    public int chooseMove(GameState gameState, GameEvent event, int[] moves, int moveCount) {
+        if (moveCount == 1) {
+            return moves[0];
+        }
+        return search.bestMove(gameState, System.nanoTime() + budgetNanos);
+    }
+
+    /**
+     * Release the search's threads, if it has any.
+     */
+    void shutdown() {
+        if (search instanceof MctsSearch) {
+            ((MctsSearch) search).shutdown();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.super_ludo.simulator;
+
+import com.example.super_ludo.models.EventSampler;
+import com.example.super_ludo.models.EventType;
+import com.example.super_ludo.utils.Constants;
+
+import java.util.Arrays;
+
+/**
+ * Command line options for the simulator.
+ */
+class SimulationConfig {
+
+    static final String POLICY_RANDOM = "random";
+    static final String POLICY_GREEDY = "greedy";
+
+    int games = 100000;
+    int playerCount = Constants.MAX_PLAYERS;
+    long seed = System.nanoTime();
+    int threads = Runtime.getRuntime().availableProcessors();
+    int maxTurns = 5000;
+    String[] policies = {POLICY_RANDOM, POLICY_RANDOM, POLICY_RANDOM, POLICY_RANDOM};
+    int[] weights = {
+            Constants.PROB_NORMAL_ROLL,
+            Constants.PROB_BLACK_HOLE,
+            Constants.PROB_METEOR_STRIKE,
+            Constants.PROB_WORMHOLE,
+            Constants.PROB_SUPER_BOOST,
+            Constants.PROB_ALIEN_INVASION
+    };
+    EventSampler events = EventSampler.fromTypeWeights(weights);
+
+    static String usage() {
+        return "Usage: simulator [options]\n"
+                + "  --games N          Number of games to play (default 100000)\n"
+                + "  --players N        Players per game, 2-4 (default 4)\n"
+                + "  --policies P,...   Policy per seat: random or greedy (default random)\n"
+                + "  --weights W,...    Event weights in EventType order: normal roll, black hole,\n"
+                + "                     meteor strike, wormhole, super boost, alien invasion\n"
+                + "                     (default Constants.PROB_*)\n"
+                + "  --seed N           Seed for reproducible runs (default: time based)\n"
+                + "  --threads N        Worker threads (default: available processors)\n"
+                + "  --max-turns N      Turn limit before a game is abandoned (default 5000)\n";
+    }
+
+    /**
+     * Parse command line arguments.
+     *
+     * @throws IllegalArgumentException If an option is unknown or invalid
+     */
+    static SimulationConfig parse(String[] args) {
+        SimulationConfig config = new SimulationConfig();
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+
+            switch (option) {
+                case "--games":
+                    config.games = parsePositive(option, value);
+                    break;
+                case "--players":
+                    config.playerCount = Integer.parseInt(value);
+                    if (config.playerCount < Constants.MIN_PLAYERS || config.playerCount > Constants.MAX_PLAYERS) {
+                        throw new IllegalArgumentException("--players must be between "
+                                + Constants.MIN_PLAYERS + " and " + Constants.MAX_PLAYERS);
+                    }
+                    break;
+                case "--policies":
+                    config.policies = parsePolicies(value);
+                    break;
+                case "--weights":
+                    config.weights = parseWeights(value);
+                    config.events = EventSampler.fromTypeWeights(config.weights);
+                    break;
+                case "--seed":
+                    config.seed = Long.parseLong(value);
+                    break;
+                case "--threads":
+                    config.threads = parsePositive(option, value);
+                    break;
+                case "--max-turns":
+                    config.maxTurns = parsePositive(option, value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        return config;
+    }
+
+    private static int parsePositive(String option, String value) {
+        int result = Integer.parseInt(value);
+        if (result <= 0) {
+            throw new IllegalArgumentException(option + " must be positive");
+        }
+        return result;
+    }
+
+    private static String[] parsePolicies(String value) {
+        String[] names = value.split(",");
+        if (names.length > Constants.MAX_PLAYERS) {
+            throw new IllegalArgumentException("At most " + Constants.MAX_PLAYERS + " policies");
+        }
+
+        // A single policy applies to every seat, otherwise unlisted seats play randomly
+        String[] policies = new String[Constants.MAX_PLAYERS];
+        Arrays.fill(policies, names.length == 1 ? names[0].trim() : POLICY_RANDOM);
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].trim();
+            if (!name.equals(POLICY_RANDOM) && !name.equals(POLICY_GREEDY)) {
+                throw new IllegalArgumentException("Unknown policy " + name);
+            }
+            policies[i] = name;
+        }
+        return policies;
+    }
+
+    private static int[] parseWeights(String value) {
+        String[] parts = value.split(",");
+        int[] weights = new int[EventType.values().length];
+        if (parts.length != weights.length) {
+            throw new IllegalArgumentException("--weights needs " + weights.length + " values");
+        }
+        for (int i = 0; i < parts.length; i++) {
+            weights[i] = Integer.parseInt(parts[i].trim());
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.super_ludo.simulator;
+
+import com.example.super_ludo.models.EventType;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.utils.Constants;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Totals collected by simulation workers; partial results are combined with {@link #merge}.
+ */
+class SimulationStats {
+
+    long games;
+    long unfinishedGames;
+    long turns;
+    long captures;        // Ships sent to base by landing on them
+    long meteorHits;      // Ships sent to base by a Meteor Strike
+    final long[] seatWins = new long[Constants.MAX_PLAYERS];
+    final long[] eventCounts = new long[GameEvent.OUTCOME_COUNT + 1]; // Indexed by event code
+
+    void merge(SimulationStats other) {
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        turns += other.turns;
+        captures += other.captures;
+        meteorHits += other.meteorHits;
+        for (int i = 0; i < seatWins.length; i++) {
+            seatWins[i] += other.seatWins[i];
+        }
+        for (int i = 0; i < eventCounts.length; i++) {
+            eventCounts[i] += other.eventCounts[i];
+        }
+    }
+
+    void print(PrintStream out, int playerCount) {
+        long finished = games - unfinishedGames;
+
+        out.printf(Locale.US, "Games:              %d (%d hit the turn limit)%n", games, unfinishedGames);
+        out.printf(Locale.US, "Average turns:      %.2f%n", ratio(turns, games));
+        out.printf(Locale.US, "Captures per game:  %.3f%n", ratio(captures, games));
+        out.printf(Locale.US, "Meteor hits/game:   %.3f%n", ratio(meteorHits, games));
+
+        out.println();
+        out.println("Seat win rates:");
+        for (int seat = 0; seat < playerCount; seat++) {
+            out.printf(Locale.US, "  Player %d          %6.2f%%%n", seat + 1, 100 * ratio(seatWins[seat], finished));
+        }
+
+        long rolls = 0;
+        long[] byType = new long[EventType.values().length];
+        for (int code = 1; code < eventCounts.length; code++) {
+            rolls += eventCounts[code];
+            byType[GameEvent.fromCode(code).getType().ordinal()] += eventCounts[code];
+        }
+
+        out.println();
+        out.println("Event frequencies:");
+        for (EventType type : EventType.values()) {
+            out.printf(Locale.US, "  %-18s%6.2f%%%n", type, 100 * ratio(byType[type.ordinal()], rolls));
+        }
+    }
+
+    private static double ratio(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.super_ludo.simulator;
+
+import com.example.super_ludo.ai.GreedyPolicy;
+import com.example.super_ludo.ai.Policy;
+import com.example.super_ludo.ai.RandomPolicy;
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RuleResult;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.SelectionPhase;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays a range of games, splitting it in half until it is small enough for one worker.
+ *
+ * Every split hands the new half its own {@link SplittableRandom} stream, so a run
+ * is reproducible from its seed no matter how the pool schedules the work.
+ */
+class SimulationTask extends RecursiveTask<SimulationStats> {
+
+    private static final long serialVersionUID = 1L;
+
+    // Games below this are played sequentially
+    private static final int LEAF_SIZE = 2048;
+
+    private final SimulationConfig config;
+    private final SplittableRandom random;
+    private final int games;
+
+    SimulationTask(SimulationConfig config, SplittableRandom random, int games) {
+        this.config = config;
+        this.random = random;
+        this.games = games;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (games <= LEAF_SIZE) {
+            return playGames();
+        }
+
+        int half = games / 2;
+        SimulationTask left = new SimulationTask(config, random.split(), half);
+        SimulationTask right = new SimulationTask(config, random, games - half);
+        left.fork();
+        SimulationStats stats = right.compute();
+        stats.merge(left.join());
+        return stats;
+    }
+
+    private SimulationStats playGames() {
+        SplittableRandomAdapter adapter = new SplittableRandomAdapter(random);
+        RulesEngine engine = new RulesEngine(adapter);
+        Policy[] policies = createPolicies(adapter);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        SimulationStats stats = new SimulationStats();
+
+        GameState gameState = new GameState();
+        gameState.initialize(config.playerCount);
+
+        for (int game = 0; game < games; game++) {
+            gameState.resetGame();
+            int turn = 0;
+
+            while (!gameState.isGameOver() && turn < config.maxTurns) {
+                int code = config.events.sampleCode(random);
+                GameEvent event = GameEvent.fromCode(code);
+                stats.eventCounts[code]++;
+                turn++;
+
+                engine.processRoll(gameState, event);
+                if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+                    continue;
+                }
+
+                int count = MoveGenerator.generate(gameState, event, moves);
+                int move = policies[gameState.getCurrentPlayerIndex()].chooseMove(gameState, event, moves, count);
+                if (engine.applyMove(gameState, move) == RuleResult.SENT_TO_BASE) {
+                    stats.meteorHits++;
+                }
+                stats.captures += engine.getLastCaptureCount();
+            }
+
+            stats.games++;
+            stats.turns += turn;
+            if (gameState.isGameOver()) {
+                stats.seatWins[gameState.getPlayers().indexOf(gameState.getWinner())]++;
+            } else {
+                stats.unfinishedGames++;
+            }
+        }
+        return stats;
+    }
+
+    private Policy[] createPolicies(SplittableRandomAdapter random) {
+        Policy[] policies = new Policy[config.playerCount];
+        for (int seat = 0; seat < policies.length; seat++) {
+            if (SimulationConfig.POLICY_GREEDY.equals(config.policies[seat])) {
+                policies[seat] = new GreedyPolicy();
+            } else {
+                policies[seat] = new RandomPolicy(random);
+            }
+        }
+        return policies;
+    }
+}
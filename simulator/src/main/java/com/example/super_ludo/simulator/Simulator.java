@@ -0,0 +1,50 @@
+package com.example.super_ludo.simulator;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line entry point: plays many self-play games in parallel and prints statistics.
+ */
+public class Simulator {
+
+    public static void main(String[] args) {
+        SimulationConfig config;
+        try {
+            config = SimulationConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(SimulationConfig.usage());
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf(Locale.US, "Simulating %d games, %d players, policies %s, weights %s, seed %d, %d threads%n",
+                config.games, config.playerCount,
+                Arrays.toString(Arrays.copyOf(config.policies, config.playerCount)),
+                Arrays.toString(config.weights), config.seed, config.threads);
+
+        long start = System.nanoTime();
+        SimulationStats stats = run(config);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println();
+        stats.print(System.out, config.playerCount);
+        System.out.println();
+        System.out.printf(Locale.US, "Finished in %.2f s (%.0f games/s)%n", seconds, config.games / seconds);
+    }
+
+    /**
+     * Play all configured games on a fork/join pool.
+     */
+    static SimulationStats run(SimulationConfig config) {
+        ForkJoinPool pool = new ForkJoinPool(config.threads);
+        try {
+            return pool.invoke(new SimulationTask(config, new SplittableRandom(config.seed), config.games));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.super_ludo.simulator;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Exposes a {@link SplittableRandom} stream through the {@link Random} API used by the engine.
+ *
+ * Unlike Random, the wrapped generator is not synchronized, so each worker must own its adapter.
+ */
+class SplittableRandomAdapter extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SplittableRandom source;
+
+    SplittableRandomAdapter(SplittableRandom source) {
+        this.source = source;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return source.nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+        return source.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return source.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return source.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return source.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return source.nextBoolean();
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.super_ludo.simulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line entry point: plays bots against each other in parallel and prints an Elo ladder.
+ */
+public class Tournament {
+
+    public static void main(String[] args) {
+        TournamentConfig config;
+        try {
+            config = TournamentConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(TournamentConfig.usage());
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf(Locale.US, "%s tournament of %d games, %d players, bots %s, seed %d, %d threads%n",
+                config.format, config.games, config.playerCount, config.bots, config.seed, config.threads);
+
+        long start = System.nanoTime();
+        EloLadder ladder = new EloLadder(config.bots);
+        TournamentResults totals = run(config, ladder);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long finished = totals.games - totals.unfinishedGames;
+        System.out.println();
+        ladder.print(System.out);
+        System.out.println();
+        System.out.printf(Locale.US, "Games:              %d (%d hit the turn limit)%n",
+                totals.games, totals.unfinishedGames);
+        System.out.printf(Locale.US, "Average turns:      %.2f%n",
+                totals.games == 0 ? 0 : (double) totals.turns / totals.games);
+        System.out.println("Seat win rates:");
+        for (int seat = 0; seat < config.playerCount; seat++) {
+            System.out.printf(Locale.US, "  Player %d          %6.2f%%%n", seat + 1,
+                    finished == 0 ? 0 : 100.0 * totals.seatWins[seat] / finished);
+        }
+        System.out.println();
+        System.out.printf(Locale.US, "Finished in %.2f s (%.0f games/s)%n", seconds, totals.games / seconds);
+
+        if (config.expectedWinner != null && !isClearWinner(ladder, config.indexOf(config.expectedWinner))) {
+            System.out.println("Check failed: " + config.expectedWinner + " is not clearly the strongest bot");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Check if an entrant ranks first and the 95% confidence intervals of its
+     * rating and the runner-up's do not overlap.
+     */
+    static boolean isClearWinner(EloLadder ladder, int entrant) {
+        Integer[] ranking = ladder.getRanking();
+        if (ranking[0] != entrant) {
+            return false;
+        }
+        int runnerUp = ranking[1];
+        return ladder.getRating(entrant) - ladder.getConfidence(entrant)
+                > ladder.getRating(runnerUp) + ladder.getConfidence(runnerUp);
+    }
+
+    /**
+     * Play the whole tournament on a fork/join pool, adding every round to the ladder.
+     *
+     * Each round's games are rounded up to a multiple of its tables times the
+     * players per game, so seats are balanced; the totals count the games played.
+     *
+     * @return Game, turn and seat totals over all rounds
+     */
+    static TournamentResults run(TournamentConfig config, EloLadder ladder) {
+        SplittableRandom random = new SplittableRandom(config.seed);
+        boolean swiss = TournamentConfig.FORMAT_SWISS.equals(config.format);
+        int rounds = swiss ? Math.min(config.rounds, config.games) : 1;
+
+        ForkJoinPool pool = new ForkJoinPool(config.threads);
+        try {
+            TournamentResults totals = new TournamentResults(new int[0][]);
+            int[] order = shuffledEntrants(config.bots.size(), random);
+            for (int round = 0; round < rounds; round++) {
+                int[][] tables = swiss
+                        ? swissTables(order, config.playerCount)
+                        : roundRobinTables(config.bots.size(), config.playerCount);
+                int games = config.games / rounds + (round < config.games % rounds ? 1 : 0);
+                games = roundUp(games, tables.length * config.playerCount);
+
+                TournamentResults results = pool.invoke(new TournamentTask(config, tables, random.split(), 0, games));
+                ladder.add(results);
+                totals.mergeTotals(results);
+
+                if (swiss) {
+                    order = rankedEntrants(ladder);
+                }
+            }
+            return totals;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Round a round's game count up so every table plays every seat rotation equally often.
+     */
+    static int roundUp(int games, int multiple) {
+        return (games + multiple - 1) / multiple * multiple;
+    }
+
+    /**
+     * Every combination of players entrants, in lexicographic order.
+     */
+    static int[][] roundRobinTables(int entrantCount, int playerCount) {
+        List<int[]> tables = new ArrayList<>();
+        int[] table = new int[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            table[i] = i;
+        }
+
+        while (true) {
+            tables.add(table.clone());
+
+            // Advance to the next combination
+            int i = playerCount - 1;
+            while (i >= 0 && table[i] == entrantCount - playerCount + i) {
+                i--;
+            }
+            if (i < 0) {
+                return tables.toArray(new int[0][]);
+            }
+            table[i]++;
+            for (int j = i + 1; j < playerCount; j++) {
+                table[j] = table[j - 1] + 1;
+            }
+        }
+    }
+
+    /**
+     * Seat neighbours in the ranking together. If the entrants do not divide
+     * evenly, the last table is filled up with the entrants ranked just above it.
+     */
+    static int[][] swissTables(int[] ranking, int playerCount) {
+        int count = (ranking.length + playerCount - 1) / playerCount;
+        int[][] tables = new int[count][];
+        for (int t = 0; t < count; t++) {
+            int first = Math.min(t * playerCount, ranking.length - playerCount);
+            tables[t] = Arrays.copyOfRange(ranking, first, first + playerCount);
+        }
+        return tables;
+    }
+
+    private static int[] rankedEntrants(EloLadder ladder) {
+        Integer[] ranking = ladder.getRanking();
+        int[] order = new int[ranking.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = ranking[i];
+        }
+        return order;
+    }
+
+    private static int[] shuffledEntrants(int entrantCount, SplittableRandom random) {
+        int[] order = new int[entrantCount];
+        for (int i = 0; i < entrantCount; i++) {
+            order[i] = i;
+        }
+        for (int i = entrantCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.super_ludo.simulator;
+
+import com.example.super_ludo.models.EventSampler;
+import com.example.super_ludo.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line options for the tournament runner.
+ */
+class TournamentConfig {
+
+    static final String FORMAT_ROUND_ROBIN = "round-robin";
+    static final String FORMAT_SWISS = "swiss";
+
+    List<BotSpec> bots = parseBots("random,greedy,expectimax");
+    int playerCount = 2;
+    String format = FORMAT_ROUND_ROBIN;
+    int games = 100000;
+    int rounds = 10;
+    long seed = System.nanoTime();
+    int threads = Runtime.getRuntime().availableProcessors();
+    int maxTurns = 5000;
+    EventSampler events = EventSampler.fromConstants();
+    // Bot that must come out clearly on top, or null to only report
+    BotSpec expectedWinner;
+
+    static String usage() {
+        return "Usage: tournament [options]\n"
+                + "  --bots B,...       Entrants: random, greedy, expectimax[:depth], mcts[:millis per move]\n"
+                + "                     or a Policy class name (default random,greedy,expectimax)\n"
+                + "  --players N        Players per game, 2-4 (default 2)\n"
+                + "  --format F         round-robin: every group of bots plays equally often\n"
+                + "                     swiss: tables of similarly rated bots, re-paired every round\n"
+                + "                     (default round-robin)\n"
+                + "  --games N          Total number of games, rounded up per round so every bot\n"
+                + "                     sits in every seat equally often (default 100000)\n"
+                + "  --rounds N         Rounds of a swiss tournament (default 10)\n"
+                + "  --seed N           Seed for reproducible runs (default: time based)\n"
+                + "  --threads N        Worker threads (default: available processors)\n"
+                + "  --max-turns N      Turn limit before a game is abandoned (default 5000)\n"
+                + "  --expect-winner B  Exit with status 1 unless bot B ranks first with its 95% CI\n"
+                + "                     above the runner-up's\n";
+    }
+
+    /**
+     * Parse command line arguments.
+     *
+     * @throws IllegalArgumentException If an option is unknown or invalid
+     */
+    static TournamentConfig parse(String[] args) {
+        TournamentConfig config = new TournamentConfig();
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+
+            switch (option) {
+                case "--bots":
+                    config.bots = parseBots(value);
+                    break;
+                case "--players":
+                    config.playerCount = Integer.parseInt(value);
+                    if (config.playerCount < Constants.MIN_PLAYERS || config.playerCount > Constants.MAX_PLAYERS) {
+                        throw new IllegalArgumentException("--players must be between "
+                                + Constants.MIN_PLAYERS + " and " + Constants.MAX_PLAYERS);
+                    }
+                    break;
+                case "--format":
+                    if (!value.equals(FORMAT_ROUND_ROBIN) && !value.equals(FORMAT_SWISS)) {
+                        throw new IllegalArgumentException("Unknown format " + value);
+                    }
+                    config.format = value;
+                    break;
+                case "--games":
+                    config.games = parsePositive(option, value);
+                    break;
+                case "--rounds":
+                    config.rounds = parsePositive(option, value);
+                    break;
+                case "--seed":
+                    config.seed = Long.parseLong(value);
+                    break;
+                case "--threads":
+                    config.threads = parsePositive(option, value);
+                    break;
+                case "--max-turns":
+                    config.maxTurns = parsePositive(option, value);
+                    break;
+                case "--expect-winner":
+                    config.expectedWinner = BotSpec.parse(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+
+        if (config.bots.size() < config.playerCount) {
+            throw new IllegalArgumentException("Need at least as many bots as --players");
+        }
+        if (config.expectedWinner != null && config.indexOf(config.expectedWinner) < 0) {
+            throw new IllegalArgumentException("--expect-winner must be one of --bots");
+        }
+        return config;
+    }
+
+    /**
+     * Get the entrant index of a bot, or -1 if it is not playing.
+     */
+    int indexOf(BotSpec bot) {
+        for (int i = 0; i < bots.size(); i++) {
+            if (bots.get(i).label.equals(bot.label)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int parsePositive(String option, String value) {
+        int result = Integer.parseInt(value);
+        if (result <= 0) {
+            throw new IllegalArgumentException(option + " must be positive");
+        }
+        return result;
+    }
+
+    private static List<BotSpec> parseBots(String value) {
+        List<BotSpec> bots = new ArrayList<>();
+        for (String spec : value.split(",")) {
+            bots.add(BotSpec.parse(spec.trim()));
+        }
+        return bots;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.super_ludo.simulator;
+
+import com.example.super_ludo.utils.Constants;
+
+/**
+ * Wins per table of one schedule; partial results are combined with {@link #merge}.
+ *
+ * Tables list their bots by entrant index. Wins are counted by a bot's
+ * position in the table, not by seat, since seats rotate between games.
+ */
+class TournamentResults {
+
+    final int[][] tables;
+    final long[][] wins;
+    long games;
+    long unfinishedGames;
+    long turns;
+    final long[] seatWins = new long[Constants.MAX_PLAYERS];
+
+    TournamentResults(int[][] tables) {
+        this.tables = tables;
+        this.wins = new long[tables.length][];
+        for (int t = 0; t < tables.length; t++) {
+            wins[t] = new long[tables[t].length];
+        }
+    }
+
+    /**
+     * Add the results of other games of the same schedule.
+     */
+    void merge(TournamentResults other) {
+        for (int t = 0; t < wins.length; t++) {
+            for (int i = 0; i < wins[t].length; i++) {
+                wins[t][i] += other.wins[t][i];
+            }
+        }
+        mergeTotals(other);
+    }
+
+    /**
+     * Add only the game, turn and seat totals, which works across schedules.
+     */
+    void mergeTotals(TournamentResults other) {
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        turns += other.turns;
+        for (int seat = 0; seat < seatWins.length; seat++) {
+            seatWins[seat] += other.seatWins[seat];
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.super_ludo.simulator;
+
+import com.example.super_ludo.ai.Policy;
+import com.example.super_ludo.engine.MoveGenerator;
+import com.example.super_ludo.engine.RulesEngine;
+import com.example.super_ludo.models.GameEvent;
+import com.example.super_ludo.models.GameState;
+import com.example.super_ludo.models.SelectionPhase;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays a range of a schedule's games, splitting it in half until it is small enough for one worker.
+ *
+ * Game g is played at table g % tables, with its bots rotated (g / tables) %
+ * players seats to the left. When the schedule is a multiple of tables *
+ * players games long, as {@link Tournament#run} makes it, every bot sits in
+ * every seat equally often and the first mover's advantage cancels out. As in {@link SimulationTask},
+ * every split gets its own random stream, so results depend only on the seed.
+ */
+class TournamentTask extends RecursiveTask<TournamentResults> {
+
+    private static final long serialVersionUID = 1L;
+
+    // Games below this are played sequentially
+    private static final int LEAF_SIZE = 256;
+
+    private final TournamentConfig config;
+    private final int[][] tables;
+    private final SplittableRandom random;
+    private final int from;
+    private final int to;
+
+    TournamentTask(TournamentConfig config, int[][] tables, SplittableRandom random, int from, int to) {
+        this.config = config;
+        this.tables = tables;
+        this.random = random;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected TournamentResults compute() {
+        if (to - from <= LEAF_SIZE) {
+            return playGames();
+        }
+
+        int middle = from + (to - from) / 2;
+        TournamentTask left = new TournamentTask(config, tables, random.split(), from, middle);
+        TournamentTask right = new TournamentTask(config, tables, random, middle, to);
+        left.fork();
+        TournamentResults results = right.compute();
+        results.merge(left.join());
+        return results;
+    }
+
+    private TournamentResults playGames() {
+        SplittableRandomAdapter adapter = new SplittableRandomAdapter(random);
+        RulesEngine engine = new RulesEngine(adapter);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        TournamentResults results = new TournamentResults(tables);
+
+        // Each worker gets its own bots, created when first needed
+        Policy[] bots = new Policy[config.bots.size()];
+        Policy[] seats = new Policy[config.playerCount];
+
+        GameState gameState = new GameState();
+        gameState.initialize(config.playerCount);
+
+        try {
+            for (int game = from; game < to; game++) {
+                int table = game % tables.length;
+                int rotation = (game / tables.length) % config.playerCount;
+                int[] entrants = tables[table];
+                for (int seat = 0; seat < seats.length; seat++) {
+                    int entrant = entrants[(seat + rotation) % seats.length];
+                    if (bots[entrant] == null) {
+                        bots[entrant] = config.bots.get(entrant).create(adapter, random.nextLong());
+                    }
+                    seats[seat] = bots[entrant];
+                }
+
+                gameState.resetGame();
+                int turn = 0;
+                while (!gameState.isGameOver() && turn < config.maxTurns) {
+                    GameEvent event = GameEvent.fromCode(config.events.sampleCode(random));
+                    turn++;
+
+                    engine.processRoll(gameState, event);
+                    if (gameState.getSelectionPhase() == SelectionPhase.NONE) {
+                        continue;
+                    }
+
+                    int count = MoveGenerator.generate(gameState, event, moves);
+                    engine.applyMove(gameState, seats[gameState.getCurrentPlayerIndex()]
+                            .chooseMove(gameState, event, moves, count));
+                }
+
+                results.games++;
+                results.turns += turn;
+                if (gameState.isGameOver()) {
+                    int seat = gameState.getPlayers().indexOf(gameState.getWinner());
+                    results.seatWins[seat]++;
+                    results.wins[table][(seat + rotation) % seats.length]++;
+                } else {
+                    results.unfinishedGames++;
+                }
+            }
+        } finally {
+            for (Policy bot : bots) {
+                if (bot instanceof SearchPolicy) {
+                    ((SearchPolicy) bot).shutdown();
+                }
+            }
+        }
+        return results;
+    }
+}